@@ -28,6 +28,8 @@ import org.apache.commons.graph.coloring.ColorsBuilder;
 import org.apache.commons.graph.coloring.DefaultColorsBuilder;
 import org.apache.commons.graph.connectivity.ConnectivityBuilder;
 import org.apache.commons.graph.connectivity.DefaultConnectivityBuilder;
+import org.apache.commons.graph.connectivity.DefaultWeakConnectivityAlgorithmsSelector;
+import org.apache.commons.graph.connectivity.WeakConnectivityAlgorithmsSelector;
 import org.apache.commons.graph.elo.DefaultRankingSelector;
 import org.apache.commons.graph.elo.GameResult;
 import org.apache.commons.graph.elo.RankingSelector;
@@ -112,6 +114,21 @@ public final class CommonsGraph
         return new DefaultConnectivityBuilder<V, E>( graph );
     }
 
+    /**
+     * Calculates the input directed graph Weakly Connected Component, ignoring the edges direction.
+     *
+     * @param <V> The Graph vertices type.
+     * @param <E> The Graph edges type.
+     * @param <G> The directed graph type
+     * @param graph the Graph which weakly connected component has to be verified.
+     * @return the weak connectivity algorithm selector
+     */
+    public static <V, E, G extends DirectedGraph<V, E>> WeakConnectivityAlgorithmsSelector<V, E> findWeaklyConnectedComponent( G graph )
+    {
+        graph = checkNotNull( graph, "Weakly Connected Component cannot be calculated from a null graph" );
+        return new DefaultWeakConnectivityAlgorithmsSelector<V, E>( graph );
+    }
+
     /**
      * Find the maximum flow on the input {@link Graph}.
      *
@@ -0,0 +1,35 @@
+package org.apache.commons.graph;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/**
+ * Marks a {@link Mapper} whose evaluation is expensive, e.g. edge weights computed by a cost model: one-shot
+ * algorithms evaluate it once per edge, via {@link Mappers#precompute(Graph, Mapper)}, when they are applied, so the
+ * mapped values must not change while they run. Structures maintained across weight changes, such as dynamic
+ * shortest paths or incremental spanning trees, keep reading the mapper instead, to pick up the updated weights.
+ *
+ * @param <I> The input type
+ * @param <O> The output type
+ */
+public interface ExpensiveMapper<I, O>
+    extends Mapper<I, O>
+{
+
+}
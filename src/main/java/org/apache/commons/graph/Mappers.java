@@ -0,0 +1,120 @@
+package org.apache.commons.graph;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * {@link Mapper} utility methods.
+ */
+public final class Mappers
+{
+
+    /**
+     * Evaluates the input mapper once per graph edge, returning a mapper which looks the results up in an
+     * identity-keyed table; edges not in the graph at the time of the invocation are still mapped by the input mapper.
+     *
+     * The returned mapper is safe for concurrent use, as long as the input one is; an already precomputed mapper
+     * is returned as is.
+     *
+     * @param <V> the Graph vertices type
+     * @param <WE> the Graph edges type
+     * @param <W> the weight type
+     * @param graph the graph whose edges weights have to be precomputed
+     * @param weightedEdges the mapper to evaluate
+     * @return a mapper returning the precomputed weights
+     */
+    public static <V, WE, W> Mapper<WE, W> precompute( Graph<V, WE> graph, Mapper<WE, W> weightedEdges )
+    {
+        graph = checkNotNull( graph, "Weights can not be precomputed on a null graph" );
+        weightedEdges = checkNotNull( weightedEdges, "Weights can not be precomputed by a null mapper" );
+        if ( weightedEdges instanceof PrecomputedMapper )
+        {
+            return weightedEdges;
+        }
+        return new PrecomputedMapper<WE, W>( graph.getEdges(), graph.getSize(), weightedEdges );
+    }
+
+    /**
+     * Applies {@link #precompute(Graph, Mapper)} if the input mapper is an {@link ExpensiveMapper}.
+     *
+     * Only algorithms which read the weights during a single run call it: structures maintained across weight
+     * changes bind the input mapper, as documented by {@link ExpensiveMapper}.
+     *
+     * @param <V> the Graph vertices type
+     * @param <WE> the Graph edges type
+     * @param <W> the weight type
+     * @param graph the graph whose edges weights have to be precomputed
+     * @param weightedEdges the mapper to evaluate
+     * @return a mapper returning the precomputed weights, or the input mapper if not expensive
+     */
+    public static <V, WE, W> Mapper<WE, W> precomputeIfExpensive( Graph<V, WE> graph, Mapper<WE, W> weightedEdges )
+    {
+        if ( weightedEdges instanceof ExpensiveMapper )
+        {
+            return precompute( graph, weightedEdges );
+        }
+        return weightedEdges;
+    }
+
+    /**
+     * Hidden constructor, this class must not be instantiated.
+     */
+    private Mappers()
+    {
+        // do nothing
+    }
+
+    private static final class PrecomputedMapper<WE, W>
+        implements Mapper<WE, W>
+    {
+
+        private static final long serialVersionUID = -5338384186383262315L;
+
+        private final Map<WE, W> weights;
+
+        private final Mapper<WE, W> weightedEdges;
+
+        public PrecomputedMapper( Iterable<WE> edges, int size, Mapper<WE, W> weightedEdges )
+        {
+            this.weights = new IdentityHashMap<WE, W>( size );
+            this.weightedEdges = weightedEdges;
+            for ( WE edge : edges )
+            {
+                weights.put( edge, weightedEdges.map( edge ) );
+            }
+        }
+
+        public W map( WE input )
+        {
+            W weight = weights.get( input );
+            if ( weight == null && !weights.containsKey( input ) )
+            {
+                return weightedEdges.map( input );
+            }
+            return weight;
+        }
+
+    }
+
+}
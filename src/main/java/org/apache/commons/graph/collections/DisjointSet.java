@@ -19,11 +19,9 @@ package org.apache.commons.graph.collections;
  * under the License.
  */
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
- * Simple <a href="https://en.wikipedia.org/wiki/Disjoint-set_data_structure">Disjoint-set</a> implementation.
+ * Simple <a href="https://en.wikipedia.org/wiki/Disjoint-set_data_structure">Disjoint-set</a> implementation,
+ * mapping the elements to dense identifiers of an {@link IntDisjointSet}.
  *
  * @param <E> The type of elements held in this collection.
  */
@@ -31,63 +29,37 @@ public final class DisjointSet<E>
 {
 
     /**
-     * The map to store the related {@link DisjointSetNode} for each added element.
+     * The identifiers of the added elements.
      */
-    private final Map<E, DisjointSetNode<E>> disjointSets = new HashMap<E, DisjointSetNode<E>>();
+    private final ElementIndex<E> elements = new ElementIndex<E>();
+
+    private final IntDisjointSet disjointSets = new IntDisjointSet( 0 );
 
     /**
-     * Performs the @code{ find} operation by applying the <i>path compression</i>.
+     * Retrieves the identifier of the input element, adding it in its own subset if not already added.
      *
-     * @param node the input DisjointSet node for the @code{ find} operation
-     * @return the root node of the path
+     * @param e the element which identifier has to be returned
+     * @return the input element identifier
      */
-    private DisjointSetNode<E> find( DisjointSetNode<E> node )
+    private int indexOf( E e )
     {
-        if ( node == node.getParent() )
+        int index = elements.add( e );
+        if ( index == disjointSets.size() )
         {
-            return node;
+            disjointSets.add();
         }
-        return find( node.getParent() );
+        return index;
     }
 
     /**
-     * Performs the {@code find} operation applying the <i>path compression</i>.
+     * Performs the {@code find} operation applying the <i>path halving</i>.
      *
      * @param e the element has to be find in this {@code DisjointSet} instance
-     * @return the value found 
+     * @return the value found
      */
     public E find( E e )
     {
-        DisjointSetNode<E> node = find( getNode( e ) );
-
-        if ( node == node.getParent() )
-        {
-            return node.getElement();
-        }
-
-        node.setParent( find( node.getParent() ) );
-
-        return node.getParent().getElement();
-    }
-
-    /**
-     * Retrieves the {@code DisjointSetNode} from the {@link #disjointSets},
-     * if already previously set, creates a new one and push it in {@link #disjointSets} otherwise.
-     *
-     * @param e the element which related subset has to be returned
-     * @return the input element {@code DisjointSetNode}
-     */
-    private DisjointSetNode<E> getNode( E e )
-    {
-        DisjointSetNode<E> node = disjointSets.get( e );
-
-        if ( node == null )
-        {
-            node = new DisjointSetNode<E>( e );
-            disjointSets.put( e, node );
-        }
-
-        return node;
+        return elements.get( disjointSets.find( indexOf( e ) ) );
     }
 
     /**
@@ -98,28 +70,7 @@ public final class DisjointSet<E>
      */
     public void union( E e1, E e2 )
     {
-        DisjointSetNode<E> e1Root = find( getNode( e1 ) );
-        DisjointSetNode<E> e2Root = find( getNode( e2 ) );
-
-        if ( e1Root == e2Root )
-        {
-            return;
-        }
-
-        int comparison = e1Root.compareTo( e2Root );
-        if ( comparison < 0 )
-        {
-            e1Root.setParent( e2Root );
-        }
-        else if ( comparison > 0 )
-        {
-            e2Root.setParent( e1Root );
-        }
-        else
-        {
-            e2Root.setParent( e1Root );
-            e1Root.increaseRank();
-        }
+        disjointSets.union( indexOf( e1 ), indexOf( e2 ) );
     }
 
 }
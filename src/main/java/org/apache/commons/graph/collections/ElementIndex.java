@@ -0,0 +1,122 @@
+package org.apache.commons.graph.collections;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns a dense, zero-based {@code int} identifier to each element of a collection, so that algorithms can store
+ * per-element data in primitive arrays rather than in hash-based maps.
+ *
+ * Identifiers are assigned in iteration order and never change once assigned.
+ *
+ * This class is NOT thread safe!
+ *
+ * @param <E> The type of elements held in this index.
+ */
+public final class ElementIndex<E>
+{
+
+    /**
+     * The element to identifier mapping.
+     */
+    private final Map<E, Integer> indices = new HashMap<E, Integer>();
+
+    /**
+     * The identifier to element mapping.
+     */
+    private final List<E> elements = new ArrayList<E>();
+
+    /**
+     * Creates a new empty index.
+     */
+    public ElementIndex()
+    {
+        // elements will be added later
+    }
+
+    /**
+     * Creates a new index of the input elements.
+     *
+     * @param elements the elements to be indexed
+     */
+    public ElementIndex( Iterable<E> elements )
+    {
+        for ( E element : elements )
+        {
+            add( element );
+        }
+    }
+
+    /**
+     * Adds the input element to the index, if not already present.
+     *
+     * @param element the element to be indexed
+     * @return the identifier assigned to the input element
+     */
+    public int add( E element )
+    {
+        Integer index = indices.get( element );
+        if ( index == null )
+        {
+            index = elements.size();
+            indices.put( element, index );
+            elements.add( element );
+        }
+        return index;
+    }
+
+    /**
+     * Returns the element having the input identifier.
+     *
+     * @param index the element identifier
+     * @return the element having the input identifier
+     */
+    public E get( int index )
+    {
+        return elements.get( index );
+    }
+
+    /**
+     * Returns the identifier of the input element, or {@code -1} if the element is not indexed.
+     *
+     * @param element the element which identifier has to be returned
+     * @return the identifier of the input element, or {@code -1} if the element is not indexed.
+     */
+    public int indexOf( E element )
+    {
+        Integer index = indices.get( element );
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Returns the number of indexed elements.
+     *
+     * @return the number of indexed elements.
+     */
+    public int size()
+    {
+        return elements.size();
+    }
+
+}
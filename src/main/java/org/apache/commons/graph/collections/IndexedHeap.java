@@ -0,0 +1,292 @@
+package org.apache.commons.graph.collections;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/**
+ * An indexed <a href="https://en.wikipedia.org/wiki/D-ary_heap">d-ary</a> min-heap of dense {@code int} elements
+ * in the {@code [0, capacity)} range, each one associated to a priority key.
+ *
+ * Positions of the elements in the heap are tracked, so that the key of an element already in the heap can be
+ * decreased (or increased) in {@code O(log n)}, without inserting duplicates.
+ *
+ * <p><b>Note 1</b>: this class is NOT thread safe!</p>
+ *
+ * <p><b>Note 2</b>: this class doesn't support {@code null} keys</p>
+ *
+ * @param <K> The type of the priority keys.
+ */
+public final class IndexedHeap<K>
+{
+
+    /**
+     * The heap arity: 4 children per node keep the tree shallow while fitting a cache line.
+     */
+    private static final int ARITY = 4;
+
+    private final Comparator<? super K> comparator;
+
+    /**
+     * The heap, stored as an array of elements.
+     */
+    private int[] heap;
+
+    /**
+     * The position of each element in the {@link #heap}, {@code -1} if not in the heap.
+     */
+    private int[] positions;
+
+    /**
+     * The priority key of each element.
+     */
+    private Object[] keys;
+
+    private int size = 0;
+
+    /**
+     * Creates a new heap able to hold elements in the {@code [0, capacity)} range.
+     *
+     * @param capacity the number of admitted elements
+     * @param comparator the priority keys comparator
+     */
+    public IndexedHeap( int capacity, Comparator<? super K> comparator )
+    {
+        checkArgument( capacity >= 0, "Heap capacity must be not negative, %s found", capacity );
+        this.comparator = checkNotNull( comparator, "Heap keys comparator can not be null" );
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.keys = new Object[capacity];
+        for ( int i = 0; i < capacity; i++ )
+        {
+            positions[i] = -1;
+        }
+    }
+
+    /**
+     * Grows this heap, if needed, so that it can hold elements in the {@code [0, capacity)} range.
+     *
+     * @param capacity the number of admitted elements
+     */
+    public void ensureCapacity( int capacity )
+    {
+        int oldCapacity = positions.length;
+        if ( capacity > oldCapacity )
+        {
+            int newCapacity = Math.max( capacity, 2 * oldCapacity );
+            heap = Arrays.copyOf( heap, newCapacity );
+            positions = Arrays.copyOf( positions, newCapacity );
+            Arrays.fill( positions, oldCapacity, newCapacity, -1 );
+            keys = Arrays.copyOf( keys, newCapacity );
+        }
+    }
+
+    /**
+     * Removes all the elements from this heap, in a time proportional to the number of contained elements.
+     */
+    public void clear()
+    {
+        for ( int i = 0; i < size; i++ )
+        {
+            positions[heap[i]] = -1;
+            keys[heap[i]] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Checks if the input element is in the heap.
+     *
+     * @param element the element to check
+     * @return true if the input element is in the heap, false otherwise
+     */
+    public boolean contains( int element )
+    {
+        return positions[element] >= 0;
+    }
+
+    /**
+     * Returns the priority key of the input element, {@code null} if the element is not in the heap.
+     *
+     * @param element the element which key has to be returned
+     * @return the priority key of the input element, {@code null} if the element is not in the heap.
+     */
+    @SuppressWarnings( "unchecked" ) // only K instances are stored in the keys array
+    public K getKey( int element )
+    {
+        return (K) keys[element];
+    }
+
+    /**
+     * Checks if this heap contains no elements.
+     *
+     * @return true if this heap contains no elements, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Inserts the input element with the given key or, if already in the heap, updates its key.
+     *
+     * @param element the element to insert or update
+     * @param key the element priority key
+     */
+    public void offer( int element, K key )
+    {
+        checkNotNull( key, "Null keys not allowed in this IndexedHeap implementation." );
+
+        int position = positions[element];
+        if ( position < 0 )
+        {
+            keys[element] = key;
+            heap[size] = element;
+            positions[element] = size;
+            siftUp( size++ );
+        }
+        else
+        {
+            int comparison = comparator.compare( key, getKey( element ) );
+            keys[element] = key;
+            if ( comparison < 0 )
+            {
+                siftUp( position );
+            }
+            else if ( comparison > 0 )
+            {
+                siftDown( position );
+            }
+        }
+    }
+
+    /**
+     * Returns, without removing, the element with the minimum key.
+     *
+     * @return the element with the minimum key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int peek()
+    {
+        if ( size == 0 )
+        {
+            throw new NoSuchElementException();
+        }
+        return heap[0];
+    }
+
+    /**
+     * Removes and returns the element with the minimum key.
+     *
+     * @return the element with the minimum key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int poll()
+    {
+        int minimum = peek();
+
+        int last = heap[--size];
+        positions[minimum] = -1;
+        keys[minimum] = null;
+
+        if ( size > 0 )
+        {
+            heap[0] = last;
+            positions[last] = 0;
+            siftDown( 0 );
+        }
+
+        return minimum;
+    }
+
+    /**
+     * Returns the number of elements in the heap.
+     *
+     * @return the number of elements in the heap.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    private boolean less( int left, int right )
+    {
+        return comparator.compare( getKey( left ), getKey( right ) ) < 0;
+    }
+
+    private void siftUp( int position )
+    {
+        int element = heap[position];
+        while ( position > 0 )
+        {
+            int parentPosition = ( position - 1 ) / ARITY;
+            int parent = heap[parentPosition];
+            if ( !less( element, parent ) )
+            {
+                break;
+            }
+            heap[position] = parent;
+            positions[parent] = position;
+            position = parentPosition;
+        }
+        heap[position] = element;
+        positions[element] = position;
+    }
+
+    private void siftDown( int position )
+    {
+        int element = heap[position];
+        while ( true )
+        {
+            int firstChild = position * ARITY + 1;
+            if ( firstChild >= size )
+            {
+                break;
+            }
+
+            int minimumChild = firstChild;
+            int lastChild = Math.min( firstChild + ARITY, size );
+            for ( int child = firstChild + 1; child < lastChild; child++ )
+            {
+                if ( less( heap[child], heap[minimumChild] ) )
+                {
+                    minimumChild = child;
+                }
+            }
+
+            if ( !less( heap[minimumChild], element ) )
+            {
+                break;
+            }
+
+            heap[position] = heap[minimumChild];
+            positions[heap[position]] = position;
+            position = minimumChild;
+        }
+        heap[position] = element;
+        positions[element] = position;
+    }
+
+}
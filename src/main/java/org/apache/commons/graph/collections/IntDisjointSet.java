@@ -0,0 +1,172 @@
+package org.apache.commons.graph.collections;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
+
+import java.util.Arrays;
+
+/**
+ * Array based <a href="https://en.wikipedia.org/wiki/Disjoint-set_data_structure">Disjoint-set</a> of dense
+ * {@code int} elements in the {@code [0, size)} range, each one initially in its own subset.
+ *
+ * Subsets are merged applying the <i>union by rank</i>, and {@code find} applies the <i>path halving</i>
+ * iteratively, so that long parent chains can not overflow the stack.
+ *
+ * This class is NOT thread safe!
+ */
+public final class IntDisjointSet
+{
+
+    private int[] parents;
+
+    /**
+     * The rank of each subset root, an upper bound of its subtree height.
+     */
+    private int[] ranks;
+
+    private int size;
+
+    private int subsets;
+
+    /**
+     * Creates a new disjoint-set of {@code size} singleton subsets.
+     *
+     * @param size the number of elements
+     */
+    public IntDisjointSet( int size )
+    {
+        checkArgument( size >= 0, "Disjoint-set size must be not negative, %s found", size );
+        parents = new int[size];
+        ranks = new int[size];
+        for ( int i = 0; i < size; i++ )
+        {
+            parents[i] = i;
+        }
+        this.size = size;
+        this.subsets = size;
+    }
+
+    /**
+     * Adds a new element, in its own singleton subset.
+     *
+     * @return the added element
+     */
+    public int add()
+    {
+        if ( size == parents.length )
+        {
+            int capacity = Math.max( 16, 2 * size );
+            parents = Arrays.copyOf( parents, capacity );
+            ranks = Arrays.copyOf( ranks, capacity );
+        }
+        parents[size] = size;
+        ranks[size] = 0;
+        subsets++;
+        return size++;
+    }
+
+    /**
+     * Returns the representative element of the subset the input element belongs to.
+     *
+     * @param element the element which subset representative has to be found
+     * @return the representative element of the input element subset
+     */
+    public int find( int element )
+    {
+        checkArgument( element >= 0 && element < size, "Element %s is out of the [0, %s) range", element, size );
+
+        int current = element;
+        while ( parents[current] != current )
+        {
+            // path halving: every other node on the path points to its grandparent
+            parents[current] = parents[parents[current]];
+            current = parents[current];
+        }
+        return current;
+    }
+
+    /**
+     * Join the subsets of the two input elements into a single subset.
+     *
+     * @param e1 the first element which related subset has to be merged
+     * @param e2 the second element which related subset has to be merged
+     * @return true, if the elements were in different subsets, false otherwise
+     */
+    public boolean union( int e1, int e2 )
+    {
+        int root1 = find( e1 );
+        int root2 = find( e2 );
+
+        if ( root1 == root2 )
+        {
+            return false;
+        }
+
+        if ( ranks[root1] < ranks[root2] )
+        {
+            parents[root1] = root2;
+        }
+        else if ( ranks[root1] > ranks[root2] )
+        {
+            parents[root2] = root1;
+        }
+        else
+        {
+            parents[root2] = root1;
+            ranks[root1]++;
+        }
+        subsets--;
+        return true;
+    }
+
+    /**
+     * Checks whether the two input elements belong to the same subset.
+     *
+     * @param e1 the first element
+     * @param e2 the second element
+     * @return true, if the elements belong to the same subset, false otherwise
+     */
+    public boolean connected( int e1, int e2 )
+    {
+        return find( e1 ) == find( e2 );
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the number of elements.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Returns the number of disjoint subsets.
+     *
+     * @return the number of disjoint subsets.
+     */
+    public int getSubsets()
+    {
+        return subsets;
+    }
+
+}
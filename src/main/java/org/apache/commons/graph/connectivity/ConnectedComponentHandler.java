@@ -23,6 +23,7 @@ import static org.apache.commons.graph.visit.VisitState.CONTINUE;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.commons.graph.Graph;
 import org.apache.commons.graph.visit.BaseGraphVisitHandler;
@@ -34,9 +35,9 @@ final class ConnectedComponentHandler<V, E>
 
     private final List<V> touchedVertices = new LinkedList<V>();
 
-    private final List<V> untouchedVertices;
+    private final Set<V> untouchedVertices;
 
-    public ConnectedComponentHandler( List<V> untouchedVertices )
+    public ConnectedComponentHandler( Set<V> untouchedVertices )
     {
         this.untouchedVertices = untouchedVertices;
     }
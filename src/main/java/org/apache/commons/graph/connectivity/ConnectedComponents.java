@@ -0,0 +1,119 @@
+package org.apache.commons.graph.connectivity;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkState;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.commons.graph.collections.ElementIndex;
+
+/**
+ * The connected components of a set of vertices, labeled with dense identifiers in the {@code [0, count)} range.
+ *
+ * @param <V> The Graph vertices type
+ */
+public final class ConnectedComponents<V>
+{
+
+    private final ElementIndex<V> vertices;
+
+    /**
+     * The component of each vertex, aligned to the vertices index.
+     */
+    private final int[] labels;
+
+    private final int count;
+
+    ConnectedComponents( ElementIndex<V> vertices, int[] labels, int count )
+    {
+        this.vertices = vertices;
+        this.labels = labels;
+        this.count = count;
+    }
+
+    /**
+     * Returns the number of connected components.
+     *
+     * @return the number of connected components
+     */
+    public int getComponentsCount()
+    {
+        return count;
+    }
+
+    /**
+     * Returns the identifier of the connected component the input vertex belongs to.
+     *
+     * @param vertex the vertex which component has to be returned
+     * @return the identifier, in the {@code [0, count)} range, of the connected component of the input vertex
+     */
+    public int getComponent( V vertex )
+    {
+        int index = vertices.indexOf( vertex );
+        checkState( index >= 0, "Vertex %s was not included in the connected components", vertex );
+        return labels[index];
+    }
+
+    /**
+     * Returns the component identifier of each vertex, the vertex having position {@code i} being
+     * {@link #getVertex(int) getVertex( i )}.
+     *
+     * @return the component identifier of each vertex
+     */
+    public int[] getLabels()
+    {
+        return Arrays.copyOf( labels, vertices.size() );
+    }
+
+    /**
+     * Returns the vertex which label is at the input position of the {@link #getLabels()} array.
+     *
+     * @param position the position in the labels array
+     * @return the vertex which label is at the input position
+     */
+    public V getVertex( int position )
+    {
+        return vertices.get( position );
+    }
+
+    /**
+     * Returns the vertices of each connected component, ordered by component identifier.
+     *
+     * @return the vertices of each connected component
+     */
+    public Collection<List<V>> getComponents()
+    {
+        List<List<V>> components = new ArrayList<List<V>>( count );
+        for ( int i = 0; i < count; i++ )
+        {
+            components.add( new ArrayList<V>() );
+        }
+        for ( int i = 0; i < vertices.size(); i++ )
+        {
+            components.get( labels[i] ).add( vertices.get( i ) );
+        }
+        return components;
+    }
+
+}
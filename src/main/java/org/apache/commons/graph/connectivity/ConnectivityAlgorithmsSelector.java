@@ -38,4 +38,20 @@ public interface ConnectivityAlgorithmsSelector<V, E>
      */
     Collection<List<V>> applyingMinimumSpanningTreeAlgorithm();
 
+    /**
+     * Find all connected components for a specific graph, joining the vertices of each edge in a union-find; edges
+     * direction is ignored.
+     *
+     * @return the connected components of the included vertices
+     */
+    ConnectedComponents<V> applyingUnionFind();
+
+    /**
+     * Find all connected components for a specific graph, joining the vertices of the edges concurrently in a
+     * lock-free union-find; edges direction is ignored.
+     *
+     * @return the connected components of the included vertices
+     */
+    ConnectedComponents<V> applyingParallelUnionFind();
+
 }
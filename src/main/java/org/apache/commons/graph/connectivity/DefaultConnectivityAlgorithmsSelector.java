@@ -22,10 +22,12 @@ package org.apache.commons.graph.connectivity;
 import static org.apache.commons.graph.CommonsGraph.visit;
 import static org.apache.commons.graph.utils.Assertions.checkState;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.commons.graph.Graph;
 
@@ -60,7 +62,8 @@ final class DefaultConnectivityAlgorithmsSelector<V, E>
      */
     public Collection<List<V>> applyingMinimumSpanningTreeAlgorithm()
     {
-        final List<V> untouchedVertices = new ArrayList<V>();
+        // vertices are removed once visited, a linked set keeps that constant time and the iteration order stable
+        final Set<V> untouchedVertices = new LinkedHashSet<V>();
 
         for ( V v : includedVertices )
         {
@@ -72,11 +75,29 @@ final class DefaultConnectivityAlgorithmsSelector<V, E>
 
         while ( untouchedVertices.size() > 0 )
         {
-            V source = untouchedVertices.remove( 0 );
+            Iterator<V> untouched = untouchedVertices.iterator();
+            V source = untouched.next();
+            untouched.remove();
 
             connectedVertices.add( visit( graph ).from( source ).applyingDepthFirstSearch( new ConnectedComponentHandler<V, E>( untouchedVertices ) ) );
         }
         return connectedVertices;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public ConnectedComponents<V> applyingUnionFind()
+    {
+        return new UnionFindComponents<V, E>( graph, includedVertices ).apply();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public ConnectedComponents<V> applyingParallelUnionFind()
+    {
+        return new UnionFindComponents<V, E>( graph, includedVertices ).applyInParallel();
+    }
+
 }
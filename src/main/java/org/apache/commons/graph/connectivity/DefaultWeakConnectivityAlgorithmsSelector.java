@@ -0,0 +1,62 @@
+package org.apache.commons.graph.connectivity;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.DirectedGraph;
+
+/**
+ * {@link WeakConnectivityAlgorithmsSelector} implementation.
+ *
+ * @param <V> The Graph vertices type
+ * @param <E> The Graph edges type
+ */
+public final class DefaultWeakConnectivityAlgorithmsSelector<V, E>
+    implements WeakConnectivityAlgorithmsSelector<V, E>
+{
+
+    private final DirectedGraph<V, E> graph;
+
+    /**
+     * Creates a new instance of {@link DefaultWeakConnectivityAlgorithmsSelector}.
+     *
+     * @param graph the directed graph
+     */
+    public DefaultWeakConnectivityAlgorithmsSelector( DirectedGraph<V, E> graph )
+    {
+        this.graph = graph;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public ConnectedComponents<V> applyingBreadthFirstSearch()
+    {
+        return new WeakComponents<V, E>( graph ).apply();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public ConnectedComponents<V> applyingParallelUnionFind()
+    {
+        return new WeakComponents<V, E>( graph ).applyInParallel();
+    }
+
+}
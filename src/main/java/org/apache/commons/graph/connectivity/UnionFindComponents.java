@@ -0,0 +1,233 @@
+package org.apache.commons.graph.connectivity;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkState;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.VertexPair;
+import org.apache.commons.graph.collections.ElementIndex;
+import org.apache.commons.graph.collections.IntDisjointSet;
+import org.apache.commons.graph.utils.Tasks;
+
+/**
+ * Connected components computed in a single pass over the edges through a union-find, edges direction being ignored.
+ *
+ * The parallel variant scans slices of the edges concurrently against a lock-free union-find in the
+ * Shiloach-Vishkin style: roots are hooked with compare-and-set, always under the root with the lower identifier,
+ * so that concurrent hooks never close a cycle, and paths are halved with compare-and-set as well.
+ *
+ * @param <V> The Graph vertices type
+ * @param <E> The Graph edges type
+ */
+final class UnionFindComponents<V, E>
+{
+
+    /**
+     * The minimum number of edges worth a parallel task.
+     */
+    private static final int MIN_SLICE_SIZE = 4096;
+
+    private final Graph<V, E> graph;
+
+    private final Iterable<V> includedVertices;
+
+    private final ElementIndex<V> vertices;
+
+    private final int[] heads;
+
+    private final int[] tails;
+
+    private int size = 0;
+
+    public UnionFindComponents( Graph<V, E> graph, Iterable<V> includedVertices )
+    {
+        this.graph = graph;
+        this.includedVertices = includedVertices;
+        this.vertices = new ElementIndex<V>( graph.getVertices() );
+        this.heads = new int[graph.getSize()];
+        this.tails = new int[graph.getSize()];
+    }
+
+    /**
+     * Computes the connected components sequentially.
+     *
+     * @return the connected components of the included vertices
+     */
+    public ConnectedComponents<V> apply()
+    {
+        indexEdges();
+
+        IntDisjointSet disjointSet = new IntDisjointSet( vertices.size() );
+        for ( int i = 0; i < size; i++ )
+        {
+            disjointSet.union( heads[i], tails[i] );
+        }
+
+        int[] roots = new int[vertices.size()];
+        for ( int v = 0; v < roots.length; v++ )
+        {
+            roots[v] = disjointSet.find( v );
+        }
+        return label( roots );
+    }
+
+    /**
+     * Computes the connected components scanning the edges concurrently.
+     *
+     * @return the connected components of the included vertices
+     */
+    public ConnectedComponents<V> applyInParallel()
+    {
+        indexEdges();
+
+        final AtomicIntegerArray parents = new AtomicIntegerArray( vertices.size() );
+        for ( int v = 0; v < vertices.size(); v++ )
+        {
+            parents.set( v, v );
+        }
+
+        int slices = Math.max( 1, Math.min( Tasks.parallelism(), size / MIN_SLICE_SIZE ) );
+        int sliceSize = ( size + slices - 1 ) / slices;
+        List<Callable<Void>> tasks = new ArrayList<Callable<Void>>( slices );
+        for ( int from = 0; from < size; from += sliceSize )
+        {
+            final int sliceFrom = from;
+            final int sliceTo = Math.min( from + sliceSize, size );
+            tasks.add( new Callable<Void>()
+            {
+
+                public Void call()
+                {
+                    for ( int i = sliceFrom; i < sliceTo; i++ )
+                    {
+                        union( parents, heads[i], tails[i] );
+                    }
+                    return null;
+                }
+
+            } );
+        }
+        Tasks.invokeAll( tasks );
+
+        // all the hooks are done, roots do not change anymore
+        int[] roots = new int[vertices.size()];
+        for ( int v = 0; v < roots.length; v++ )
+        {
+            roots[v] = find( parents, v );
+        }
+        return label( roots );
+    }
+
+    private void indexEdges()
+    {
+        for ( E edge : graph.getEdges() )
+        {
+            VertexPair<V> pair = graph.getVertices( edge );
+            int head = vertices.indexOf( pair.getHead() );
+            int tail = vertices.indexOf( pair.getTail() );
+            // self loops do not join anything
+            if ( head != tail )
+            {
+                heads[size] = head;
+                tails[size] = tail;
+                size++;
+            }
+        }
+    }
+
+    /**
+     * Finds the root of the input vertex in a lock-free union-find, halving the path on the way.
+     */
+    static int find( AtomicIntegerArray parents, int vertex )
+    {
+        int current = vertex;
+        int parent = parents.get( current );
+        while ( parent != current )
+        {
+            int grandParent = parents.get( parent );
+            // path halving, it may fail under contention without harm since grandParent is an ancestor anyway
+            parents.compareAndSet( current, parent, grandParent );
+            current = grandParent;
+            parent = parents.get( current );
+        }
+        return current;
+    }
+
+    /**
+     * Joins the subsets of the two input vertices in a lock-free union-find.
+     */
+    static void union( AtomicIntegerArray parents, int u, int v )
+    {
+        while ( true )
+        {
+            int uRoot = find( parents, u );
+            int vRoot = find( parents, v );
+            if ( uRoot == vRoot )
+            {
+                return;
+            }
+
+            int high = Math.max( uRoot, vRoot );
+            int low = Math.min( uRoot, vRoot );
+            // fails if high stopped being a root meanwhile, then retry from the new roots
+            if ( parents.compareAndSet( high, high, low ) )
+            {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Relabels the roots of the included vertices with dense identifiers, in order of first appearance.
+     */
+    private ConnectedComponents<V> label( int[] roots )
+    {
+        int[] rootLabels = new int[roots.length];
+        for ( int i = 0; i < rootLabels.length; i++ )
+        {
+            rootLabels[i] = -1;
+        }
+
+        ElementIndex<V> included = new ElementIndex<V>();
+        int[] labels = new int[vertices.size()];
+        int count = 0;
+        for ( V v : includedVertices )
+        {
+            int vertex = vertices.indexOf( v );
+            checkState( vertex >= 0, "Vertex %s does not exist in the Graph", v );
+
+            int root = roots[vertex];
+            if ( rootLabels[root] < 0 )
+            {
+                rootLabels[root] = count++;
+            }
+            // included vertices are graph vertices, there can not be more than the labels
+            labels[included.add( v )] = rootLabels[root];
+        }
+        return new ConnectedComponents<V>( included, labels, count );
+    }
+
+}
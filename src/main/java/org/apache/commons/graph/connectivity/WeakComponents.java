@@ -0,0 +1,165 @@
+package org.apache.commons.graph.connectivity;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.collections.ElementIndex;
+import org.apache.commons.graph.utils.Tasks;
+
+/**
+ * Weakly connected components of a directed graph, walking the inbound and outbound vertices together, without
+ * copying the graph into an undirected one.
+ *
+ * The parallel variant splits the vertices in slices and joins each vertex with its outbound vertices only, since
+ * each edge is outbound of exactly one vertex, in the lock-free union-find of {@link UnionFindComponents}.
+ *
+ * @param <V> The Graph vertices type
+ * @param <E> The Graph edges type
+ */
+final class WeakComponents<V, E>
+{
+
+    /**
+     * The minimum number of vertices worth a parallel task.
+     */
+    private static final int MIN_SLICE_SIZE = 1024;
+
+    private final DirectedGraph<V, E> graph;
+
+    private final ElementIndex<V> vertices;
+
+    private final int[] labels;
+
+    public WeakComponents( DirectedGraph<V, E> graph )
+    {
+        this.graph = graph;
+        this.vertices = new ElementIndex<V>( graph.getVertices() );
+        this.labels = new int[vertices.size()];
+    }
+
+    /**
+     * Computes the weakly connected components with breadth first visits.
+     *
+     * @return the weakly connected components of the graph vertices
+     */
+    public ConnectedComponents<V> apply()
+    {
+        int order = vertices.size();
+        boolean[] visited = new boolean[order];
+        int[] queue = new int[order];
+        int count = 0;
+
+        for ( int source = 0; source < order; source++ )
+        {
+            if ( visited[source] )
+            {
+                continue;
+            }
+
+            visited[source] = true;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = source;
+            while ( head < tail )
+            {
+                int vertex = queue[head++];
+                labels[vertex] = count;
+
+                V v = vertices.get( vertex );
+                tail = enqueue( graph.getOutbound( v ), visited, queue, tail );
+                tail = enqueue( graph.getInbound( v ), visited, queue, tail );
+            }
+            count++;
+        }
+
+        return new ConnectedComponents<V>( vertices, labels, count );
+    }
+
+    private int enqueue( Iterable<V> adjacent, boolean[] visited, int[] queue, int tail )
+    {
+        for ( V connected : adjacent )
+        {
+            int index = vertices.indexOf( connected );
+            if ( !visited[index] )
+            {
+                visited[index] = true;
+                queue[tail++] = index;
+            }
+        }
+        return tail;
+    }
+
+    /**
+     * Computes the weakly connected components scanning the vertices concurrently.
+     *
+     * @return the weakly connected components of the graph vertices
+     */
+    public ConnectedComponents<V> applyInParallel()
+    {
+        int order = vertices.size();
+        final AtomicIntegerArray parents = new AtomicIntegerArray( order );
+        for ( int v = 0; v < order; v++ )
+        {
+            parents.set( v, v );
+        }
+
+        int slices = Math.max( 1, Math.min( Tasks.parallelism(), order / MIN_SLICE_SIZE ) );
+        int sliceSize = ( order + slices - 1 ) / slices;
+        List<Callable<Void>> tasks = new ArrayList<Callable<Void>>( slices );
+        for ( int from = 0; from < order; from += sliceSize )
+        {
+            final int sliceFrom = from;
+            final int sliceTo = Math.min( from + sliceSize, order );
+            tasks.add( new Callable<Void>()
+            {
+
+                public Void call()
+                {
+                    for ( int vertex = sliceFrom; vertex < sliceTo; vertex++ )
+                    {
+                        for ( V connected : graph.getOutbound( vertices.get( vertex ) ) )
+                        {
+                            UnionFindComponents.union( parents, vertex, vertices.indexOf( connected ) );
+                        }
+                    }
+                    return null;
+                }
+
+            } );
+        }
+        Tasks.invokeAll( tasks );
+
+        // roots are the lowest identifiers of their subsets, so they are labeled before any other vertex
+        int count = 0;
+        for ( int v = 0; v < order; v++ )
+        {
+            int root = UnionFindComponents.find( parents, v );
+            labels[v] = root == v ? count++ : labels[root];
+        }
+
+        return new ConnectedComponents<V>( vertices, labels, count );
+    }
+
+}
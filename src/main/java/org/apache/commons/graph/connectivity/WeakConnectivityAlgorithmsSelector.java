@@ -0,0 +1,47 @@
+package org.apache.commons.graph.connectivity;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/**
+ * Builder for selecting the weak connectivity algorithm to perform on a directed graph, where two vertices are
+ * weakly connected if joined by a path ignoring the edges direction.
+ *
+ * @param <V> The Graph vertices type
+ * @param <E> The Graph edges type
+ */
+public interface WeakConnectivityAlgorithmsSelector<V, E>
+{
+
+    /**
+     * Find all weakly connected components visiting the inbound and outbound vertices of each vertex breadth first.
+     *
+     * @return the weakly connected components of the graph vertices
+     */
+    ConnectedComponents<V> applyingBreadthFirstSearch();
+
+    /**
+     * Find all weakly connected components joining each vertex with its outbound vertices concurrently, in a
+     * lock-free union-find.
+     *
+     * @return the weakly connected components of the graph vertices
+     */
+    ConnectedComponents<V> applyingParallelUnionFind();
+
+}
@@ -23,6 +23,7 @@ import static org.apache.commons.graph.utils.Assertions.checkNotNull;
 
 import org.apache.commons.graph.DirectedGraph;
 import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.Mappers;
 
 /**
  * {@link FlowWeightedEdgesBuilder} implementation
@@ -52,7 +53,7 @@ public final class DefaultFlowWeightedEdgesBuilder<V, WE>
     public <W, M extends Mapper<WE, W>> FromHeadBuilder<V, WE, W> whereEdgesHaveWeights( M weightedEdges )
     {
         weightedEdges = checkNotNull( weightedEdges, "Function to calculate edges weight can not be null." );
-        return new DefaultFromHeadBuilder<V, WE, W>( graph, weightedEdges );
+        return new DefaultFromHeadBuilder<V, WE, W>( graph, Mappers.precomputeIfExpensive( graph, weightedEdges ) );
     }
 
 }
@@ -21,76 +21,28 @@ package org.apache.commons.graph.scc;
 
 import static java.lang.Math.min;
 
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
-import java.util.Map;
 import java.util.Set;
-import java.util.Stack;
 
 import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.collections.ElementIndex;
 
 /**
  * Implements Tarjan's algorithm is a variation (slightly faster) on KosarajuSharir's algorithm for finding
  * strongly-connected components in a directed graph.
  *
+ * The depth first search runs on an explicit stack of outbound vertices iterators, so that deep graphs do not
+ * overflow the thread stack; vertices indexes and low links are kept in {@code int} arrays over dense vertex
+ * identifiers, and membership to the Tarjan stack in a {@code boolean} array.
+ *
  * @param <V> The Graph vertices type.
  * @param <E> The Graph edges type.
- * @param <G> The directed graph type
  */
 final class TarjanAlgorithm<V, E>
     implements SccAlgorithm<V>
 {
 
-    private static <V> TarjanVertexMetaInfo getMetaInfo( V vertex, Map<V, TarjanVertexMetaInfo> verticesMetaInfo )
-    {
-        TarjanVertexMetaInfo vertexMetaInfo = verticesMetaInfo.get( vertex );
-        if ( vertexMetaInfo == null )
-        {
-            vertexMetaInfo = new TarjanVertexMetaInfo();
-            verticesMetaInfo.put( vertex, vertexMetaInfo );
-        }
-        return vertexMetaInfo;
-    }
-
-    private static <V, E> void strongConnect( DirectedGraph<V, E> graph,
-                                                                          V vertex,
-                                                                          Map<V, TarjanVertexMetaInfo> verticesMetaInfo,
-                                                                          Stack<V> s,
-                                                                          Set<V> stronglyConnectedComponent,
-                                                                          Integer index )
-    {
-        TarjanVertexMetaInfo vertexMetaInfo = getMetaInfo( vertex, verticesMetaInfo );
-        vertexMetaInfo.setIndex( index );
-        vertexMetaInfo.setLowLink( index );
-        index++;
-        s.push( vertex );
-
-        for ( V adjacent : graph.getOutbound( vertex ) )
-        {
-            TarjanVertexMetaInfo adjacentMetaInfo = getMetaInfo( adjacent, verticesMetaInfo );
-            if ( adjacentMetaInfo.hasUndefinedIndex() )
-            {
-                strongConnect( graph, adjacent, verticesMetaInfo, s, stronglyConnectedComponent, index );
-                vertexMetaInfo.setLowLink( min( vertexMetaInfo.getLowLink(), adjacentMetaInfo.getLowLink() ) );
-            }
-            else if ( s.contains( adjacent ) )
-            {
-                vertexMetaInfo.setLowLink( min( vertexMetaInfo.getLowLink(), adjacentMetaInfo.getIndex() ) );
-            }
-        }
-
-        if ( vertexMetaInfo.getLowLink() == vertexMetaInfo.getIndex() )
-        {
-            V v;
-            do
-            {
-                v = s.pop();
-                stronglyConnectedComponent.add( v );
-            }
-            while ( !vertex.equals( v ) );
-        }
-    }
-
     private final DirectedGraph<V, E> graph;
 
     /**
@@ -108,23 +60,93 @@ final class TarjanAlgorithm<V, E>
      */
     public Set<Set<V>> perform()
     {
-        final Map<V, TarjanVertexMetaInfo> verticesMetaInfo = new HashMap<V, TarjanVertexMetaInfo>();
-        final Stack<V> s = new Stack<V>();
+        final ElementIndex<V> vertices = new ElementIndex<V>( graph.getVertices() );
+        final int order = vertices.size();
+
+        // -1 marks the vertices not visited yet
+        final int[] indexes = new int[order];
+        final int[] lowLinks = new int[order];
+        for ( int v = 0; v < order; v++ )
+        {
+            indexes[v] = -1;
+        }
+
+        final int[] stack = new int[order];
+        final boolean[] onStack = new boolean[order];
+        int stackSize = 0;
+
+        // the depth first search path, with the outbound vertices still to be scanned of each vertex
+        final int[] path = new int[order];
+        @SuppressWarnings( { "unchecked", "rawtypes" } ) // generic arrays can not be created
+        final Iterator<V>[] outbounds = new Iterator[order];
+
         final Set<Set<V>> stronglyConnectedComponents = new LinkedHashSet<Set<V>>();
-        Integer index = 0;
+        int index = 0;
 
-        for ( V vertex : graph.getVertices() )
+        for ( int root = 0; root < order; root++ )
         {
-            TarjanVertexMetaInfo vertexMetaInfo = getMetaInfo( vertex, verticesMetaInfo );
-            final Set<V> stronglyConnectedComponent = new LinkedHashSet<V>();
+            if ( indexes[root] >= 0 )
+            {
+                continue;
+            }
 
-            if ( vertexMetaInfo.hasUndefinedIndex() )
+            int depth = 0;
+            path[depth] = root;
+            outbounds[depth] = graph.getOutbound( vertices.get( root ) ).iterator();
+            indexes[root] = lowLinks[root] = index++;
+            stack[stackSize++] = root;
+            onStack[root] = true;
+
+            while ( depth >= 0 )
             {
-                strongConnect( graph, vertex, verticesMetaInfo, s, stronglyConnectedComponent, index );
-                stronglyConnectedComponents.add( stronglyConnectedComponent );
+                int vertex = path[depth];
+                Iterator<V> outbound = outbounds[depth];
+
+                if ( outbound.hasNext() )
+                {
+                    int adjacent = vertices.indexOf( outbound.next() );
+                    if ( indexes[adjacent] < 0 )
+                    {
+                        // descend into the adjacent vertex
+                        path[++depth] = adjacent;
+                        outbounds[depth] = graph.getOutbound( vertices.get( adjacent ) ).iterator();
+                        indexes[adjacent] = lowLinks[adjacent] = index++;
+                        stack[stackSize++] = adjacent;
+                        onStack[adjacent] = true;
+                    }
+                    else if ( onStack[adjacent] )
+                    {
+                        lowLinks[vertex] = min( lowLinks[vertex], indexes[adjacent] );
+                    }
+                    continue;
+                }
+
+                // all the outbound vertices have been scanned, the vertex is finished
+                outbounds[depth--] = null;
+
+                if ( lowLinks[vertex] == indexes[vertex] )
+                {
+                    final Set<V> stronglyConnectedComponent = new LinkedHashSet<V>();
+                    int v;
+                    do
+                    {
+                        v = stack[--stackSize];
+                        onStack[v] = false;
+                        stronglyConnectedComponent.add( vertices.get( v ) );
+                    }
+                    while ( v != vertex );
+                    stronglyConnectedComponents.add( stronglyConnectedComponent );
+                }
+
+                if ( depth >= 0 )
+                {
+                    int parent = path[depth];
+                    lowLinks[parent] = min( lowLinks[parent], lowLinks[vertex] );
+                }
             }
         }
 
         return stronglyConnectedComponents;
     }
+
 }
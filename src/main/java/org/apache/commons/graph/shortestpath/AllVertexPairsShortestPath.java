@@ -19,18 +19,26 @@ package org.apache.commons.graph.shortestpath;
  * under the License.
  */
 
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
 import static org.apache.commons.graph.utils.Assertions.checkNotNull;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import org.apache.commons.graph.VertexPair;
 import org.apache.commons.graph.WeightedPath;
-import org.apache.commons.graph.weight.OrderedMonoid;
+import org.apache.commons.graph.collections.ElementIndex;
+import org.apache.commons.graph.weight.Monoid;
 
 /**
  * Represents all shortest paths between all vertex pairs calculated by {@link FloydWarshall} algorithm.
  *
+ * When backed by a {@link ShortestPathMatrix}, only the distance and next-hop tables are kept in memory
+ * and each {@link WeightedPath} is rebuilt on demand; the most recently requested paths can be
+ * retained in a bounded cache, see {@link #withPathCache(int)}.
+ *
  * @param <V> The Graph vertices type
  * @param <WE> the Graph weighted edges type
  * @param <W> The weight type
@@ -42,14 +50,28 @@ public final class AllVertexPairsShortestPath<V, WE, W>
 
     private final Map<VertexPair<V>, W> shortestDistances = new HashMap<VertexPair<V>, W>();
 
-    private final OrderedMonoid<W> weightOperations;
+    private final Monoid<W> weightOperations;
+
+    private final ShortestPathMatrix<V, WE, W> matrix;
+
+    private Map<VertexPair<V>, WeightedPath<V, WE, W>> pathCache;
 
     /**
      * Constructor visible only inside the package
      */
-    AllVertexPairsShortestPath( OrderedMonoid<W> weightOperations )
+    AllVertexPairsShortestPath( Monoid<W> weightOperations )
     {
         this.weightOperations = weightOperations;
+        this.matrix = null;
+    }
+
+    /**
+     * Constructor visible only inside the package
+     */
+    AllVertexPairsShortestPath( ShortestPathMatrix<V, WE, W> matrix )
+    {
+        this.weightOperations = matrix.getWeightOperations();
+        this.matrix = matrix;
     }
 
     /**
@@ -80,6 +102,43 @@ public final class AllVertexPairsShortestPath<V, WE, W>
         paths.put( new VertexPair<V>( source, target ), weightedPath );
     }
 
+    /**
+     * Retains up to {@code maxSize} of the most recently requested shortest paths, so that repeated
+     * {@link #findShortestPath(Object, Object)} invocations on the same vertex pairs do not rebuild them.
+     * A {@code maxSize} of {@code 0} disables the cache, which is the default.
+     *
+     * @param maxSize the maximum number of cached paths
+     * @return this {@link AllVertexPairsShortestPath} instance
+     */
+    public AllVertexPairsShortestPath<V, WE, W> withPathCache( final int maxSize )
+    {
+        checkArgument( maxSize >= 0, "Path cache size must be not negative, %s found", maxSize );
+
+        synchronized ( this )
+        {
+            if ( maxSize == 0 )
+            {
+                pathCache = null;
+            }
+            else
+            {
+                pathCache = new LinkedHashMap<VertexPair<V>, WeightedPath<V, WE, W>>( 16, 0.75f, true )
+                {
+
+                    private static final long serialVersionUID = -4836437233582232393L;
+
+                    @Override
+                    protected boolean removeEldestEntry( Entry<VertexPair<V>, WeightedPath<V, WE, W>> eldest )
+                    {
+                        return size() > maxSize;
+                    }
+
+                };
+            }
+        }
+        return this;
+    }
+
     /**
      * Returns the shortest path between source and target
      *
@@ -92,7 +151,41 @@ public final class AllVertexPairsShortestPath<V, WE, W>
         source = checkNotNull( source, "Impossible to add a shortest path from a null source" );
         target = checkNotNull( target, "Impossible to add a shortest path to a null target" );
 
-        WeightedPath<V, WE, W> path = paths.get( new VertexPair<V>( source, target ) );
+        VertexPair<V> vertexPair = new VertexPair<V>( source, target );
+        WeightedPath<V, WE, W> path = paths.get( vertexPair );
+
+        if ( path == null && matrix != null )
+        {
+            synchronized ( this )
+            {
+                if ( pathCache != null )
+                {
+                    path = pathCache.get( vertexPair );
+                }
+            }
+
+            if ( path == null )
+            {
+                ElementIndex<V> vertices = matrix.getVertices();
+                int sourceIndex = vertices.indexOf( source );
+                int targetIndex = vertices.indexOf( target );
+                if ( sourceIndex >= 0 && targetIndex >= 0 )
+                {
+                    path = matrix.buildPath( sourceIndex, targetIndex );
+                }
+
+                if ( path != null )
+                {
+                    synchronized ( this )
+                    {
+                        if ( pathCache != null )
+                        {
+                            pathCache.put( vertexPair, path );
+                        }
+                    }
+                }
+            }
+        }
 
         if ( path == null )
         {
@@ -119,6 +212,18 @@ public final class AllVertexPairsShortestPath<V, WE, W>
             return weightOperations.identity();
         }
 
+        if ( matrix != null )
+        {
+            ElementIndex<V> vertices = matrix.getVertices();
+            int sourceIndex = vertices.indexOf( source );
+            int targetIndex = vertices.indexOf( target );
+            if ( sourceIndex < 0 || targetIndex < 0 )
+            {
+                return null;
+            }
+            return matrix.getDistance( sourceIndex, targetIndex );
+        }
+
         return shortestDistances.get( new VertexPair<V>( source, target ) );
     }
 
@@ -139,12 +244,34 @@ public final class AllVertexPairsShortestPath<V, WE, W>
             return true;
         }
 
+        if ( matrix != null )
+        {
+            return getShortestDistance( source, target ) != null;
+        }
+
         return shortestDistances.containsKey( new VertexPair<V>( source, target ) );
     }
 
     @Override
     public String toString()
     {
+        if ( matrix != null )
+        {
+            Map<VertexPair<V>, W> distances = new HashMap<VertexPair<V>, W>();
+            ElementIndex<V> vertices = matrix.getVertices();
+            for ( int i = 0; i < vertices.size(); i++ )
+            {
+                for ( int j = 0; j < vertices.size(); j++ )
+                {
+                    W distance = matrix.getDistance( i, j );
+                    if ( i != j && distance != null )
+                    {
+                        distances.put( new VertexPair<V>( vertices.get( i ), vertices.get( j ) ), distance );
+                    }
+                }
+            }
+            return distances.toString();
+        }
         return shortestDistances.toString();
     }
 
@@ -0,0 +1,363 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.model.InMemoryWeightedPath;
+import org.apache.commons.graph.weight.MinPlusSemiring;
+import org.apache.commons.graph.weight.Monoid;
+import org.apache.commons.graph.weight.Semiring;
+
+/**
+ * Queue based implementation of the Bellman-Ford algorithm, with Tarjan's subtree disassembly: when the distance
+ * of a vertex improves, the shortest path subtree rooted in it is dismantled, since all its distances are no
+ * longer exact; its vertices are not scanned again until their distance improves too.
+ *
+ * The algorithm stops as soon as no distance can be improved any further; a negative weighted cycle is detected
+ * as soon as a vertex improves the distance of one of its ancestors, and reported in the thrown
+ * {@link NegativeWeightedCycleException}.
+ *
+ * Distances are computed over a {@link Semiring}: a distance improves when the {@code plus} of the current and the
+ * candidate distance differs from the current one; with the min-plus semiring this is the classic algorithm.
+ * Subtree disassembly relies on an improved distance strictly improving the distances of the whole subtree, which
+ * only holds for the {@link MinPlusSemiring}: any other semiring runs the plain FIFO algorithm, reporting a cycle
+ * as soon as a vertex improves {@code V} times and its predecessors walk closes one.
+ *
+ * @param <V> The Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> The weight type
+ */
+final class BellmannFord<V, WE, W>
+{
+
+    private final CompactGraph<V, WE, W> compactGraph;
+
+    private final Mapper<WE, W> weightedEdges;
+
+    private final Semiring<W> semiring;
+
+    /**
+     * Whether the shortest path subtrees are dismantled on improvements, see the class documentation.
+     */
+    private final boolean disassembly;
+
+    /**
+     * The weight operations of the built paths.
+     */
+    private final Monoid<W> pathWeights;
+
+    private final int order;
+
+    private final Object[] distances;
+
+    private final int[] predecessorArcs;
+
+    /**
+     * Whether the vertex belongs to the current shortest path tree.
+     */
+    private final boolean[] inTree;
+
+    /**
+     * The shortest path tree vertices in preorder, as a doubly linked list; {@code order} is the list sentinel.
+     */
+    private final int[] nextInPreorder;
+
+    private final int[] previousInPreorder;
+
+    private final int[] depths;
+
+    /**
+     * The circular FIFO queue of vertices to scan.
+     */
+    private final int[] queue;
+
+    private final boolean[] queued;
+
+    /**
+     * How many times the distance of each vertex improved, without disassembly only.
+     */
+    private final int[] improvements;
+
+    private int queueHead;
+
+    private int queueSize;
+
+    public BellmannFord( CompactGraph<V, WE, W> compactGraph, Mapper<WE, W> weightedEdges, Semiring<W> semiring,
+                         Monoid<W> pathWeights )
+    {
+        this.compactGraph = compactGraph;
+        this.weightedEdges = weightedEdges;
+        this.semiring = semiring;
+        this.disassembly = semiring instanceof MinPlusSemiring;
+        this.pathWeights = pathWeights;
+        this.order = compactGraph.getOrder();
+        this.distances = new Object[order];
+        this.predecessorArcs = new int[order];
+        this.inTree = new boolean[order];
+        this.nextInPreorder = new int[order + 1];
+        this.previousInPreorder = new int[order + 1];
+        this.depths = new int[order + 1];
+        this.queue = new int[order];
+        this.queued = new boolean[order];
+        this.improvements = new int[order];
+
+        nextInPreorder[order] = order;
+        previousInPreorder[order] = order;
+        depths[order] = -1;
+    }
+
+    /**
+     * Computes the shortest paths from the input source vertex.
+     *
+     * @param source the source vertex identifier
+     */
+    public void apply( int source )
+    {
+        root( source );
+        scan();
+    }
+
+    /**
+     * Computes the shortest paths from a virtual source connected to every vertex with an identity-weighted edge,
+     * i.e. the potentials Johnson's algorithm reweights the edges with.
+     */
+    public void applyFromAll()
+    {
+        for ( int v = 0; v < order; v++ )
+        {
+            root( v );
+        }
+        scan();
+    }
+
+    private void root( int vertex )
+    {
+        distances[vertex] = semiring.one();
+        predecessorArcs[vertex] = -1;
+        depths[vertex] = 0;
+        inTree[vertex] = true;
+        insertAfter( previousInPreorder[order], vertex );
+        enqueue( vertex );
+    }
+
+    private void scan()
+    {
+        while ( queueSize > 0 )
+        {
+            int head = queue[queueHead];
+            queueHead = ( queueHead + 1 ) % order;
+            queueSize--;
+            queued[head] = false;
+
+            // the distance of dismantled vertices is going to improve, they will be queued again
+            if ( disassembly && !inTree[head] )
+            {
+                continue;
+            }
+
+            for ( int i = compactGraph.getOutboundStart( head ); i < compactGraph.getOutboundStart( head + 1 ); i++ )
+            {
+                int arc = compactGraph.getOutboundArc( i );
+                int tail = compactGraph.getTail( arc );
+                W candidate = semiring.times( getDistance( head ), compactGraph.getWeight( arc ) );
+                if ( isZero( candidate ) )
+                {
+                    continue;
+                }
+
+                W current = getDistance( tail );
+                if ( current == null || !current.equals( semiring.plus( current, candidate ) ) )
+                {
+                    if ( !disassembly )
+                    {
+                        distances[tail] = current == null ? candidate : semiring.plus( current, candidate );
+                        predecessorArcs[tail] = arc;
+                        enqueue( tail );
+                        if ( ++improvements[tail] >= order )
+                        {
+                            checkPredecessorsCycle( tail );
+                        }
+                        continue;
+                    }
+
+                    if ( inTree[tail] )
+                    {
+                        dismantle( tail, head, arc );
+                    }
+
+                    distances[tail] = candidate;
+                    predecessorArcs[tail] = arc;
+                    depths[tail] = depths[head] + 1;
+                    inTree[tail] = true;
+                    insertAfter( head, tail );
+                    enqueue( tail );
+                }
+            }
+        }
+    }
+
+    /**
+     * Walks the predecessors of the input vertex, failing if they close a cycle.
+     */
+    private void checkPredecessorsCycle( int vertex )
+    {
+        // after V steps the walk is either over or inside a cycle
+        int current = vertex;
+        for ( int i = 0; i < order && predecessorArcs[current] >= 0; i++ )
+        {
+            current = compactGraph.getHead( predecessorArcs[current] );
+        }
+        if ( predecessorArcs[current] < 0 )
+        {
+            return;
+        }
+
+        int arc = predecessorArcs[current];
+        throw negativeWeightedCycle( current, compactGraph.getHead( arc ), arc );
+    }
+
+    /**
+     * Removes the subtree rooted in {@code vertex} from the shortest path tree, failing if it contains
+     * {@code improver}, the vertex whose arc just improved the distance of {@code vertex}.
+     */
+    private void dismantle( int vertex, int improver, int improvingArc )
+    {
+        if ( vertex == improver )
+        {
+            throw negativeWeightedCycle( vertex, improver, improvingArc );
+        }
+
+        int current = nextInPreorder[vertex];
+        while ( depths[current] > depths[vertex] )
+        {
+            if ( current == improver )
+            {
+                throw negativeWeightedCycle( vertex, improver, improvingArc );
+            }
+            inTree[current] = false;
+            current = nextInPreorder[current];
+        }
+
+        int previous = previousInPreorder[vertex];
+        nextInPreorder[previous] = current;
+        previousInPreorder[current] = previous;
+    }
+
+    private void insertAfter( int previous, int vertex )
+    {
+        int next = nextInPreorder[previous];
+        nextInPreorder[previous] = vertex;
+        previousInPreorder[vertex] = previous;
+        nextInPreorder[vertex] = next;
+        previousInPreorder[next] = vertex;
+    }
+
+    private void enqueue( int vertex )
+    {
+        if ( !queued[vertex] )
+        {
+            queue[( queueHead + queueSize ) % order] = vertex;
+            queueSize++;
+            queued[vertex] = true;
+        }
+    }
+
+    private boolean isZero( W weight )
+    {
+        return weight == null || weight.equals( semiring.zero() );
+    }
+
+    /**
+     * The cycle is made by the tree path from {@code vertex} down to {@code improver}, closed by the improving arc.
+     */
+    private NegativeWeightedCycleException negativeWeightedCycle( int vertex, int improver, int improvingArc )
+    {
+        int length = 1;
+        for ( int current = improver; current != vertex; current = compactGraph.getHead( predecessorArcs[current] ) )
+        {
+            length++;
+        }
+
+        int[] arcs = new int[length];
+        arcs[--length] = improvingArc;
+        for ( int current = improver; current != vertex; current = compactGraph.getHead( predecessorArcs[current] ) )
+        {
+            arcs[--length] = predecessorArcs[current];
+        }
+
+        V start = compactGraph.getVertices().get( vertex );
+        InMemoryWeightedPath<V, WE, W> cycle = new InMemoryWeightedPath<V, WE, W>( start, start, pathWeights, weightedEdges );
+        for ( int arc : arcs )
+        {
+            cycle.addConnectionInTail( compactGraph.getVertices().get( compactGraph.getHead( arc ) ),
+                                       compactGraph.getEdge( arc ),
+                                       compactGraph.getVertices().get( compactGraph.getTail( arc ) ) );
+        }
+
+        return new NegativeWeightedCycleException( cycle, "Graph contains a negative-weight cycle in vertex %s: %s",
+                                                   start, cycle );
+    }
+
+    /**
+     * Returns the distance of the input vertex, {@code null} if not reachable.
+     *
+     * @param vertex the vertex identifier
+     * @return the distance of the input vertex, {@code null} if not reachable
+     */
+    @SuppressWarnings( "unchecked" ) // only W instances are stored in the distances array
+    public W getDistance( int vertex )
+    {
+        return (W) distances[vertex];
+    }
+
+    /**
+     * Builds the shortest path from the search source to the input target.
+     *
+     * @param target the target vertex identifier
+     * @return the shortest path from the search source to the input target, {@code null} if not reachable
+     */
+    public WeightedPath<V, WE, W> buildPath( int target )
+    {
+        if ( distances[target] == null )
+        {
+            return null;
+        }
+
+        int source = target;
+        while ( predecessorArcs[source] >= 0 )
+        {
+            source = compactGraph.getHead( predecessorArcs[source] );
+        }
+
+        InMemoryWeightedPath<V, WE, W> path =
+            new InMemoryWeightedPath<V, WE, W>( compactGraph.getVertices().get( source ), compactGraph.getVertices().get( target ),
+                                                pathWeights, weightedEdges );
+        for ( int current = target; predecessorArcs[current] >= 0; current = compactGraph.getHead( predecessorArcs[current] ) )
+        {
+            int arc = predecessorArcs[current];
+            path.addConnectionInHead( compactGraph.getVertices().get( compactGraph.getHead( arc ) ),
+                                      compactGraph.getEdge( arc ),
+                                      compactGraph.getVertices().get( current ) );
+        }
+        return path;
+    }
+
+}
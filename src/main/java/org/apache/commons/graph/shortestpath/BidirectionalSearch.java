@@ -0,0 +1,266 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.collections.IndexedHeap;
+import org.apache.commons.graph.model.InMemoryWeightedPath;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * Bidirectional point-to-point search: a forward search from the source and a backward search from the target
+ * are alternated, tracking the best path through a vertex reached by both, until the sum of the smallest keys
+ * of the two frontiers proves no better path exists.
+ *
+ * Without a heuristic this is bidirectional Dijkstra; with a heuristic {@code h}, each search is an A* driven by
+ * the <i>average</i> potentials {@code p(v) = ( h(v, target) - h(source, v) ) / 2} (forward) and {@code -p(v)}
+ * (backward), as described by Ikeda et al. and Goldberg and Harrelson: since they sum to zero, the two searches
+ * are consistent with each other and the simple stopping criterion stays correct, provided {@code h} is
+ * consistent. Potentials are kept doubled, so that no division is needed.
+ *
+ * @param <V> The Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> The weight type
+ */
+final class BidirectionalSearch<V, WE, W>
+{
+
+    private final Graph<V, WE> graph;
+
+    private final Mapper<WE, W> weightedEdges;
+
+    private final OrderedMonoid<W> weightOperations;
+
+    private final V source;
+
+    private final V target;
+
+    /**
+     * {@code null} for bidirectional Dijkstra.
+     */
+    private final Heuristic<V, W> heuristic;
+
+    private W best;
+
+    private V touch;
+
+    public BidirectionalSearch( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, OrderedMonoid<W> weightOperations,
+                                V source, V target, Heuristic<V, W> heuristic )
+    {
+        this.graph = graph;
+        this.weightedEdges = weightedEdges;
+        this.weightOperations = weightOperations;
+        this.source = source;
+        this.target = target;
+        this.heuristic = heuristic;
+    }
+
+    /**
+     * Runs the search.
+     *
+     * @return the shortest path from source to target
+     * @throws PathNotFoundException if the target is not reachable from the source
+     */
+    public WeightedPath<V, WE, W> apply()
+    {
+        if ( source.equals( target ) )
+        {
+            return new InMemoryWeightedPath<V, WE, W>( source, target, weightOperations, weightedEdges );
+        }
+
+        Frontier forward = new Frontier( source, false );
+        Frontier backward = new Frontier( target, true );
+
+        while ( !forward.isExhausted() && !backward.isExhausted() )
+        {
+            if ( best != null
+                && weightOperations.compare( weightOperations.append( forward.topKey(), backward.topKey() ), bound( best ) ) >= 0 )
+            {
+                break;
+            }
+
+            // expand the smaller frontier, keeping the two searches balanced
+            if ( forward.size() <= backward.size() )
+            {
+                forward.step( backward );
+            }
+            else
+            {
+                backward.step( forward );
+            }
+        }
+
+        if ( touch == null )
+        {
+            throw new PathNotFoundException( "Path from '%s' to '%s' doesn't exist in Graph '%s'", source, target, graph );
+        }
+
+        return buildPath( forward, backward );
+    }
+
+    /**
+     * The value the frontiers keys sum has to reach to prove the best path is the shortest one.
+     */
+    private W bound( W distance )
+    {
+        return heuristic == null ? distance : weightOperations.append( distance, distance );
+    }
+
+    private WeightedPath<V, WE, W> buildPath( Frontier forward, Frontier backward )
+    {
+        InMemoryWeightedPath<V, WE, W> path = new InMemoryWeightedPath<V, WE, W>( source, target, weightOperations, weightedEdges );
+
+        ShortestPathWorkspace<V, WE, W> workspace = forward.workspace;
+        for ( int vertex = workspace.indexOf( touch ); workspace.getPredecessor( vertex ) >= 0; vertex = workspace.getPredecessor( vertex ) )
+        {
+            path.addConnectionInHead( workspace.getVertex( workspace.getPredecessor( vertex ) ),
+                                      workspace.getPredecessorEdge( vertex ),
+                                      workspace.getVertex( vertex ) );
+        }
+
+        // predecessors of the backward search are successors in the path
+        workspace = backward.workspace;
+        for ( int vertex = workspace.indexOf( touch ); workspace.getPredecessor( vertex ) >= 0; vertex = workspace.getPredecessor( vertex ) )
+        {
+            path.addConnectionInTail( workspace.getVertex( vertex ),
+                                      workspace.getPredecessorEdge( vertex ),
+                                      workspace.getVertex( workspace.getPredecessor( vertex ) ) );
+        }
+
+        return path;
+    }
+
+    /**
+     * One of the two searches.
+     */
+    private final class Frontier
+    {
+
+        private final ShortestPathWorkspace<V, WE, W> workspace = new ShortestPathWorkspace<V, WE, W>();
+
+        private final IndexedHeap<W> open;
+
+        private final boolean backward;
+
+        public Frontier( V root, boolean backward )
+        {
+            this.backward = backward;
+
+            workspace.begin( weightOperations );
+            open = workspace.getOpen();
+
+            int rootIndex = workspace.indexOf( root );
+            workspace.setDistance( rootIndex, weightOperations.identity(), -1, null );
+            open.offer( rootIndex, key( root, weightOperations.identity() ) );
+        }
+
+        /**
+         * The heap key of a vertex at the input distance: the distance, or twice the distance plus twice the
+         * vertex potential when driven by a heuristic.
+         */
+        private W key( V vertex, W distance )
+        {
+            if ( heuristic == null )
+            {
+                return distance;
+            }
+
+            W toTarget = heuristic.applyHeuristic( vertex, target );
+            W fromSource = heuristic.applyHeuristic( source, vertex );
+            W doubledPotential = backward ? weightOperations.append( fromSource, weightOperations.inverse( toTarget ) )
+                                          : weightOperations.append( toTarget, weightOperations.inverse( fromSource ) );
+            return weightOperations.append( weightOperations.append( distance, distance ), doubledPotential );
+        }
+
+        public boolean isExhausted()
+        {
+            return open.isEmpty();
+        }
+
+        public int size()
+        {
+            return open.size();
+        }
+
+        public W topKey()
+        {
+            return open.getKey( open.peek() );
+        }
+
+        /**
+         * Settles the vertex with the smallest key, updating the best path when reaching a vertex
+         * already reached by the opposite search.
+         */
+        public void step( Frontier opposite )
+        {
+            int vertexIndex = open.poll();
+            workspace.settle( vertexIndex );
+
+            V vertex = workspace.getVertex( vertexIndex );
+            W distance = workspace.getDistance( vertexIndex );
+
+            Iterable<V> connected;
+            if ( graph instanceof DirectedGraph )
+            {
+                DirectedGraph<V, WE> directedGraph = (DirectedGraph<V, WE>) graph;
+                connected = backward ? directedGraph.getInbound( vertex ) : directedGraph.getOutbound( vertex );
+            }
+            else
+            {
+                connected = graph.getConnectedVertices( vertex );
+            }
+
+            for ( V v : connected )
+            {
+                int vIndex = workspace.indexOf( v );
+                if ( workspace.isSettled( vIndex ) )
+                {
+                    continue;
+                }
+
+                WE edge = backward ? graph.getEdge( v, vertex ) : graph.getEdge( vertex, v );
+                W shortDist = weightOperations.append( distance, weightedEdges.map( edge ) );
+                W vDistance = workspace.getDistance( vIndex );
+
+                if ( vDistance == null || weightOperations.compare( shortDist, vDistance ) < 0 )
+                {
+                    workspace.setDistance( vIndex, shortDist, vertexIndex, edge );
+                    open.offer( vIndex, key( v, shortDist ) );
+
+                    W oppositeDistance = opposite.workspace.getDistance( opposite.workspace.indexOf( v ) );
+                    if ( oppositeDistance != null )
+                    {
+                        W candidate = weightOperations.append( shortDist, oppositeDistance );
+                        if ( best == null || weightOperations.compare( candidate, best ) < 0 )
+                        {
+                            best = candidate;
+                            touch = v;
+                        }
+                    }
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,244 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.UndirectedGraph;
+import org.apache.commons.graph.VertexPair;
+import org.apache.commons.graph.collections.ElementIndex;
+
+/**
+ * Read-only snapshot of a weighted {@link Graph} in compressed sparse row form: vertices are mapped to dense
+ * identifiers, each edge becomes one arc (two, in opposite directions, for undirected graphs) and the outbound
+ * and inbound arcs of each vertex are stored contiguously, with edge weights mapped once.
+ *
+ * @param <V> The Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> The weight type
+ */
+final class CompactGraph<V, WE, W>
+{
+
+    private final ElementIndex<V> vertices;
+
+    private final int[] heads;
+
+    private final int[] tails;
+
+    private final Object[] edges;
+
+    private final Object[] weights;
+
+    private final int[] outboundStart;
+
+    private final int[] outboundArcs;
+
+    private final int[] inboundStart;
+
+    private final int[] inboundArcs;
+
+    public CompactGraph( Graph<V, WE> graph, Mapper<WE, W> weightedEdges )
+    {
+        vertices = new ElementIndex<V>( graph.getVertices() );
+
+        boolean undirected = graph instanceof UndirectedGraph;
+        int arcs = undirected ? 2 * graph.getSize() : graph.getSize();
+        heads = new int[arcs];
+        tails = new int[arcs];
+        edges = new Object[arcs];
+        weights = new Object[arcs];
+
+        int arc = 0;
+        for ( WE edge : graph.getEdges() )
+        {
+            VertexPair<V> vertexPair = graph.getVertices( edge );
+            int head = vertices.indexOf( vertexPair.getHead() );
+            int tail = vertices.indexOf( vertexPair.getTail() );
+            W weight = weightedEdges.map( edge );
+
+            heads[arc] = head;
+            tails[arc] = tail;
+            edges[arc] = edge;
+            weights[arc++] = weight;
+
+            if ( undirected )
+            {
+                heads[arc] = tail;
+                tails[arc] = head;
+                edges[arc] = edge;
+                weights[arc++] = weight;
+            }
+        }
+
+        outboundStart = new int[vertices.size() + 1];
+        outboundArcs = new int[arcs];
+        group( heads, outboundStart, outboundArcs );
+
+        inboundStart = new int[vertices.size() + 1];
+        inboundArcs = new int[arcs];
+        group( tails, inboundStart, inboundArcs );
+    }
+
+    /**
+     * Counting sort of the arcs by the input endpoint.
+     */
+    private static void group( int[] endpoints, int[] start, int[] arcs )
+    {
+        for ( int endpoint : endpoints )
+        {
+            start[endpoint + 1]++;
+        }
+        for ( int i = 1; i < start.length; i++ )
+        {
+            start[i] += start[i - 1];
+        }
+
+        int[] fill = new int[start.length];
+        System.arraycopy( start, 0, fill, 0, start.length );
+        for ( int arc = 0; arc < endpoints.length; arc++ )
+        {
+            arcs[fill[endpoints[arc]]++] = arc;
+        }
+    }
+
+    /**
+     * Returns the vertex identifiers index.
+     *
+     * @return the vertex identifiers index.
+     */
+    public ElementIndex<V> getVertices()
+    {
+        return vertices;
+    }
+
+    /**
+     * Returns the number of vertices.
+     *
+     * @return the number of vertices.
+     */
+    public int getOrder()
+    {
+        return vertices.size();
+    }
+
+    /**
+     * Returns the number of arcs.
+     *
+     * @return the number of arcs.
+     */
+    public int getArcs()
+    {
+        return heads.length;
+    }
+
+    /**
+     * Returns the identifier of the vertex the input arc leaves from.
+     *
+     * @param arc the arc identifier
+     * @return the identifier of the vertex the input arc leaves from.
+     */
+    public int getHead( int arc )
+    {
+        return heads[arc];
+    }
+
+    /**
+     * Returns the identifier of the vertex the input arc points to.
+     *
+     * @param arc the arc identifier
+     * @return the identifier of the vertex the input arc points to.
+     */
+    public int getTail( int arc )
+    {
+        return tails[arc];
+    }
+
+    /**
+     * Returns the graph edge the input arc was built from.
+     *
+     * @param arc the arc identifier
+     * @return the graph edge the input arc was built from.
+     */
+    @SuppressWarnings( "unchecked" ) // only WE instances are stored in the edges array
+    public WE getEdge( int arc )
+    {
+        return (WE) edges[arc];
+    }
+
+    /**
+     * Returns the weight of the input arc.
+     *
+     * @param arc the arc identifier
+     * @return the weight of the input arc.
+     */
+    @SuppressWarnings( "unchecked" ) // only W instances are stored in the weights array
+    public W getWeight( int arc )
+    {
+        return (W) weights[arc];
+    }
+
+    /**
+     * Returns the position, in the {@link #getOutboundArc(int)} sequence, of the first arc leaving the input vertex;
+     * the arcs leaving the vertex {@code v} are in the {@code [getOutboundStart( v ), getOutboundStart( v + 1 ))} range.
+     *
+     * @param vertex the vertex identifier
+     * @return the position of the first arc leaving the input vertex.
+     */
+    public int getOutboundStart( int vertex )
+    {
+        return outboundStart[vertex];
+    }
+
+    /**
+     * Returns the arc at the input position of the outbound arcs sequence.
+     *
+     * @param position the position in the outbound arcs sequence
+     * @return the arc at the input position of the outbound arcs sequence.
+     */
+    public int getOutboundArc( int position )
+    {
+        return outboundArcs[position];
+    }
+
+    /**
+     * Returns the position, in the {@link #getInboundArc(int)} sequence, of the first arc entering the input vertex;
+     * the arcs entering the vertex {@code v} are in the {@code [getInboundStart( v ), getInboundStart( v + 1 ))} range.
+     *
+     * @param vertex the vertex identifier
+     * @return the position of the first arc entering the input vertex.
+     */
+    public int getInboundStart( int vertex )
+    {
+        return inboundStart[vertex];
+    }
+
+    /**
+     * Returns the arc at the input position of the inbound arcs sequence.
+     *
+     * @param position the position in the inbound arcs sequence
+     * @return the arc at the input position of the inbound arcs sequence.
+     */
+    public int getInboundArc( int position )
+    {
+        return inboundArcs[position];
+    }
+
+}
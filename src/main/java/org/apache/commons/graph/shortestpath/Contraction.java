@@ -0,0 +1,456 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.collections.IndexedHeap;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * Preprocessing step of the {@link ContractionHierarchy}: vertices are contracted one by one, in the order given by
+ * their <i>edge difference</i> (shortcuts added minus edges removed) plus the number of already contracted neighbors,
+ * and a shortcut arc is added between each pair of neighbors whose shortest path passes through the contracted
+ * vertex, unless a local witness search finds an alternative path no longer than that.
+ *
+ * @param <V> The Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> The weight type
+ */
+final class Contraction<V, WE, W>
+{
+
+    /**
+     * Maximum number of vertices settled by a witness search: a missed witness only adds a redundant shortcut.
+     */
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+
+    private static final Comparator<Integer> PRIORITY_COMPARATOR = new Comparator<Integer>()
+    {
+
+        public int compare( Integer o1, Integer o2 )
+        {
+            return o1.compareTo( o2 );
+        }
+
+    };
+
+    private final Graph<V, WE> graph;
+
+    private final Mapper<WE, W> weightedEdges;
+
+    private final OrderedMonoid<W> weightOperations;
+
+    private final CompactGraph<V, WE, W> compactGraph;
+
+    private final int order;
+
+    // arcs, original and shortcuts
+
+    private int arcs = 0;
+
+    private int[] heads;
+
+    private int[] tails;
+
+    private Object[] weights;
+
+    /**
+     * The original edge, for not shortcut arcs.
+     */
+    private Object[] edges;
+
+    /**
+     * The shortcut arcs constituent arcs, {@code -1} for not shortcut arcs.
+     */
+    private int[] firstArcs;
+
+    private int[] secondArcs;
+
+    // adjacency lists of arc identifiers
+
+    private final int[][] outbound;
+
+    private final int[] outboundSizes;
+
+    private final int[][] inbound;
+
+    private final int[] inboundSizes;
+
+    // contraction state
+
+    private final boolean[] contracted;
+
+    private final int[] contractedNeighbors;
+
+    private final int[] ranks;
+
+    // witness search working memory
+
+    private final IndexedHeap<W> witnessOpen;
+
+    private final Object[] witnessDistances;
+
+    private final int[] witnessTouched;
+
+    private int witnessTouchedSize = 0;
+
+    public Contraction( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, OrderedMonoid<W> weightOperations )
+    {
+        this.graph = graph;
+        this.weightedEdges = weightedEdges;
+        this.weightOperations = weightOperations;
+        this.compactGraph = new CompactGraph<V, WE, W>( graph, weightedEdges );
+        this.order = compactGraph.getOrder();
+
+        int capacity = Math.max( 16, 2 * compactGraph.getArcs() );
+        heads = new int[capacity];
+        tails = new int[capacity];
+        weights = new Object[capacity];
+        edges = new Object[capacity];
+        firstArcs = new int[capacity];
+        secondArcs = new int[capacity];
+
+        outbound = new int[order][];
+        outboundSizes = new int[order];
+        inbound = new int[order][];
+        inboundSizes = new int[order];
+        for ( int v = 0; v < order; v++ )
+        {
+            outbound[v] = new int[compactGraph.getOutboundStart( v + 1 ) - compactGraph.getOutboundStart( v ) + 2];
+            inbound[v] = new int[compactGraph.getInboundStart( v + 1 ) - compactGraph.getInboundStart( v ) + 2];
+        }
+
+        contracted = new boolean[order];
+        contractedNeighbors = new int[order];
+        ranks = new int[order];
+
+        witnessOpen = new IndexedHeap<W>( order, weightOperations );
+        witnessDistances = new Object[order];
+        witnessTouched = new int[order];
+    }
+
+    /**
+     * Contracts all the vertices and builds the hierarchy.
+     *
+     * @return the contraction hierarchy
+     */
+    public ContractionHierarchy<V, WE, W> apply()
+    {
+        for ( int arc = 0; arc < compactGraph.getArcs(); arc++ )
+        {
+            int head = compactGraph.getHead( arc );
+            int tail = compactGraph.getTail( arc );
+            if ( head != tail )
+            {
+                addOrImproveArc( head, tail, compactGraph.getWeight( arc ), compactGraph.getEdge( arc ), -1, -1 );
+            }
+        }
+
+        IndexedHeap<Integer> queue = new IndexedHeap<Integer>( order, PRIORITY_COMPARATOR );
+        for ( int v = 0; v < order; v++ )
+        {
+            queue.offer( v, priority( v ) );
+        }
+
+        int rank = 0;
+        while ( !queue.isEmpty() )
+        {
+            // lazy update: the priority may have changed since it was computed
+            int vertex = queue.peek();
+            queue.offer( vertex, priority( vertex ) );
+            if ( queue.peek() != vertex )
+            {
+                continue;
+            }
+            queue.poll();
+
+            contract( vertex, true );
+            contracted[vertex] = true;
+            ranks[vertex] = rank++;
+
+            for ( int i = 0; i < outboundSizes[vertex]; i++ )
+            {
+                contractedNeighbors[tails[outbound[vertex][i]]]++;
+            }
+            for ( int i = 0; i < inboundSizes[vertex]; i++ )
+            {
+                contractedNeighbors[heads[inbound[vertex][i]]]++;
+            }
+        }
+
+        return buildHierarchy();
+    }
+
+    private int priority( int vertex )
+    {
+        int removedArcs = 0;
+        for ( int i = 0; i < outboundSizes[vertex]; i++ )
+        {
+            if ( !contracted[tails[outbound[vertex][i]]] )
+            {
+                removedArcs++;
+            }
+        }
+        for ( int i = 0; i < inboundSizes[vertex]; i++ )
+        {
+            if ( !contracted[heads[inbound[vertex][i]]] )
+            {
+                removedArcs++;
+            }
+        }
+        return contract( vertex, false ) - removedArcs + contractedNeighbors[vertex];
+    }
+
+    /**
+     * Computes the shortcuts needed to contract the input vertex, adding them if {@code apply} is true.
+     *
+     * @return the number of needed shortcuts
+     */
+    private int contract( int vertex, boolean apply )
+    {
+        int shortcuts = 0;
+
+        // the arrays may be replaced while adding shortcuts, but never the ones of the contracted vertex
+        int[] vertexInbound = inbound[vertex];
+        int[] vertexOutbound = outbound[vertex];
+
+        for ( int i = 0; i < inboundSizes[vertex]; i++ )
+        {
+            int inArc = vertexInbound[i];
+            int head = heads[inArc];
+            if ( contracted[head] )
+            {
+                continue;
+            }
+
+            W maxCandidate = null;
+            for ( int j = 0; j < outboundSizes[vertex]; j++ )
+            {
+                int outArc = vertexOutbound[j];
+                int tail = tails[outArc];
+                if ( !contracted[tail] && tail != head )
+                {
+                    W candidate = weightOperations.append( weight( inArc ), weight( outArc ) );
+                    if ( maxCandidate == null || weightOperations.compare( candidate, maxCandidate ) > 0 )
+                    {
+                        maxCandidate = candidate;
+                    }
+                }
+            }
+            if ( maxCandidate == null )
+            {
+                continue;
+            }
+
+            witnessSearch( head, vertex, maxCandidate );
+
+            for ( int j = 0; j < outboundSizes[vertex]; j++ )
+            {
+                int outArc = vertexOutbound[j];
+                int tail = tails[outArc];
+                if ( contracted[tail] || tail == head )
+                {
+                    continue;
+                }
+
+                W candidate = weightOperations.append( weight( inArc ), weight( outArc ) );
+                W witness = witnessDistance( tail );
+                if ( witness == null || weightOperations.compare( witness, candidate ) > 0 )
+                {
+                    shortcuts++;
+                    if ( apply )
+                    {
+                        addOrImproveArc( head, tail, candidate, null, inArc, outArc );
+                    }
+                }
+            }
+
+            resetWitnessSearch();
+        }
+
+        return shortcuts;
+    }
+
+    /**
+     * Dijkstra search from {@code source} over the not yet contracted vertices, skipping {@code excluded}.
+     */
+    private void witnessSearch( int source, int excluded, W bound )
+    {
+        witnessDistances[source] = weightOperations.identity();
+        witnessTouched[witnessTouchedSize++] = source;
+        witnessOpen.offer( source, weightOperations.identity() );
+
+        int settled = 0;
+        while ( !witnessOpen.isEmpty() && settled++ < WITNESS_SETTLE_LIMIT )
+        {
+            int vertex = witnessOpen.poll();
+            W distance = witnessDistance( vertex );
+            if ( weightOperations.compare( distance, bound ) > 0 )
+            {
+                break;
+            }
+
+            for ( int i = 0; i < outboundSizes[vertex]; i++ )
+            {
+                int arc = outbound[vertex][i];
+                int tail = tails[arc];
+                if ( contracted[tail] || tail == excluded )
+                {
+                    continue;
+                }
+
+                W candidate = weightOperations.append( distance, weight( arc ) );
+                W current = witnessDistance( tail );
+                if ( current == null )
+                {
+                    witnessTouched[witnessTouchedSize++] = tail;
+                }
+                if ( current == null || weightOperations.compare( candidate, current ) < 0 )
+                {
+                    witnessDistances[tail] = candidate;
+                    witnessOpen.offer( tail, candidate );
+                }
+            }
+        }
+    }
+
+    private void resetWitnessSearch()
+    {
+        for ( int i = 0; i < witnessTouchedSize; i++ )
+        {
+            witnessDistances[witnessTouched[i]] = null;
+        }
+        witnessTouchedSize = 0;
+        witnessOpen.clear();
+    }
+
+    @SuppressWarnings( "unchecked" ) // only W instances are stored in the distances array
+    private W witnessDistance( int vertex )
+    {
+        return (W) witnessDistances[vertex];
+    }
+
+    @SuppressWarnings( "unchecked" ) // only W instances are stored in the weights array
+    private W weight( int arc )
+    {
+        return (W) weights[arc];
+    }
+
+    private void addOrImproveArc( int head, int tail, W weight, WE edge, int firstArc, int secondArc )
+    {
+        // keep at most one arc per vertex pair, the lightest one
+        for ( int i = 0; i < outboundSizes[head]; i++ )
+        {
+            int arc = outbound[head][i];
+            if ( tails[arc] == tail )
+            {
+                if ( weightOperations.compare( weight, weight( arc ) ) < 0 )
+                {
+                    weights[arc] = weight;
+                    edges[arc] = edge;
+                    firstArcs[arc] = firstArc;
+                    secondArcs[arc] = secondArc;
+                }
+                return;
+            }
+        }
+
+        if ( arcs == heads.length )
+        {
+            int capacity = 2 * arcs;
+            heads = Arrays.copyOf( heads, capacity );
+            tails = Arrays.copyOf( tails, capacity );
+            weights = Arrays.copyOf( weights, capacity );
+            edges = Arrays.copyOf( edges, capacity );
+            firstArcs = Arrays.copyOf( firstArcs, capacity );
+            secondArcs = Arrays.copyOf( secondArcs, capacity );
+        }
+
+        int arc = arcs++;
+        heads[arc] = head;
+        tails[arc] = tail;
+        weights[arc] = weight;
+        edges[arc] = edge;
+        firstArcs[arc] = firstArc;
+        secondArcs[arc] = secondArc;
+
+        if ( outboundSizes[head] == outbound[head].length )
+        {
+            outbound[head] = Arrays.copyOf( outbound[head], 2 * outbound[head].length );
+        }
+        outbound[head][outboundSizes[head]++] = arc;
+
+        if ( inboundSizes[tail] == inbound[tail].length )
+        {
+            inbound[tail] = Arrays.copyOf( inbound[tail], 2 * inbound[tail].length );
+        }
+        inbound[tail][inboundSizes[tail]++] = arc;
+    }
+
+    private ContractionHierarchy<V, WE, W> buildHierarchy()
+    {
+        // upward arcs grouped by head, downward arcs grouped by tail
+        int[] upwardStart = new int[order + 1];
+        int[] downwardStart = new int[order + 1];
+        for ( int arc = 0; arc < arcs; arc++ )
+        {
+            if ( ranks[tails[arc]] > ranks[heads[arc]] )
+            {
+                upwardStart[heads[arc] + 1]++;
+            }
+            else
+            {
+                downwardStart[tails[arc] + 1]++;
+            }
+        }
+        for ( int v = 0; v < order; v++ )
+        {
+            upwardStart[v + 1] += upwardStart[v];
+            downwardStart[v + 1] += downwardStart[v];
+        }
+
+        int[] upwardArcs = new int[upwardStart[order]];
+        int[] downwardArcs = new int[downwardStart[order]];
+        int[] upwardFill = Arrays.copyOf( upwardStart, order );
+        int[] downwardFill = Arrays.copyOf( downwardStart, order );
+        for ( int arc = 0; arc < arcs; arc++ )
+        {
+            if ( ranks[tails[arc]] > ranks[heads[arc]] )
+            {
+                upwardArcs[upwardFill[heads[arc]]++] = arc;
+            }
+            else
+            {
+                downwardArcs[downwardFill[tails[arc]]++] = arc;
+            }
+        }
+
+        return new ContractionHierarchy<V, WE, W>( graph, weightedEdges, weightOperations, compactGraph.getVertices(),
+                                                   Arrays.copyOf( heads, arcs ), Arrays.copyOf( tails, arcs ),
+                                                   Arrays.copyOf( weights, arcs ), Arrays.copyOf( edges, arcs ),
+                                                   Arrays.copyOf( firstArcs, arcs ), Arrays.copyOf( secondArcs, arcs ),
+                                                   upwardStart, upwardArcs, downwardStart, downwardArcs );
+    }
+
+}
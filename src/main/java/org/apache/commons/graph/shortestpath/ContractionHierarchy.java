@@ -0,0 +1,390 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import java.util.Comparator;
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.GraphException;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.collections.ElementIndex;
+import org.apache.commons.graph.collections.IndexedHeap;
+import org.apache.commons.graph.model.InMemoryWeightedPath;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * A <a href="https://en.wikipedia.org/wiki/Contraction_hierarchies">Contraction Hierarchy</a> built on top of a
+ * static graph with non-negative edge weights: once built, point-to-point shortest paths are calculated by a
+ * bidirectional search which only follows arcs towards higher ranked vertices, exploring a tiny fraction of the
+ * vertices a plain Dijkstra search would.
+ *
+ * The hierarchy is a snapshot: changes to the graph after it is built are not reflected.
+ * Queries are thread safe as long as each thread searches with its own {@link Query} working memory.
+ *
+ * @param <V> The Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> The weight type
+ */
+public final class ContractionHierarchy<V, WE, W>
+{
+
+    private final Graph<V, WE> graph;
+
+    private final Mapper<WE, W> weightedEdges;
+
+    private final OrderedMonoid<W> weightOperations;
+
+    private final ElementIndex<V> vertices;
+
+    private final int[] heads;
+
+    private final int[] tails;
+
+    private final Object[] weights;
+
+    private final Object[] edges;
+
+    private final int[] firstArcs;
+
+    private final int[] secondArcs;
+
+    private final int[] upwardStart;
+
+    private final int[] upwardArcs;
+
+    private final int[] downwardStart;
+
+    private final int[] downwardArcs;
+
+    /**
+     * Constructor visible only inside the package
+     */
+    ContractionHierarchy( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, OrderedMonoid<W> weightOperations,
+                          ElementIndex<V> vertices, int[] heads, int[] tails, Object[] weights, Object[] edges,
+                          int[] firstArcs, int[] secondArcs,
+                          int[] upwardStart, int[] upwardArcs, int[] downwardStart, int[] downwardArcs )
+    {
+        this.graph = graph;
+        this.weightedEdges = weightedEdges;
+        this.weightOperations = weightOperations;
+        this.vertices = vertices;
+        this.heads = heads;
+        this.tails = tails;
+        this.weights = weights;
+        this.edges = edges;
+        this.firstArcs = firstArcs;
+        this.secondArcs = secondArcs;
+        this.upwardStart = upwardStart;
+        this.upwardArcs = upwardArcs;
+        this.downwardStart = downwardStart;
+        this.downwardArcs = downwardArcs;
+    }
+
+    /**
+     * Returns the shortest path between source and target
+     *
+     * @param source The source Vertex
+     * @param target The target Vertex
+     * @return a path which describes the shortest path, if any, otherwise a {@link PathNotFoundException} will be thrown
+     */
+    public WeightedPath<V, WE, W> findShortestPath( V source, V target )
+    {
+        return findShortestPath( source, target, newQuery() );
+    }
+
+    /**
+     * Returns the shortest path between source and target, reusing the working memory of previous queries.
+     *
+     * @param source The source Vertex
+     * @param target The target Vertex
+     * @param query the query working memory, created by {@link #newQuery()}
+     * @return a path which describes the shortest path, if any, otherwise a {@link PathNotFoundException} will be thrown
+     */
+    public WeightedPath<V, WE, W> findShortestPath( V source, V target, Query<W> query )
+    {
+        source = checkNotNull( source, "Shortest path can not be calculated from a null source" );
+        target = checkNotNull( target, "Shortest path can not be calculated to a null target" );
+        query = checkNotNull( query, "Shortest path can not be calculated with a null query" );
+        checkArgument( query.forwardArcs.length == vertices.size() && query.unpackStack.length == heads.length + 1,
+                       "The query has not been created by this hierarchy" );
+
+        int sourceIndex = vertices.indexOf( source );
+        if ( sourceIndex < 0 )
+        {
+            throw new GraphException( "Vertex %s does not exist in the Graph", source );
+        }
+        int targetIndex = vertices.indexOf( target );
+        if ( targetIndex < 0 )
+        {
+            throw new GraphException( "Vertex %s does not exist in the Graph", target );
+        }
+
+        try
+        {
+            return search( query, source, target, sourceIndex, targetIndex );
+        }
+        finally
+        {
+            query.forward.reset();
+            query.backward.reset();
+        }
+    }
+
+    /**
+     * Creates the working memory of a query, which can be reused by the subsequent queries of one thread.
+     *
+     * @return the working memory of a query on this hierarchy
+     */
+    public Query<W> newQuery()
+    {
+        return new Query<W>( vertices.size(), heads.length, weightOperations );
+    }
+
+    /**
+     * Returns the number of arcs in the hierarchy, original edges and shortcuts.
+     *
+     * @return the number of arcs in the hierarchy.
+     */
+    public int getArcs()
+    {
+        return heads.length;
+    }
+
+    @SuppressWarnings( "unchecked" ) // only W instances are stored in the weights arrays
+    private W weight( Object[] weights, int index )
+    {
+        return (W) weights[index];
+    }
+
+    private WeightedPath<V, WE, W> search( Query<W> query, V source, V target, int sourceIndex, int targetIndex )
+    {
+        InMemoryWeightedPath<V, WE, W> path =
+            new InMemoryWeightedPath<V, WE, W>( source, target, weightOperations, weightedEdges );
+        if ( sourceIndex == targetIndex )
+        {
+            return path;
+        }
+
+        Direction<W> forward = query.forward;
+        Direction<W> backward = query.backward;
+
+        forward.start( sourceIndex, weightOperations.identity() );
+        backward.start( targetIndex, weightOperations.identity() );
+
+        query.best = null;
+        query.meeting = -1;
+
+        while ( !forward.open.isEmpty() || !backward.open.isEmpty() )
+        {
+            step( query, forward, backward, upwardStart, upwardArcs, tails );
+            step( query, backward, forward, downwardStart, downwardArcs, heads );
+        }
+
+        int meeting = query.meeting;
+        if ( meeting < 0 )
+        {
+            throw new PathNotFoundException( "Path from '%s' to '%s' doesn't exist in Graph '%s'", source, target, graph );
+        }
+
+        // forward arcs are collected from the meeting point back to the source
+        int forwardSize = 0;
+        for ( int vertex = meeting; vertex != sourceIndex; vertex = heads[forward.predecessors[vertex]] )
+        {
+            query.forwardArcs[forwardSize++] = forward.predecessors[vertex];
+        }
+        for ( int i = forwardSize - 1; i >= 0; i-- )
+        {
+            unpack( query.unpackStack, query.forwardArcs[i], path );
+        }
+        for ( int vertex = meeting; vertex != targetIndex; vertex = tails[backward.predecessors[vertex]] )
+        {
+            unpack( query.unpackStack, backward.predecessors[vertex], path );
+        }
+
+        return path;
+    }
+
+    /**
+     * Settles the next vertex of one of the two upward searches, following the arcs from {@code arcs[start[v]]}
+     * to {@code arcs[start[v + 1] - 1]} which lead to their {@code reached} endpoint.
+     */
+    private void step( Query<W> query, Direction<W> direction, Direction<W> opposite,
+                       int[] start, int[] arcs, int[] reached )
+    {
+        if ( direction.open.isEmpty() )
+        {
+            return;
+        }
+        if ( query.best != null
+            && weightOperations.compare( direction.open.getKey( direction.open.peek() ), query.best ) >= 0 )
+        {
+            // no better meeting point can be found in this direction
+            direction.open.clear();
+            return;
+        }
+
+        int vertex = direction.open.poll();
+        W distance = direction.distance( vertex );
+
+        for ( int i = start[vertex]; i < start[vertex + 1]; i++ )
+        {
+            int arc = arcs[i];
+            int next = reached[arc];
+
+            W candidate = weightOperations.append( distance, weight( weights, arc ) );
+            W current = direction.distance( next );
+            if ( current == null || weightOperations.compare( candidate, current ) < 0 )
+            {
+                direction.reach( next, candidate, arc, current == null );
+            }
+        }
+
+        W oppositeDistance = opposite.distance( vertex );
+        if ( oppositeDistance != null )
+        {
+            W candidate = weightOperations.append( distance, oppositeDistance );
+            if ( query.best == null || weightOperations.compare( candidate, query.best ) < 0 )
+            {
+                query.best = candidate;
+                query.meeting = vertex;
+            }
+        }
+    }
+
+    /**
+     * Replaces, iteratively, each shortcut with its constituent arcs, appending the original edges to the path.
+     */
+    private void unpack( int[] unpackStack, int arc, InMemoryWeightedPath<V, WE, W> path )
+    {
+        int size = 0;
+        unpackStack[size++] = arc;
+        while ( size > 0 )
+        {
+            int current = unpackStack[--size];
+            if ( firstArcs[current] < 0 )
+            {
+                @SuppressWarnings( "unchecked" ) // only WE instances are stored in the edges array
+                WE edge = (WE) edges[current];
+                path.addConnectionInTail( vertices.get( heads[current] ), edge, vertices.get( tails[current] ) );
+            }
+            else
+            {
+                unpackStack[size++] = secondArcs[current];
+                unpackStack[size++] = firstArcs[current];
+            }
+        }
+    }
+
+    /**
+     * The working memory of a query, reset after each use in a time proportional to the number of reached vertices.
+     * It holds no reference to the hierarchy it has been created by.
+     *
+     * <p><b>Note</b>: a query can be used by one search at a time, it is NOT thread safe!</p>
+     *
+     * @param <W> The weight type
+     */
+    public static final class Query<W>
+    {
+
+        private final Direction<W> forward;
+
+        private final Direction<W> backward;
+
+        private final int[] unpackStack;
+
+        private final int[] forwardArcs;
+
+        private W best;
+
+        private int meeting;
+
+        private Query( int order, int arcs, Comparator<? super W> comparator )
+        {
+            forward = new Direction<W>( order, comparator );
+            backward = new Direction<W>( order, comparator );
+            unpackStack = new int[arcs + 1];
+            forwardArcs = new int[order];
+        }
+
+    }
+
+    /**
+     * One of the two upward searches of a query.
+     */
+    private static final class Direction<W>
+    {
+
+        private final IndexedHeap<W> open;
+
+        private final Object[] distances;
+
+        private final int[] predecessors;
+
+        private final int[] touched;
+
+        private int touchedSize = 0;
+
+        public Direction( int order, Comparator<? super W> comparator )
+        {
+            open = new IndexedHeap<W>( order, comparator );
+            distances = new Object[order];
+            predecessors = new int[order];
+            touched = new int[order];
+        }
+
+        public void start( int vertex, W identity )
+        {
+            reach( vertex, identity, -1, true );
+        }
+
+        @SuppressWarnings( "unchecked" ) // only W instances are stored in the distances array
+        public W distance( int vertex )
+        {
+            return (W) distances[vertex];
+        }
+
+        public void reach( int vertex, W distance, int arc, boolean first )
+        {
+            if ( first )
+            {
+                touched[touchedSize++] = vertex;
+            }
+            distances[vertex] = distance;
+            predecessors[vertex] = arc;
+            open.offer( vertex, distance );
+        }
+
+        public void reset()
+        {
+            for ( int i = 0; i < touchedSize; i++ )
+            {
+                distances[touched[i]] = null;
+            }
+            touchedSize = 0;
+            open.clear();
+        }
+
+    }
+
+}
@@ -0,0 +1,69 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * {@link HeuristicBuilder} running the bidirectional A* algorithm.
+ *
+ * @param <V> The Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> The weight type
+ */
+final class DefaultBidirectionalHeuristicBuilder<V, WE, W>
+    implements HeuristicBuilder<V, WE, W>
+{
+
+    private final Graph<V, WE> graph;
+
+    private final Mapper<WE, W> weightedEdges;
+
+    private final V source;
+
+    private final V target;
+
+    private final OrderedMonoid<W> weightOperations;
+
+    public DefaultBidirectionalHeuristicBuilder( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, V source, V target,
+                                                 OrderedMonoid<W> weightOperations )
+    {
+        this.graph = graph;
+        this.weightedEdges = weightedEdges;
+        this.source = source;
+        this.target = target;
+        this.weightOperations = weightOperations;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <H extends Heuristic<V, W>> WeightedPath<V, WE, W> withHeuristic( H heuristic )
+    {
+        heuristic = checkNotNull( heuristic, "Bidirectional A* algorithm can not be applied using a null heuristic" );
+        return new BidirectionalSearch<V, WE, W>( graph, weightedEdges, weightOperations, source, target, heuristic ).apply();
+    }
+
+}
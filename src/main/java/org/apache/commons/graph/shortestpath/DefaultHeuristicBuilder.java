@@ -21,15 +21,11 @@ package org.apache.commons.graph.shortestpath;
 
 import static org.apache.commons.graph.utils.Assertions.checkNotNull;
 
-import java.util.HashSet;
-import java.util.Queue;
-import java.util.Set;
-
 import org.apache.commons.graph.DirectedGraph;
 import org.apache.commons.graph.Graph;
 import org.apache.commons.graph.Mapper;
 import org.apache.commons.graph.WeightedPath;
-import org.apache.commons.graph.collections.FibonacciHeap;
+import org.apache.commons.graph.collections.IndexedHeap;
 import org.apache.commons.graph.weight.OrderedMonoid;
 
 final class DefaultHeuristicBuilder<V, WE, W>
@@ -46,13 +42,17 @@ final class DefaultHeuristicBuilder<V, WE, W>
 
     private final OrderedMonoid<W> weightOperations;
 
-    public DefaultHeuristicBuilder( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, V source, V target, OrderedMonoid<W> weightOperations )
+    private final ShortestPathWorkspace<V, WE, W> workspace;
+
+    public DefaultHeuristicBuilder( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, V source, V target,
+                                    OrderedMonoid<W> weightOperations, ShortestPathWorkspace<V, WE, W> workspace )
     {
         this.graph = graph;
         this.weightedEdges = weightedEdges;
         this.start = source;
         this.goal = target;
         this.weightOperations = weightOperations;
+        this.workspace = workspace;
     }
 
     /**
@@ -62,55 +62,52 @@ final class DefaultHeuristicBuilder<V, WE, W>
     {
         heuristic = checkNotNull( heuristic, "A* algorithm can not be applied using a null heuristic" );
 
-        // Cost from start along best known path.
-        final ShortestDistances<V, W> gScores = new ShortestDistances<V, W>( weightOperations );
-        gScores.setWeight( start, weightOperations.identity() );
+        workspace.begin( weightOperations );
 
-        // Estimated total cost from start to goal through y.
-        final ShortestDistances<V, W> fScores = new ShortestDistances<V, W>( weightOperations );
-        W hScore = heuristic.applyHeuristic( start, goal );
-        fScores.setWeight( start, hScore );
+        // The set of tentative nodes to be evaluated, keyed by their estimated total cost from start to goal.
+        final IndexedHeap<W> openSet = workspace.getOpen();
 
-        // The set of nodes already evaluated.
-        final Set<V> closedSet = new HashSet<V>();
+        int startIndex = workspace.indexOf( start );
+        int goalIndex = workspace.indexOf( goal );
 
-        // The set of tentative nodes to be evaluated.
-        final Queue<V> openSet = new FibonacciHeap<V>( fScores );
-        openSet.add( start );
-
-        // The of navigated nodes
-        final PredecessorsList<V, WE, W> predecessors = new PredecessorsList<V, WE, W>( graph, weightOperations, weightedEdges );
+        // Cost from start along best known path, and the navigated nodes.
+        workspace.setDistance( startIndex, weightOperations.identity(), -1, null );
+        // start is the only tentative node, its estimated cost is irrelevant
+        openSet.offer( startIndex, weightOperations.identity() );
 
         // extract the node in openset having the lowest f_score[] value
         while ( !openSet.isEmpty() )
         {
-            V current = openSet.remove();
+            int currentIndex = openSet.poll();
 
             // destination reached, stop and build the path
-            if ( goal.equals( current ) )
+            if ( currentIndex == goalIndex )
             {
-                return predecessors.buildPath( start, goal );
+                return workspace.buildPath( startIndex, goalIndex, weightedEdges );
             }
 
-            closedSet.add( current );
+            // the node is now evaluated
+            workspace.settle( currentIndex );
+
+            V current = workspace.getVertex( currentIndex );
+            W gScore = workspace.getDistance( currentIndex );
 
             Iterable<V> connected = ( graph instanceof DirectedGraph ) ? ( (DirectedGraph<V, WE>) graph ).getOutbound( current )
                                                                        : graph.getConnectedVertices( current );
             for ( V v : connected )
             {
-                if ( !closedSet.contains( v ) )
+                int vIndex = workspace.indexOf( v );
+                if ( !workspace.isSettled( vIndex ) )
                 {
                     WE edge = graph.getEdge( current, v );
-                    // note that the weight of current can never be undefined
-                    W tentativeGScore = weightOperations.append( gScores.getWeight( current ), weightedEdges.map( edge ) );
+                    W tentativeGScore = weightOperations.append( gScore, weightedEdges.map( edge ) );
+                    W vGScore = workspace.getDistance( vIndex );
 
-                    // if the first condition fails, v has already been visited (its weight is defined)
-                    if ( openSet.add( v ) || weightOperations.compare( tentativeGScore, gScores.getWeight( v ) ) < 0 )
+                    if ( vGScore == null || weightOperations.compare( tentativeGScore, vGScore ) < 0 )
                     {
-                        predecessors.addPredecessor( v, current );
-                        gScores.setWeight( v, tentativeGScore );
-                        hScore = heuristic.applyHeuristic( v, goal );
-                        fScores.setWeight( v, weightOperations.append( gScores.getWeight( v ), hScore ) );
+                        workspace.setDistance( vIndex, tentativeGScore, currentIndex, edge );
+                        W hScore = heuristic.applyHeuristic( v, goal );
+                        openSet.offer( vIndex, weightOperations.append( tentativeGScore, hScore ) );
                     }
                 }
             }
@@ -21,15 +21,15 @@ package org.apache.commons.graph.shortestpath;
 
 import static org.apache.commons.graph.utils.Assertions.checkNotNull;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.commons.graph.Graph;
-import org.apache.commons.graph.UndirectedGraph;
-import org.apache.commons.graph.VertexPair;
 import org.apache.commons.graph.Mapper;
-import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.Mappers;
+import org.apache.commons.graph.weight.MinPlusSemiring;
 import org.apache.commons.graph.weight.OrderedMonoid;
+import org.apache.commons.graph.weight.Semiring;
 
 final class DefaultPathSourceSelector<V, WE, W>
     implements PathSourceSelector<V, WE, W>
@@ -52,68 +52,41 @@ final class DefaultPathSourceSelector<V, WE, W>
     {
         weightOperations = checkNotNull( weightOperations, "Floyd-Warshall algorithm can not be applied using null weight operations" );
 
-        AllVertexPairsShortestPath<V, WE, W> shortestPaths = new AllVertexPairsShortestPath<V, WE, W>( weightOperations );
-        Map<VertexPair<V>, V> next = new HashMap<VertexPair<V>, V>();
+        ShortestPathMatrix<V, WE, W> matrix =
+            new FloydWarshall<V, WE, W>( graph, precomputedWeights(), new MinPlusSemiring<W>( weightOperations ), weightOperations ).apply();
+        return new AllVertexPairsShortestPath<V, WE, W>( matrix );
+    }
 
-        // init
-        for ( WE we : graph.getEdges() )
-        {
-            VertexPair<V> vertexPair = graph.getVertices( we );
-            shortestPaths.addShortestDistance( vertexPair.getHead(), vertexPair.getTail(), weightedEdges.map( we ) );
+    /**
+     * {@inheritDoc}
+     */
+    public <S extends Semiring<W>> AllVertexPairsShortestPath<V, WE, W> applyingFloydWarshallOver( S semiring )
+    {
+        semiring = checkNotNull( semiring, "Floyd-Warshall algorithm can not be applied over a null semiring" );
 
-            if ( graph instanceof UndirectedGraph )
-            {
-                shortestPaths.addShortestDistance( vertexPair.getTail(), vertexPair.getHead(), weightedEdges.map( we ) );
-            }
-        }
+        ShortestPathMatrix<V, WE, W> matrix =
+            new FloydWarshall<V, WE, W>( graph, precomputedWeights(), semiring, new SemiringPathWeights<W>( semiring ) ).apply();
+        return new AllVertexPairsShortestPath<V, WE, W>( matrix );
+    }
 
-        // run the Floyd-Warshall algorithm.
-        for ( V k : graph.getVertices() )
-        {
-            for ( V i : graph.getVertices() )
-            {
-                for ( V j : graph.getVertices() )
-                {
-                    if ( shortestPaths.hasShortestDistance( i, k ) && shortestPaths.hasShortestDistance( k, j ) )
-                    {
-                        W newDistance = weightOperations.append( shortestPaths.getShortestDistance( i, k ), shortestPaths.getShortestDistance( k, j ) );
-                        if ( !shortestPaths.hasShortestDistance( i, j )
-                                || weightOperations.compare( newDistance, shortestPaths.getShortestDistance( i, j ) ) < 0 )
-                        {
-                            shortestPaths.addShortestDistance( i, j, newDistance );
-
-                            // store the intermediate vertex
-                            next.put( new VertexPair<V>( i, j ), k );
-                        }
-                    }
-
-                }
-            }
-        }
+    /**
+     * {@inheritDoc}
+     */
+    public <WO extends OrderedMonoid<W>> AllVertexPairsShortestPath<V, WE, W> applyingJohnson( WO weightOperations )
+    {
+        weightOperations = checkNotNull( weightOperations, "Johnson algorithm can not be applied using null weight operations" );
 
-        // fills all WeightedPaths
-        for ( V source : graph.getVertices() )
-        {
-            for ( V target : graph.getVertices() )
-            {
-                if ( !source.equals( target ) )
-                {
-                    PredecessorsList<V, WE, W> predecessorsList = new PredecessorsList<V, WE, W>( graph, weightOperations, weightedEdges );
-
-                    pathReconstruction( predecessorsList, source, target, next );
-                    if ( !predecessorsList.isEmpty() )
-                    {
-                        WeightedPath<V, WE, W> weightedPath = predecessorsList.buildPath( source, target );
-                        if ( weightedPath.getOrder() > 0 )
-                        {
-                            shortestPaths.addShortestPath( source, target, weightedPath );
-                        }
-                    }
-                }
-            }
-        }
+        ShortestPathMatrix<V, WE, W> matrix = new Johnson<V, WE, W>( graph, precomputedWeights(), weightOperations ).apply();
+        return new AllVertexPairsShortestPath<V, WE, W>( matrix );
+    }
 
-        return shortestPaths;
+    /**
+     * {@inheritDoc}
+     */
+    public <WO extends OrderedMonoid<W>> ContractionHierarchy<V, WE, W> applyingContractionHierarchy( WO weightOperations )
+    {
+        weightOperations = checkNotNull( weightOperations, "Contraction Hierarchy can not be built using null weight operations" );
+        return new Contraction<V, WE, W>( graph, precomputedWeights(), weightOperations ).apply();
     }
 
     /**
@@ -125,25 +98,28 @@ final class DefaultPathSourceSelector<V, WE, W>
         return new DefaultTargetSourceSelector<V, WE, W>( graph, weightedEdges, source );
     }
 
-    private void pathReconstruction( PredecessorsList<V, WE, W> path,
-                                     V source, V target,
-                                     Map<VertexPair<V>, V> next )
+    /**
+     * {@inheritDoc}
+     */
+    public <S extends V> TargetsSelector<V, WE, W> fromAll( Iterable<S> sources )
+    {
+        sources = checkNotNull( sources, "Shortest paths can not be calculated from null sources" );
+        return new DefaultTargetsSelector<V, WE, W>( graph, precomputedWeights(), DefaultPathSourceSelector.<V>toList( sources, "source" ) );
+    }
+
+    private Mapper<WE, W> precomputedWeights()
     {
-        V k = next.get( new VertexPair<V>( source, target ) );
-        if ( k == null )
-        {
-            // there is a direct path between a and b
-            WE edge = graph.getEdge( source, target );
-            if ( edge != null )
-            {
-                path.addPredecessor( target, source );
-            }
-        }
-        else
+        return Mappers.precomputeIfExpensive( graph, weightedEdges );
+    }
+
+    static <V> List<V> toList( Iterable<? extends V> vertices, String role )
+    {
+        List<V> list = new ArrayList<V>();
+        for ( V vertex : vertices )
         {
-            pathReconstruction( path, source, k, next );
-            pathReconstruction( path, k, target, next );
+            list.add( checkNotNull( vertex, "Shortest paths can not be calculated with a null %s", role ) );
         }
+        return list;
     }
 
-}
\ No newline at end of file
+}
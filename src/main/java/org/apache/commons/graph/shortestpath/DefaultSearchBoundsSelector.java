@@ -0,0 +1,177 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.collections.IndexedHeap;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+final class DefaultSearchBoundsSelector<V, WE, W>
+    implements SearchBoundsSelector<V, WE, W>
+{
+
+    private final Graph<V, WE> graph;
+
+    private final Mapper<WE, W> weightedEdges;
+
+    private final V source;
+
+    /**
+     * {@code null} if the distance is not bounded.
+     */
+    private final W maxDistance;
+
+    private final int maxSettled;
+
+    /**
+     * {@code null} if the search is not bounded to a targets set.
+     */
+    private final Set<V> targets;
+
+    public DefaultSearchBoundsSelector( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, V source )
+    {
+        this( graph, weightedEdges, source, null, Integer.MAX_VALUE, null );
+    }
+
+    private DefaultSearchBoundsSelector( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, V source,
+                                         W maxDistance, int maxSettled, Set<V> targets )
+    {
+        this.graph = graph;
+        this.weightedEdges = weightedEdges;
+        this.source = source;
+        this.maxDistance = maxDistance;
+        this.maxSettled = maxSettled;
+        this.targets = targets;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public SearchBoundsSelector<V, WE, W> within( W maxDistance )
+    {
+        maxDistance = checkNotNull( maxDistance, "Shortest paths search can not be bounded by a null distance" );
+        return new DefaultSearchBoundsSelector<V, WE, W>( graph, weightedEdges, source, maxDistance, maxSettled, targets );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public SearchBoundsSelector<V, WE, W> settlingAtMost( int maxSettled )
+    {
+        checkArgument( maxSettled > 0, "Shortest paths search has to settle at least the source, %s found", maxSettled );
+        return new DefaultSearchBoundsSelector<V, WE, W>( graph, weightedEdges, source, maxDistance, maxSettled, targets );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <T extends V> SearchBoundsSelector<V, WE, W> toAll( Iterable<T> targets )
+    {
+        targets = checkNotNull( targets, "Shortest paths search can not be bounded by null targets" );
+        Set<V> targetsSet = new HashSet<V>();
+        for ( T target : targets )
+        {
+            targetsSet.add( checkNotNull( target, "Shortest paths search can not be bounded by a null target" ) );
+        }
+        return new DefaultSearchBoundsSelector<V, WE, W>( graph, weightedEdges, source, maxDistance, maxSettled, targetsSet );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <WO extends OrderedMonoid<W>> ShortestPathTree<V, WE, W> applyingDijkstra( WO weightOperations )
+    {
+        return applyingDijkstra( weightOperations, new ShortestPathWorkspace<V, WE, W>() );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <WO extends OrderedMonoid<W>> ShortestPathTree<V, WE, W> applyingDijkstra( WO weightOperations,
+                                                                                    ShortestPathWorkspace<V, WE, W> workspace )
+    {
+        weightOperations = checkNotNull( weightOperations, "Dijkstra algorithm can not be applied using null weight operations" );
+        workspace = checkNotNull( workspace, "Dijkstra algorithm can not be applied using a null workspace" );
+
+        final ShortestPathTree<V, WE, W> tree = new ShortestPathTree<V, WE, W>( weightOperations, weightedEdges, source );
+
+        workspace.begin( weightOperations );
+
+        final IndexedHeap<W> unsettledNodes = workspace.getOpen();
+
+        int sourceIndex = workspace.indexOf( source );
+        workspace.setDistance( sourceIndex, weightOperations.identity(), -1, null );
+        unsettledNodes.offer( sourceIndex, weightOperations.identity() );
+
+        int remainingTargets = targets == null ? -1 : targets.size();
+
+        // extract the node with the shortest distance, until a bound is hit
+        while ( !unsettledNodes.isEmpty() && tree.getSize() < maxSettled && remainingTargets != 0 )
+        {
+            int vertexIndex = unsettledNodes.poll();
+            V vertex = workspace.getVertex( vertexIndex );
+            W distance = workspace.getDistance( vertexIndex );
+
+            if ( maxDistance != null && weightOperations.compare( distance, maxDistance ) > 0 )
+            {
+                break;
+            }
+
+            workspace.settle( vertexIndex );
+            int predecessor = workspace.getPredecessor( vertexIndex );
+            tree.settle( vertex, distance, predecessor < 0 ? null : workspace.getVertex( predecessor ),
+                         workspace.getPredecessorEdge( vertexIndex ) );
+
+            if ( targets != null && targets.contains( vertex ) )
+            {
+                remainingTargets--;
+            }
+
+            for ( V v : graph.getConnectedVertices( vertex ) )
+            {
+                int vIndex = workspace.indexOf( v );
+
+                // skip node already settled
+                if ( !workspace.isSettled( vIndex ) )
+                {
+                    WE edge = graph.getEdge( vertex, v );
+                    W shortDist = weightOperations.append( distance, weightedEdges.map( edge ) );
+                    W vDistance = workspace.getDistance( vIndex );
+
+                    if ( vDistance == null || weightOperations.compare( shortDist, vDistance ) < 0 )
+                    {
+                        workspace.setDistance( vIndex, shortDist, vertexIndex, edge );
+                        unsettledNodes.offer( vIndex, shortDist );
+                    }
+                }
+            }
+        }
+
+        return tree;
+    }
+
+}
@@ -19,9 +19,11 @@ package org.apache.commons.graph.shortestpath;
  * under the License.
  */
 
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
 import static org.apache.commons.graph.utils.Assertions.checkNotNull;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Queue;
 import java.util.Set;
 import org.apache.commons.graph.DirectedGraph;
@@ -30,6 +32,7 @@ import org.apache.commons.graph.Graph;
 import org.apache.commons.graph.Mapper;
 import org.apache.commons.graph.WeightedPath;
 import org.apache.commons.graph.collections.FibonacciHeap;
+import org.apache.commons.graph.collections.IndexedHeap;
 import org.apache.commons.graph.weight.OrderedMonoid;
 
 final class DefaultShortestPathAlgorithmSelector<V, WE, W>
@@ -56,9 +59,28 @@ final class DefaultShortestPathAlgorithmSelector<V, WE, W>
      * {@inheritDoc}
      */
     public <WO extends OrderedMonoid<W>> HeuristicBuilder<V, WE, W> applyingAStar( WO weightOperations )
+    {
+        return applyingAStar( weightOperations, new ShortestPathWorkspace<V, WE, W>() );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <WO extends OrderedMonoid<W>> HeuristicBuilder<V, WE, W> applyingAStar( WO weightOperations,
+                                                                                 ShortestPathWorkspace<V, WE, W> workspace )
     {
         weightOperations = checkNotNull( weightOperations, "A* algorithm can not be applied using null weight operations" );
-        return new DefaultHeuristicBuilder<V, WE, W>( graph, weightedEdges, source, target, weightOperations );
+        workspace = checkNotNull( workspace, "A* algorithm can not be applied using a null workspace" );
+        return new DefaultHeuristicBuilder<V, WE, W>( graph, weightedEdges, source, target, weightOperations, workspace );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <WO extends OrderedMonoid<W>> HeuristicBuilder<V, WE, W> applyingBidirectionalAStar( WO weightOperations )
+    {
+        weightOperations = checkNotNull( weightOperations, "Bidirectional A* algorithm can not be applied using null weight operations" );
+        return new DefaultBidirectionalHeuristicBuilder<V, WE, W>( graph, weightedEdges, source, target, weightOperations );
     }
 
     /**
@@ -185,62 +207,90 @@ final class DefaultShortestPathAlgorithmSelector<V, WE, W>
         return predecessorsForward.buildPath( source, touch, target, predecessorsBackwards );
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public <WO extends OrderedMonoid<W>> WeightedPath<V, WE, W> applyingParallelBidirectionalDijkstra( WO weightOperations )
+    {
+        weightOperations = checkNotNull( weightOperations, "Bidirectional Dijkstra algorithm can not be applied using null weight operations" );
+        return new ParallelBidirectionalDijkstra<V, WE, W>( graph, weightedEdges, weightOperations, source, target ).apply();
+    }
+
     /**
      * {@inheritDoc}
      */
     public <WO extends OrderedMonoid<W>> WeightedPath<V, WE, W> applyingDijkstra( WO weightOperations )
+    {
+        return applyingDijkstra( weightOperations, new ShortestPathWorkspace<V, WE, W>() );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <WO extends OrderedMonoid<W>> WeightedPath<V, WE, W> applyingDijkstra( WO weightOperations,
+                                                                                ShortestPathWorkspace<V, WE, W> workspace )
     {
         weightOperations = checkNotNull( weightOperations, "Dijkstra algorithm can not be applied using null weight operations" );
+        workspace = checkNotNull( workspace, "Dijkstra algorithm can not be applied using a null workspace" );
 
-        final ShortestDistances<V, W> shortestDistances = new ShortestDistances<V, W>( weightOperations );
-        shortestDistances.setWeight( source, weightOperations.identity() );
+        workspace.begin( weightOperations );
 
-        final Queue<V> unsettledNodes = new FibonacciHeap<V>( shortestDistances );
-        unsettledNodes.add( source );
+        final IndexedHeap<W> unsettledNodes = workspace.getOpen();
 
-        final Set<V> settledNodes = new HashSet<V>();
+        int sourceIndex = workspace.indexOf( source );
+        int targetIndex = workspace.indexOf( target );
 
-        final PredecessorsList<V, WE, W> predecessors = new PredecessorsList<V, WE, W>( graph, weightOperations, weightedEdges );
+        workspace.setDistance( sourceIndex, weightOperations.identity(), -1, null );
+        unsettledNodes.offer( sourceIndex, weightOperations.identity() );
 
         // extract the node with the shortest distance
         while ( !unsettledNodes.isEmpty() )
         {
-            V vertex = unsettledNodes.remove();
+            int vertexIndex = unsettledNodes.poll();
 
             // destination reached, stop and build the path
-            if ( target.equals( vertex ) )
+            if ( vertexIndex == targetIndex )
             {
-                return predecessors.buildPath( source, target );
+                return workspace.buildPath( sourceIndex, targetIndex, weightedEdges );
             }
 
-            settledNodes.add( vertex );
+            workspace.settle( vertexIndex );
+
+            V vertex = workspace.getVertex( vertexIndex );
+            W distance = workspace.getDistance( vertexIndex );
 
             for ( V v : graph.getConnectedVertices( vertex ) )
             {
+                int vIndex = workspace.indexOf( v );
+
                 // skip node already settled
-                if ( !settledNodes.contains( v ) )
+                if ( !workspace.isSettled( vIndex ) )
                 {
                     WE edge = graph.getEdge( vertex, v );
-                    if ( shortestDistances.alreadyVisited( vertex ) )
-                    {
-                        W shortDist = weightOperations.append( shortestDistances.getWeight( vertex ), weightedEdges.map( edge ) );
-
-                        if ( !shortestDistances.alreadyVisited( v )
-                                || weightOperations.compare( shortDist, shortestDistances.getWeight( v ) ) < 0 )
-                        {
-                            // assign new shortest distance and mark unsettled
-                            shortestDistances.setWeight( v, shortDist );
-                            unsettledNodes.add( v );
+                    W shortDist = weightOperations.append( distance, weightedEdges.map( edge ) );
+                    W vDistance = workspace.getDistance( vIndex );
 
-                            // assign predecessor in shortest path
-                            predecessors.addPredecessor( v, vertex );
-                        }
+                    if ( vDistance == null || weightOperations.compare( shortDist, vDistance ) < 0 )
+                    {
+                        // assign new shortest distance and predecessor in shortest path, and mark unsettled
+                        workspace.setDistance( vIndex, shortDist, vertexIndex, edge );
+                        unsettledNodes.offer( vIndex, shortDist );
                     }
-
                 }
             }
         }
 
         throw new PathNotFoundException( "Path from '%s' to '%s' doesn't exist in Graph '%s'", source, target, graph );
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <WO extends OrderedMonoid<W>> List<WeightedPath<V, WE, W>> applyingYen( int k, WO weightOperations )
+    {
+        checkArgument( k > 0, "Yen algorithm can not search for %s paths", k );
+        weightOperations = checkNotNull( weightOperations, "Yen algorithm can not be applied using null weight operations" );
+        return new Yen<V, WE, W>( graph, weightedEdges, weightOperations, source, target ).apply( k );
+    }
+
 }
@@ -22,10 +22,13 @@ package org.apache.commons.graph.shortestpath;
 import static org.apache.commons.graph.utils.Assertions.checkNotNull;
 
 import org.apache.commons.graph.Graph;
-import org.apache.commons.graph.VertexPair;
 import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.Mappers;
 import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.weight.MinPlusSemiring;
+import org.apache.commons.graph.weight.Monoid;
 import org.apache.commons.graph.weight.OrderedMonoid;
+import org.apache.commons.graph.weight.Semiring;
 
 final class DefaultTargetSourceSelector<V, WE, W>
     implements TargetSourceSelector<V, WE, W>
@@ -50,76 +53,79 @@ final class DefaultTargetSourceSelector<V, WE, W>
     public <WO extends OrderedMonoid<W>> AllVertexPairsShortestPath<V, WE, W> applyingBelmannFord( WO weightOperations )
     {
         weightOperations = checkNotNull( weightOperations, "Belmann-Ford algorithm can not be applied using null weight operations" );
+        return applyingBelmannFord( new MinPlusSemiring<W>( weightOperations ), weightOperations );
+    }
 
-        final ShortestDistances<V, W> shortestDistances = new ShortestDistances<V, W>( weightOperations );
-        shortestDistances.setWeight( source, weightOperations.identity() );
-
-        final PredecessorsList<V, WE, W> predecessors = new PredecessorsList<V, WE, W>( graph, weightOperations, weightedEdges );
+    /**
+     * {@inheritDoc}
+     */
+    public <S extends Semiring<W>> AllVertexPairsShortestPath<V, WE, W> applyingBelmannFordOver( S semiring )
+    {
+        semiring = checkNotNull( semiring, "Belmann-Ford algorithm can not be applied over a null semiring" );
+        return applyingBelmannFord( semiring, new SemiringPathWeights<W>( semiring ) );
+    }
 
-        for ( int i = 0; i < graph.getOrder(); i++ )
+    private AllVertexPairsShortestPath<V, WE, W> applyingBelmannFord( Semiring<W> semiring, Monoid<W> pathWeights )
+    {
+        Mapper<WE, W> precomputedWeights = precomputedWeights();
+        CompactGraph<V, WE, W> compactGraph = new CompactGraph<V, WE, W>( graph, precomputedWeights );
+        BellmannFord<V, WE, W> bellmannFord = new BellmannFord<V, WE, W>( compactGraph, precomputedWeights, semiring, pathWeights );
+        AllVertexPairsShortestPath<V, WE, W> allVertexPairsShortestPath = new AllVertexPairsShortestPath<V, WE, W>( pathWeights );
+
+        // a source outside the graph reaches nothing
+        int sourceIndex = compactGraph.getVertices().indexOf( source );
+        if ( sourceIndex < 0 )
         {
-            for ( WE edge : graph.getEdges() )
-            {
-                VertexPair<V> vertexPair = graph.getVertices( edge );
-                V u = vertexPair.getHead();
-                V v = vertexPair.getTail();
-
-                if ( shortestDistances.alreadyVisited( u ) )
-                {
-                    W shortDist = weightOperations.append( shortestDistances.getWeight( u ), weightedEdges.map( edge ) );
-
-                    if ( !shortestDistances.alreadyVisited( v )
-                            || weightOperations.compare( shortDist, shortestDistances.getWeight( v ) ) < 0 )
-                    {
-                        // assign new shortest distance and mark unsettled
-                        shortestDistances.setWeight( v, shortDist );
-
-                        // assign predecessor in shortest path
-                        predecessors.addPredecessor( v, u );
-                    }
-                }
-            }
+            return allVertexPairsShortestPath;
         }
+        bellmannFord.apply( sourceIndex );
 
-        for ( WE edge : graph.getEdges() )
+        for ( int target = 0; target < compactGraph.getOrder(); target++ )
         {
-            VertexPair<V> vertexPair = graph.getVertices( edge );
-            V u = vertexPair.getHead();
-            V v = vertexPair.getTail();
-
-            if ( shortestDistances.alreadyVisited( u ) )
+            if ( target != sourceIndex )
             {
-                W shortDist = weightOperations.append( shortestDistances.getWeight( u ), weightedEdges.map( edge ) );
-
-                if ( !shortestDistances.alreadyVisited( v )
-                        || weightOperations.compare( shortDist, shortestDistances.getWeight( v ) ) < 0 )
+                WeightedPath<V, WE, W> weightedPath = bellmannFord.buildPath( target );
+                if ( weightedPath != null )
                 {
-                    // TODO it would be nice printing the cycle
-                    throw new NegativeWeightedCycleException( "Graph contains a negative-weight cycle in vertex %s",
-                                                              v, graph );
+                    allVertexPairsShortestPath.addShortestPath( source, compactGraph.getVertices().get( target ), weightedPath );
                 }
             }
         }
 
-        AllVertexPairsShortestPath<V, WE, W> allVertexPairsShortestPath = new AllVertexPairsShortestPath<V, WE, W>( weightOperations );
+        return allVertexPairsShortestPath;
+    }
 
-        for ( V target : graph.getVertices() )
-        {
-            if ( !source.equals( target ) )
-            {
-                try
-                {
-                    WeightedPath<V, WE, W> weightedPath = predecessors.buildPath( source, target );
-                    allVertexPairsShortestPath.addShortestPath( source, target, weightedPath );
-                }
-                catch ( PathNotFoundException e )
-                {
-                    continue;
-                }
-            }
-        }
+    /**
+     * {@inheritDoc}
+     */
+    public <WO extends OrderedMonoid<W>> DynamicShortestPaths<V, WE, W> applyingDynamicDijkstra( WO weightOperations )
+    {
+        weightOperations = checkNotNull( weightOperations, "Dynamic Dijkstra algorithm can not be applied using null weight operations" );
+        return new DynamicShortestPaths<V, WE, W>( graph, weightedEdges, weightOperations, source );
+    }
 
-        return allVertexPairsShortestPath;
+    /**
+     * {@inheritDoc}
+     */
+    public SearchBoundsSelector<V, WE, W> within( W maxDistance )
+    {
+        return new DefaultSearchBoundsSelector<V, WE, W>( graph, precomputedWeights(), source ).within( maxDistance );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public SearchBoundsSelector<V, WE, W> settlingAtMost( int maxSettled )
+    {
+        return new DefaultSearchBoundsSelector<V, WE, W>( graph, precomputedWeights(), source ).settlingAtMost( maxSettled );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <T extends V> SearchBoundsSelector<V, WE, W> toAll( Iterable<T> targets )
+    {
+        return new DefaultSearchBoundsSelector<V, WE, W>( graph, precomputedWeights(), source ).toAll( targets );
     }
 
     /**
@@ -128,7 +134,12 @@ final class DefaultTargetSourceSelector<V, WE, W>
     public <T extends V> ShortestPathAlgorithmSelector<V, WE, W> to( T target )
     {
         target = checkNotNull( target, "Shortest path can not be calculated to a null target" );
-        return new DefaultShortestPathAlgorithmSelector<V, WE, W>( graph, weightedEdges, source, target );
+        return new DefaultShortestPathAlgorithmSelector<V, WE, W>( graph, precomputedWeights(), source, target );
+    }
+
+    private Mapper<WE, W> precomputedWeights()
+    {
+        return Mappers.precomputeIfExpensive( graph, weightedEdges );
     }
 
 }
@@ -0,0 +1,187 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.collections.IndexedHeap;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * Dijkstra's algorithm over a {@link CompactGraph}, computing the full shortest path tree of a root vertex
+ * either along the arcs or against them. The working memory is allocated once and reused by each search.
+ *
+ * @param <V> The Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> The weight type
+ */
+final class DenseDijkstra<V, WE, W>
+{
+
+    private final CompactGraph<V, WE, W> compactGraph;
+
+    private final OrderedMonoid<W> weightOperations;
+
+    private final IndexedHeap<W> open;
+
+    private final Object[] distances;
+
+    private final int[] predecessorArcs;
+
+    private final int[] settled;
+
+    private int settledSize = 0;
+
+    /**
+     * The vertices having a distance, to be reset by the next search.
+     */
+    private final int[] reached;
+
+    private int reachedSize = 0;
+
+    public DenseDijkstra( CompactGraph<V, WE, W> compactGraph, OrderedMonoid<W> weightOperations )
+    {
+        this.compactGraph = compactGraph;
+        this.weightOperations = weightOperations;
+        this.open = new IndexedHeap<W>( compactGraph.getOrder(), weightOperations );
+        this.distances = new Object[compactGraph.getOrder()];
+        this.predecessorArcs = new int[compactGraph.getOrder()];
+        this.settled = new int[compactGraph.getOrder()];
+        this.reached = new int[compactGraph.getOrder()];
+    }
+
+    /**
+     * Computes the shortest path tree rooted in the input vertex, discarding the results of the previous search.
+     *
+     * @param root the root vertex identifier
+     * @param backward if true, arcs are followed against their direction, computing distances <i>to</i> the root
+     */
+    public void search( int root, boolean backward )
+    {
+        search( root, backward, null, 0 );
+    }
+
+    /**
+     * Computes the shortest path tree rooted in the input vertex, discarding the results of the previous search,
+     * stopping as soon as the input targets are settled.
+     *
+     * @param root the root vertex identifier
+     * @param backward if true, arcs are followed against their direction, computing distances <i>to</i> the root
+     * @param targets flags the vertices the search has to settle, {@code null} for the full tree
+     * @param targetsCount the number of flagged targets
+     */
+    public void search( int root, boolean backward, boolean[] targets, int targetsCount )
+    {
+        for ( int i = 0; i < reachedSize; i++ )
+        {
+            distances[reached[i]] = null;
+        }
+        reachedSize = 0;
+        settledSize = 0;
+        open.clear();
+
+        reach( root, weightOperations.identity(), -1 );
+        int remainingTargets = targetsCount;
+
+        while ( !open.isEmpty() )
+        {
+            int vertex = open.poll();
+            settled[settledSize++] = vertex;
+            if ( targets != null && targets[vertex] && --remainingTargets == 0 )
+            {
+                return;
+            }
+            W distance = getDistance( vertex );
+
+            int end = backward ? compactGraph.getInboundStart( vertex + 1 ) : compactGraph.getOutboundStart( vertex + 1 );
+            for ( int i = backward ? compactGraph.getInboundStart( vertex ) : compactGraph.getOutboundStart( vertex ); i < end; i++ )
+            {
+                int arc = backward ? compactGraph.getInboundArc( i ) : compactGraph.getOutboundArc( i );
+                int next = backward ? compactGraph.getHead( arc ) : compactGraph.getTail( arc );
+
+                W candidate = weightOperations.append( distance, compactGraph.getWeight( arc ) );
+                W current = getDistance( next );
+                if ( current == null )
+                {
+                    reach( next, candidate, arc );
+                }
+                else if ( open.contains( next ) && weightOperations.compare( candidate, current ) < 0 )
+                {
+                    distances[next] = candidate;
+                    predecessorArcs[next] = arc;
+                    open.offer( next, candidate );
+                }
+            }
+        }
+    }
+
+    private void reach( int vertex, W distance, int arc )
+    {
+        reached[reachedSize++] = vertex;
+        distances[vertex] = distance;
+        predecessorArcs[vertex] = arc;
+        open.offer( vertex, distance );
+    }
+
+    /**
+     * Returns the distance of the input vertex computed by the last search, {@code null} if not reachable.
+     *
+     * @param vertex the vertex identifier
+     * @return the distance of the input vertex, {@code null} if not reachable.
+     */
+    @SuppressWarnings( "unchecked" ) // only W instances are stored in the distances array
+    public W getDistance( int vertex )
+    {
+        return (W) distances[vertex];
+    }
+
+    /**
+     * Returns the arc which reaches the input vertex in the last shortest path tree, {@code -1} for the root.
+     *
+     * <b>NOTE</b>: the result is meaningful only for vertices having a distance.
+     *
+     * @param vertex the vertex identifier
+     * @return the arc which reaches the input vertex in the shortest path tree, {@code -1} for the root.
+     */
+    public int getPredecessorArc( int vertex )
+    {
+        return predecessorArcs[vertex];
+    }
+
+    /**
+     * Returns the number of vertices settled by the last search.
+     *
+     * @return the number of vertices settled by the last search.
+     */
+    public int getSettledCount()
+    {
+        return settledSize;
+    }
+
+    /**
+     * Returns the vertex settled in the input position by the last search, in non-decreasing distance order.
+     *
+     * @param position the settle position
+     * @return the vertex settled in the input position.
+     */
+    public int getSettled( int position )
+    {
+        return settled[position];
+    }
+
+}
@@ -0,0 +1,143 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.graph.GraphException;
+
+/**
+ * The shortest distances from a list of source vertices to a list of target vertices, stored in a dense
+ * row-major matrix indexed by the sources and targets positions.
+ *
+ * @param <V> The Graph vertices type
+ * @param <W> The weight type
+ */
+public final class DistanceTable<V, W>
+{
+
+    private final List<V> sources;
+
+    private final List<V> targets;
+
+    private final Map<V, Integer> sourcesIndex = new HashMap<V, Integer>();
+
+    private final Map<V, Integer> targetsIndex = new HashMap<V, Integer>();
+
+    /**
+     * {@code null} where the target is not reachable from the source.
+     */
+    private final Object[] distances;
+
+    DistanceTable( List<V> sources, List<V> targets )
+    {
+        this.sources = unmodifiableList( sources );
+        this.targets = unmodifiableList( targets );
+        this.distances = new Object[sources.size() * targets.size()];
+
+        index( sources, sourcesIndex );
+        index( targets, targetsIndex );
+    }
+
+    private static <V> void index( List<V> vertices, Map<V, Integer> index )
+    {
+        for ( int i = vertices.size() - 1; i >= 0; i-- )
+        {
+            index.put( vertices.get( i ), i );
+        }
+    }
+
+    void setDistance( int source, int target, W distance )
+    {
+        distances[source * targets.size() + target] = distance;
+    }
+
+    /**
+     * Returns the table sources, in the order they were specified.
+     *
+     * @return the table sources
+     */
+    public List<V> getSources()
+    {
+        return sources;
+    }
+
+    /**
+     * Returns the table targets, in the order they were specified.
+     *
+     * @return the table targets
+     */
+    public List<V> getTargets()
+    {
+        return targets;
+    }
+
+    /**
+     * Returns the shortest distance between the source and the target in the input positions.
+     *
+     * @param source the source position
+     * @param target the target position
+     * @return the shortest distance, {@code null} if the target is not reachable from the source
+     */
+    @SuppressWarnings( "unchecked" ) // only W instances are stored in the distances array
+    public W getDistance( int source, int target )
+    {
+        return (W) distances[source * targets.size() + target];
+    }
+
+    /**
+     * Returns the shortest distance between the input source and target.
+     *
+     * @param source the source vertex
+     * @param target the target vertex
+     * @return the shortest distance, {@code null} if the target is not reachable from the source
+     */
+    public W getDistance( V source, V target )
+    {
+        return getDistance( indexOf( sourcesIndex, source, "source" ), indexOf( targetsIndex, target, "target" ) );
+    }
+
+    /**
+     * Checks if the input target is reachable from the input source.
+     *
+     * @param source the source vertex
+     * @param target the target vertex
+     * @return true if the target is reachable from the source, false otherwise
+     */
+    public boolean hasDistance( V source, V target )
+    {
+        return getDistance( source, target ) != null;
+    }
+
+    private static <V> int indexOf( Map<V, Integer> index, V vertex, String role )
+    {
+        Integer position = index.get( vertex );
+        if ( position == null )
+        {
+            throw new GraphException( "Vertex %s is not a %s of the distance table", vertex, role );
+        }
+        return position;
+    }
+
+}
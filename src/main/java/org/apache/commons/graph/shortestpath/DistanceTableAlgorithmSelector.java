@@ -0,0 +1,44 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * Selects the algorithm to compute many-to-many shortest distances with.
+ *
+ * @param <V> The Graph vertices type.
+ * @param <WE> the Graph weighted edges type
+ * @param <W> The weight type
+ */
+public interface DistanceTableAlgorithmSelector<V, WE, W>
+{
+
+    /**
+     * Calculates the shortest distance from each source to each target, growing one Dijkstra tree per source
+     * (or per target, when they are fewer) in parallel. Edges weights must be non-negative.
+     *
+     * @param <WO> the type of weight operations
+     * @param weightOperations the weight operations needed for the algorithm
+     * @return the sources by targets shortest distances table
+     */
+    <WO extends OrderedMonoid<W>> DistanceTable<V, W> applyingDistanceTable( WO weightOperations );
+
+}
@@ -0,0 +1,382 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.GraphException;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.UndirectedGraph;
+import org.apache.commons.graph.VertexPair;
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.collections.ElementIndex;
+import org.apache.commons.graph.collections.IndexedHeap;
+import org.apache.commons.graph.model.InMemoryWeightedPath;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * A single source shortest path tree kept up to date while edge weights change, repairing only the part of the
+ * tree affected by each change, as described by Ramalingam and Reps:
+ * <ul>
+ * <li>when an edge gets shorter, distances improve starting from its tail, and the improvement is propagated
+ * with a Dijkstra search limited to the improved vertices;</li>
+ * <li>when a tree edge gets longer, only the subtree hanging from it is detached, its vertices are offered the
+ * best distance reachable from the rest of the tree, and a Dijkstra search limited to the subtree settles them.</li>
+ * </ul>
+ *
+ * Edge weights are read through the mapper, so the caller changes the weight in its own edge model and then notifies
+ * the change via {@link #updateWeight(Object)}; {@link org.apache.commons.graph.ExpensiveMapper expensive} mappers
+ * are not precomputed either. The graph vertices and edges must not change, and weights must be non-negative.
+ *
+ * <p><b>Note</b>: this class is NOT thread safe!</p>
+ *
+ * @param <V> The Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> The weight type
+ */
+public final class DynamicShortestPaths<V, WE, W>
+{
+
+    private final Graph<V, WE> graph;
+
+    private final Mapper<WE, W> weightedEdges;
+
+    private final OrderedMonoid<W> weightOperations;
+
+    private final ElementIndex<V> vertices;
+
+    private final int source;
+
+    /**
+     * {@code null} for vertices not reachable from the source.
+     */
+    private final Object[] distances;
+
+    private final int[] predecessors;
+
+    private final Object[] predecessorEdges;
+
+    /**
+     * The shortest path tree, as parent links and doubly linked children lists; a vertex is attached
+     * to its predecessor once its distance is final.
+     */
+    private final int[] parents;
+
+    private final int[] firstChildren;
+
+    private final int[] nextSiblings;
+
+    private final int[] previousSiblings;
+
+    private final IndexedHeap<W> open;
+
+    private final boolean[] affected;
+
+    private final int[] affectedVertices;
+
+    DynamicShortestPaths( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, OrderedMonoid<W> weightOperations, V source )
+    {
+        this.graph = graph;
+        this.weightedEdges = weightedEdges;
+        this.weightOperations = weightOperations;
+        this.vertices = new ElementIndex<V>( graph.getVertices() );
+
+        int order = vertices.size();
+        this.distances = new Object[order];
+        this.predecessors = new int[order];
+        this.predecessorEdges = new Object[order];
+        this.parents = new int[order];
+        this.firstChildren = new int[order];
+        this.nextSiblings = new int[order];
+        this.previousSiblings = new int[order];
+        this.open = new IndexedHeap<W>( order, weightOperations );
+        this.affected = new boolean[order];
+        this.affectedVertices = new int[order];
+
+        for ( int v = 0; v < order; v++ )
+        {
+            predecessors[v] = -1;
+            parents[v] = -1;
+            firstChildren[v] = -1;
+            nextSiblings[v] = -1;
+            previousSiblings[v] = -1;
+        }
+
+        this.source = vertices.indexOf( source );
+        if ( this.source < 0 )
+        {
+            throw new GraphException( "Vertex %s does not belong to graph %s", source, graph );
+        }
+
+        distances[this.source] = weightOperations.identity();
+        open.offer( this.source, weightOperations.identity() );
+        propagate( false );
+    }
+
+    /**
+     * Returns the tree source.
+     *
+     * @return the tree source
+     */
+    public V getSource()
+    {
+        return vertices.get( source );
+    }
+
+    /**
+     * Returns the current shortest distance from the source to the input vertex.
+     *
+     * @param vertex the vertex which distance has to be returned
+     * @return the current shortest distance, {@code null} if the vertex is not reachable
+     */
+    public W getDistance( V vertex )
+    {
+        int index = vertices.indexOf( vertex );
+        return index < 0 ? null : distance( index );
+    }
+
+    /**
+     * Builds the current shortest path from the source to the input vertex.
+     *
+     * @param vertex the path target
+     * @return the current shortest path from the source to the input vertex
+     * @throws PathNotFoundException if the vertex is not reachable
+     */
+    @SuppressWarnings( "unchecked" ) // only WE instances are stored in the predecessorEdges array
+    public WeightedPath<V, WE, W> getShortestPath( V vertex )
+    {
+        int index = vertices.indexOf( vertex );
+        if ( index < 0 || distances[index] == null )
+        {
+            throw new PathNotFoundException( "Path from '%s' to '%s' doesn't exist in Graph '%s'", getSource(), vertex, graph );
+        }
+
+        InMemoryWeightedPath<V, WE, W> path =
+            new InMemoryWeightedPath<V, WE, W>( getSource(), vertex, weightOperations, weightedEdges );
+        for ( int current = index; current != source; current = predecessors[current] )
+        {
+            path.addConnectionInHead( vertices.get( predecessors[current] ), (WE) predecessorEdges[current],
+                                      vertices.get( current ) );
+        }
+        return path;
+    }
+
+    /**
+     * Repairs the shortest path tree after the weight of the input edge changed.
+     *
+     * @param edge the edge which weight changed
+     */
+    public void updateWeight( WE edge )
+    {
+        edge = checkNotNull( edge, "Null edge weight can not be updated" );
+        VertexPair<V> vertexPair = graph.getVertices( edge );
+        if ( vertexPair == null )
+        {
+            throw new GraphException( "Edge %s does not belong to graph %s", edge, graph );
+        }
+
+        int head = vertices.indexOf( vertexPair.getHead() );
+        int tail = vertices.indexOf( vertexPair.getTail() );
+        W weight = weightedEdges.map( edge );
+
+        update( head, tail, edge, weight );
+        if ( graph instanceof UndirectedGraph )
+        {
+            update( tail, head, edge, weight );
+        }
+    }
+
+    private void update( int head, int tail, WE edge, W weight )
+    {
+        if ( distances[head] == null || head == tail )
+        {
+            return;
+        }
+
+        W candidate = weightOperations.append( distance( head ), weight );
+        if ( distances[tail] == null || weightOperations.compare( candidate, distance( tail ) ) < 0 )
+        {
+            // shorter: propagate the improvement
+            setDistance( tail, candidate, head, edge );
+            open.offer( tail, candidate );
+            propagate( false );
+        }
+        else if ( predecessors[tail] == head && predecessorEdges[tail] == edge
+            && weightOperations.compare( candidate, distance( tail ) ) > 0 )
+        {
+            // longer tree edge: rebuild the subtree
+            repairSubtree( tail );
+        }
+    }
+
+    private void repairSubtree( int root )
+    {
+        int affectedSize = 0;
+        affectedVertices[affectedSize++] = root;
+        affected[root] = true;
+        for ( int i = 0; i < affectedSize; i++ )
+        {
+            for ( int child = firstChildren[affectedVertices[i]]; child >= 0; child = nextSiblings[child] )
+            {
+                affected[child] = true;
+                affectedVertices[affectedSize++] = child;
+            }
+        }
+
+        // children are detached after their parents, so the whole subtree ends up detached
+        for ( int i = 0; i < affectedSize; i++ )
+        {
+            int vertex = affectedVertices[i];
+            detach( vertex );
+            distances[vertex] = null;
+        }
+
+        // best distance reachable from the vertices outside the subtree
+        for ( int i = 0; i < affectedSize; i++ )
+        {
+            int vertex = affectedVertices[i];
+            V v = vertices.get( vertex );
+            Iterable<V> inbound = graph instanceof DirectedGraph ? ( (DirectedGraph<V, WE>) graph ).getInbound( v )
+                                                                 : graph.getConnectedVertices( v );
+            for ( V u : inbound )
+            {
+                int predecessor = vertices.indexOf( u );
+                if ( affected[predecessor] || distances[predecessor] == null )
+                {
+                    continue;
+                }
+
+                WE edge = graph.getEdge( u, v );
+                W candidate = weightOperations.append( distance( predecessor ), weightedEdges.map( edge ) );
+                if ( distances[vertex] == null || weightOperations.compare( candidate, distance( vertex ) ) < 0 )
+                {
+                    distances[vertex] = candidate;
+                    predecessors[vertex] = predecessor;
+                    predecessorEdges[vertex] = edge;
+                }
+            }
+
+            if ( distances[vertex] != null )
+            {
+                open.offer( vertex, distance( vertex ) );
+            }
+        }
+
+        propagate( true );
+
+        for ( int i = 0; i < affectedSize; i++ )
+        {
+            affected[affectedVertices[i]] = false;
+        }
+    }
+
+    /**
+     * Dijkstra search from the vertices in the heap; when rebuilding a subtree, only its vertices can improve.
+     * Vertices are attached to the tree when settled.
+     */
+    private void propagate( boolean rebuilding )
+    {
+        while ( !open.isEmpty() )
+        {
+            int vertex = open.poll();
+            if ( vertex != source )
+            {
+                attach( vertex, predecessors[vertex] );
+            }
+
+            W distance = distance( vertex );
+            V v = vertices.get( vertex );
+            Iterable<V> outbound = graph instanceof DirectedGraph ? ( (DirectedGraph<V, WE>) graph ).getOutbound( v )
+                                                                  : graph.getConnectedVertices( v );
+            for ( V w : outbound )
+            {
+                int next = vertices.indexOf( w );
+                if ( rebuilding && !affected[next] )
+                {
+                    continue;
+                }
+
+                WE edge = graph.getEdge( v, w );
+                W candidate = weightOperations.append( distance, weightedEdges.map( edge ) );
+                if ( distances[next] == null || weightOperations.compare( candidate, distance( next ) ) < 0 )
+                {
+                    setDistance( next, candidate, vertex, edge );
+                    open.offer( next, candidate );
+                }
+            }
+        }
+    }
+
+    private void setDistance( int vertex, W distance, int predecessor, WE edge )
+    {
+        distances[vertex] = distance;
+        predecessors[vertex] = predecessor;
+        predecessorEdges[vertex] = edge;
+    }
+
+    private void attach( int vertex, int parent )
+    {
+        detach( vertex );
+        parents[vertex] = parent;
+        nextSiblings[vertex] = firstChildren[parent];
+        if ( firstChildren[parent] >= 0 )
+        {
+            previousSiblings[firstChildren[parent]] = vertex;
+        }
+        firstChildren[parent] = vertex;
+    }
+
+    private void detach( int vertex )
+    {
+        int parent = parents[vertex];
+        if ( parent < 0 )
+        {
+            return;
+        }
+
+        int previous = previousSiblings[vertex];
+        int next = nextSiblings[vertex];
+        if ( previous >= 0 )
+        {
+            nextSiblings[previous] = next;
+        }
+        else
+        {
+            firstChildren[parent] = next;
+        }
+        if ( next >= 0 )
+        {
+            previousSiblings[next] = previous;
+        }
+
+        parents[vertex] = -1;
+        previousSiblings[vertex] = -1;
+        nextSiblings[vertex] = -1;
+    }
+
+    @SuppressWarnings( "unchecked" ) // only W instances are stored in the distances array
+    private W distance( int vertex )
+    {
+        return (W) distances[vertex];
+    }
+
+}
@@ -0,0 +1,256 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.UndirectedGraph;
+import org.apache.commons.graph.VertexPair;
+import org.apache.commons.graph.collections.ElementIndex;
+import org.apache.commons.graph.utils.Tasks;
+import org.apache.commons.graph.weight.Monoid;
+import org.apache.commons.graph.weight.Semiring;
+
+/**
+ * Dense, cache-blocked implementation of the Floyd-Warshall algorithm.
+ *
+ * The {@link ShortestPathMatrix} is split in square tiles and, for each diagonal tile, the tiles of the same
+ * row/column and then all the remaining tiles are relaxed in parallel.
+ *
+ * Distances are computed over a {@link Semiring}, so that the same kernel solves the shortest, widest, most reliable
+ * paths or the transitive closure; a cell is updated, along with its next-hop, only when {@code plus} changes it.
+ *
+ * @param <V> The Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> The weight type
+ */
+final class FloydWarshall<V, WE, W>
+{
+
+    /**
+     * The tile side length, chosen so that three tiles of references fit in the L2 cache.
+     */
+    private static final int BLOCK_SIZE = 64;
+
+    private final Graph<V, WE> graph;
+
+    private final Mapper<WE, W> weightedEdges;
+
+    private final Semiring<W> semiring;
+
+    private final ShortestPathMatrix<V, WE, W> matrix;
+
+    private final int order;
+
+    public FloydWarshall( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, Semiring<W> semiring, Monoid<W> pathWeights )
+    {
+        this.graph = graph;
+        this.weightedEdges = weightedEdges;
+        this.semiring = semiring;
+        this.matrix = new ShortestPathMatrix<V, WE, W>( graph, weightedEdges, pathWeights,
+                                                        new ElementIndex<V>( graph.getVertices() ) );
+        this.order = matrix.getOrder();
+    }
+
+    /**
+     * Runs the algorithm.
+     *
+     * @return the computed distance and next-hop matrix
+     */
+    public ShortestPathMatrix<V, WE, W> apply()
+    {
+        init();
+
+        int blocks = ( order + BLOCK_SIZE - 1 ) / BLOCK_SIZE;
+        for ( int kb = 0; kb < blocks; kb++ )
+        {
+            // phase 1: the diagonal tile depends only on itself
+            relax( kb, kb, kb );
+
+            // phase 2: tiles in the same row and column of the diagonal one
+            List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+            for ( int b = 0; b < blocks; b++ )
+            {
+                if ( b != kb )
+                {
+                    tasks.add( new Relaxation( kb, b, kb ) );
+                    tasks.add( new Relaxation( b, kb, kb ) );
+                }
+            }
+            Tasks.invokeAll( tasks );
+
+            // phase 3: all the remaining tiles
+            tasks.clear();
+            for ( int ib = 0; ib < blocks; ib++ )
+            {
+                if ( ib != kb )
+                {
+                    for ( int jb = 0; jb < blocks; jb++ )
+                    {
+                        if ( jb != kb )
+                        {
+                            tasks.add( new Relaxation( ib, jb, kb ) );
+                        }
+                    }
+                }
+            }
+            Tasks.invokeAll( tasks );
+        }
+
+        return matrix;
+    }
+
+    private void init()
+    {
+        ElementIndex<V> vertices = matrix.getVertices();
+        boolean undirected = graph instanceof UndirectedGraph;
+        for ( WE we : graph.getEdges() )
+        {
+            VertexPair<V> vertexPair = graph.getVertices( we );
+            int head = vertices.indexOf( vertexPair.getHead() );
+            int tail = vertices.indexOf( vertexPair.getTail() );
+            if ( head == tail )
+            {
+                continue;
+            }
+
+            W weight = weightedEdges.map( we );
+            initEdge( head, tail, weight );
+            if ( undirected )
+            {
+                initEdge( tail, head, weight );
+            }
+        }
+    }
+
+    private void initEdge( int head, int tail, W weight )
+    {
+        if ( isZero( weight ) )
+        {
+            return;
+        }
+
+        int cell = head * order + tail;
+        W distance = matrix.getDistance( cell );
+        if ( distance == null )
+        {
+            matrix.set( cell, weight, tail );
+        }
+        else
+        {
+            W merged = semiring.plus( distance, weight );
+            if ( !distance.equals( merged ) )
+            {
+                matrix.set( cell, merged, tail );
+            }
+        }
+    }
+
+    /**
+     * Missing paths are stored as {@code null} in the matrix, the semiring zero is never stored.
+     */
+    private boolean isZero( W weight )
+    {
+        return weight == null || weight.equals( semiring.zero() );
+    }
+
+    /**
+     * Relaxes the ({@code ib}, {@code jb}) tile through the intermediate vertices of the {@code kb} tile.
+     */
+    private void relax( int ib, int jb, int kb )
+    {
+        int kEnd = Math.min( ( kb + 1 ) * BLOCK_SIZE, order );
+        int iEnd = Math.min( ( ib + 1 ) * BLOCK_SIZE, order );
+        int jStart = jb * BLOCK_SIZE;
+        int jEnd = Math.min( jStart + BLOCK_SIZE, order );
+
+        for ( int k = kb * BLOCK_SIZE; k < kEnd; k++ )
+        {
+            int kRow = k * order;
+            for ( int i = ib * BLOCK_SIZE; i < iEnd; i++ )
+            {
+                int iRow = i * order;
+                W ik = matrix.getDistance( iRow + k );
+                if ( ik == null )
+                {
+                    continue;
+                }
+                int nextHop = matrix.getNext( iRow + k );
+
+                for ( int j = jStart; j < jEnd; j++ )
+                {
+                    W kj = matrix.getDistance( kRow + j );
+                    if ( kj == null )
+                    {
+                        continue;
+                    }
+
+                    W newDistance = semiring.times( ik, kj );
+                    W ij = matrix.getDistance( iRow + j );
+                    if ( ij == null )
+                    {
+                        if ( !isZero( newDistance ) )
+                        {
+                            matrix.set( iRow + j, newDistance, nextHop );
+                        }
+                    }
+                    else
+                    {
+                        W merged = semiring.plus( ij, newDistance );
+                        if ( !ij.equals( merged ) )
+                        {
+                            matrix.set( iRow + j, merged, nextHop );
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private final class Relaxation
+        implements Callable<Void>
+    {
+
+        private final int ib;
+
+        private final int jb;
+
+        private final int kb;
+
+        public Relaxation( int ib, int jb, int kb )
+        {
+            this.ib = ib;
+            this.jb = jb;
+            this.kb = kb;
+        }
+
+        public Void call()
+        {
+            relax( ib, jb, kb );
+            return null;
+        }
+
+    }
+
+}
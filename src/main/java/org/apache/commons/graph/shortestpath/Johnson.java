@@ -0,0 +1,224 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.collections.IndexedHeap;
+import org.apache.commons.graph.utils.Tasks;
+import org.apache.commons.graph.weight.MinPlusSemiring;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * Implementation of Johnson's all vertex pairs shortest path algorithm: a single Bellman-Ford pass computes
+ * the vertex potentials which make all the reweighted edges non-negative, then a Dijkstra search is run
+ * for each vertex, in parallel.
+ *
+ * Searches are rooted in the path targets and follow the edges backwards, so that each search fills
+ * a whole column of the next-hop matrix.
+ *
+ * @param <V> The Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> The weight type
+ */
+final class Johnson<V, WE, W>
+{
+
+    /**
+     * The number of targets each parallel task is split into, per available processor.
+     */
+    private static final int TASKS_PER_PROCESSOR = 4;
+
+    private final Mapper<WE, W> weightedEdges;
+
+    private final OrderedMonoid<W> weightOperations;
+
+    private final CompactGraph<V, WE, W> compactGraph;
+
+    private final ShortestPathMatrix<V, WE, W> matrix;
+
+    private final int order;
+
+    /**
+     * The reweighted arcs weights.
+     */
+    private final Object[] reducedWeights;
+
+    public Johnson( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, OrderedMonoid<W> weightOperations )
+    {
+        this.weightedEdges = weightedEdges;
+        this.weightOperations = weightOperations;
+        this.compactGraph = new CompactGraph<V, WE, W>( graph, weightedEdges );
+        this.matrix = new ShortestPathMatrix<V, WE, W>( graph, weightedEdges, weightOperations, compactGraph.getVertices() );
+        this.order = compactGraph.getOrder();
+        this.reducedWeights = new Object[compactGraph.getArcs()];
+    }
+
+    /**
+     * Runs the algorithm.
+     *
+     * @return the computed distance and next-hop matrix
+     */
+    public ShortestPathMatrix<V, WE, W> apply()
+    {
+        reweight( potentials() );
+
+        int chunks = Math.max( 1, Math.min( order, TASKS_PER_PROCESSOR * Tasks.parallelism() ) );
+        List<Callable<Void>> tasks = new ArrayList<Callable<Void>>( chunks );
+        for ( int chunk = 0; chunk < chunks; chunk++ )
+        {
+            tasks.add( new Searches( chunk * order / chunks, ( chunk + 1 ) * order / chunks ) );
+        }
+        Tasks.invokeAll( tasks );
+
+        return matrix;
+    }
+
+    /**
+     * Bellman-Ford from a virtual vertex connected to all the others with identity-weighted edges.
+     */
+    private Object[] potentials()
+    {
+        BellmannFord<V, WE, W> bellmannFord =
+            new BellmannFord<V, WE, W>( compactGraph, weightedEdges, new MinPlusSemiring<W>( weightOperations ), weightOperations );
+        bellmannFord.applyFromAll();
+
+        Object[] potentials = new Object[order];
+        for ( int v = 0; v < order; v++ )
+        {
+            potentials[v] = bellmannFord.getDistance( v );
+        }
+        return potentials;
+    }
+
+    private void reweight( Object[] potentials )
+    {
+        for ( int arc = 0; arc < compactGraph.getArcs(); arc++ )
+        {
+            W head = weight( potentials, compactGraph.getHead( arc ) );
+            W tail = weight( potentials, compactGraph.getTail( arc ) );
+            reducedWeights[arc] = weightOperations.append( weightOperations.append( compactGraph.getWeight( arc ), head ),
+                                                           weightOperations.inverse( tail ) );
+        }
+    }
+
+    @SuppressWarnings( "unchecked" ) // only W instances are stored in the weights arrays
+    private W weight( Object[] weights, int index )
+    {
+        return (W) weights[index];
+    }
+
+    /**
+     * Runs the backward Dijkstra searches for a range of targets, reusing the same working memory.
+     */
+    private final class Searches
+        implements Callable<Void>
+    {
+
+        private final int fromTarget;
+
+        private final int toTarget;
+
+        private final IndexedHeap<W> open = new IndexedHeap<W>( order, weightOperations );
+
+        private final boolean[] settled = new boolean[order];
+
+        private final Object[] reducedDistances = new Object[order];
+
+        private final Object[] distances = new Object[order];
+
+        private final int[] successors = new int[order];
+
+        private final int[] settledOrder = new int[order];
+
+        public Searches( int fromTarget, int toTarget )
+        {
+            this.fromTarget = fromTarget;
+            this.toTarget = toTarget;
+        }
+
+        public Void call()
+        {
+            for ( int target = fromTarget; target < toTarget; target++ )
+            {
+                search( target );
+            }
+            return null;
+        }
+
+        private void search( int target )
+        {
+            int settledCount = 0;
+
+            reducedDistances[target] = weightOperations.identity();
+            distances[target] = weightOperations.identity();
+            open.offer( target, weightOperations.identity() );
+
+            while ( !open.isEmpty() )
+            {
+                int vertex = open.poll();
+                settled[vertex] = true;
+                settledOrder[settledCount++] = vertex;
+
+                W reducedDistance = weight( reducedDistances, vertex );
+                W distance = weight( distances, vertex );
+
+                for ( int i = compactGraph.getInboundStart( vertex ); i < compactGraph.getInboundStart( vertex + 1 ); i++ )
+                {
+                    int arc = compactGraph.getInboundArc( i );
+                    int head = compactGraph.getHead( arc );
+                    if ( settled[head] )
+                    {
+                        continue;
+                    }
+
+                    W candidate = weightOperations.append( reducedDistance, weight( reducedWeights, arc ) );
+                    if ( reducedDistances[head] == null
+                        || weightOperations.compare( candidate, weight( reducedDistances, head ) ) < 0 )
+                    {
+                        reducedDistances[head] = candidate;
+                        distances[head] = weightOperations.append( compactGraph.getWeight( arc ), distance );
+                        successors[head] = vertex;
+                        open.offer( head, candidate );
+                    }
+                }
+            }
+
+            // copy the column and reset the working memory for the next target
+            for ( int i = 0; i < settledCount; i++ )
+            {
+                int vertex = settledOrder[i];
+                if ( vertex != target )
+                {
+                    matrix.set( vertex * order + target, weight( distances, vertex ), successors[vertex] );
+                }
+                settled[vertex] = false;
+                reducedDistances[vertex] = null;
+                distances[vertex] = null;
+            }
+        }
+
+    }
+
+}
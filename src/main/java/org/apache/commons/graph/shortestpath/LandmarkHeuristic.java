@@ -0,0 +1,355 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.UndirectedGraph;
+import org.apache.commons.graph.collections.ElementIndex;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * An admissible {@link Heuristic} for the A* algorithm based on landmarks and the triangle inequality
+ * (the <i>ALT</i> technique by Goldberg and Harrelson), which needs no geometric information on the vertices.
+ *
+ * Given the precomputed distances from and to each landmark {@code L}, the distance between {@code v} and the
+ * goal {@code t} is at least {@code d(L, t) - d(L, v)} and {@code d(v, L) - d(t, L)}; the largest bound is returned.
+ *
+ * Edges weights must be non-negative. The heuristic is a snapshot of the graph at construction time and
+ * is thread safe.
+ *
+ * @param <V> The Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> The weight type
+ */
+public final class LandmarkHeuristic<V, WE, W>
+    implements Heuristic<V, W>
+{
+
+    /**
+     * Fixed seed, so that landmarks selection is reproducible.
+     */
+    private static final long SEED = 0x5DEECE66DL;
+
+    private final OrderedMonoid<W> weightOperations;
+
+    private final ElementIndex<V> vertices;
+
+    private final int[] landmarks;
+
+    /**
+     * The distances from each landmark to each vertex, {@code null} if not reachable.
+     */
+    private final Object[][] fromLandmarks;
+
+    /**
+     * The distances from each vertex to each landmark, {@code null} if not reachable.
+     */
+    private final Object[][] toLandmarks;
+
+    /**
+     * Selects the landmarks on the input graph and precomputes their distance tables.
+     *
+     * @param graph the graph the heuristic will be applied on
+     * @param weightedEdges the function to calculate edges weight
+     * @param weightOperations the weight operations
+     * @param landmarksCount the number of landmarks to select, usually between 8 and 16
+     * @param selection the landmarks selection strategy
+     */
+    public LandmarkHeuristic( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, OrderedMonoid<W> weightOperations,
+                              int landmarksCount, LandmarkSelection selection )
+    {
+        graph = checkNotNull( graph, "Landmarks can not be selected on a null graph" );
+        weightedEdges = checkNotNull( weightedEdges, "Function to calculate edges weight can not be null." );
+        this.weightOperations = checkNotNull( weightOperations, "Landmarks can not be selected using null weight operations" );
+        selection = checkNotNull( selection, "Landmarks can not be selected using a null strategy" );
+        checkArgument( landmarksCount > 0, "At least one landmark has to be selected, %s found", landmarksCount );
+
+        CompactGraph<V, WE, W> compactGraph = new CompactGraph<V, WE, W>( graph, weightedEdges );
+        DenseDijkstra<V, WE, W> dijkstra = new DenseDijkstra<V, WE, W>( compactGraph, weightOperations );
+        boolean undirected = graph instanceof UndirectedGraph;
+
+        this.vertices = compactGraph.getVertices();
+        int count = Math.min( landmarksCount, vertices.size() );
+        this.landmarks = new int[count];
+        this.fromLandmarks = new Object[count][];
+        this.toLandmarks = new Object[count][];
+
+        boolean[] selected = new boolean[vertices.size()];
+        Object[] minDistances = new Object[vertices.size()];
+        Random random = new Random( SEED );
+
+        for ( int i = 0; i < count; i++ )
+        {
+            int landmark;
+            if ( selection == LandmarkSelection.AVOID )
+            {
+                landmark = avoid( compactGraph, dijkstra, random.nextInt( vertices.size() ), i, selected );
+            }
+            else
+            {
+                if ( i == 0 )
+                {
+                    // distances from a first random vertex drive the first choice
+                    dijkstra.search( random.nextInt( vertices.size() ), false );
+                    copyDistances( dijkstra, minDistances );
+                }
+                landmark = farthest( minDistances, selected );
+            }
+
+            selected[landmark] = true;
+            landmarks[i] = landmark;
+
+            dijkstra.search( landmark, false );
+            fromLandmarks[i] = copyDistances( dijkstra, new Object[vertices.size()] );
+            if ( undirected )
+            {
+                toLandmarks[i] = fromLandmarks[i];
+            }
+            else
+            {
+                dijkstra.search( landmark, true );
+                toLandmarks[i] = copyDistances( dijkstra, new Object[vertices.size()] );
+            }
+
+            if ( selection == LandmarkSelection.FARTHEST )
+            {
+                for ( int v = 0; v < vertices.size(); v++ )
+                {
+                    W distance = weight( fromLandmarks[i], v );
+                    if ( i == 0 || ( distance != null && ( minDistances[v] == null
+                                    || weightOperations.compare( distance, weight( minDistances, v ) ) < 0 ) ) )
+                    {
+                        minDistances[v] = distance;
+                    }
+                }
+            }
+        }
+    }
+
+    private Object[] copyDistances( DenseDijkstra<V, WE, W> dijkstra, Object[] distances )
+    {
+        for ( int position = 0; position < dijkstra.getSettledCount(); position++ )
+        {
+            int vertex = dijkstra.getSettled( position );
+            distances[vertex] = dijkstra.getDistance( vertex );
+        }
+        return distances;
+    }
+
+    /**
+     * Returns the not selected vertex having the largest distance from the selected ones, preferring unreachable ones.
+     */
+    private int farthest( Object[] minDistances, boolean[] selected )
+    {
+        int farthest = -1;
+        for ( int v = 0; v < selected.length; v++ )
+        {
+            if ( selected[v] )
+            {
+                continue;
+            }
+            if ( minDistances[v] == null )
+            {
+                return v;
+            }
+            if ( farthest < 0 || weightOperations.compare( weight( minDistances, v ), weight( minDistances, farthest ) ) > 0 )
+            {
+                farthest = v;
+            }
+        }
+        return farthest;
+    }
+
+    /**
+     * Grows a shortest path tree from the input root, weighs each vertex by how badly the current landmarks
+     * bound its distance from the root, and descends the heaviest subtree not containing a landmark up to a leaf.
+     */
+    private int avoid( CompactGraph<V, WE, W> compactGraph, DenseDijkstra<V, WE, W> dijkstra, int root,
+                       int selectedCount, boolean[] selected )
+    {
+        dijkstra.search( root, false );
+
+        int order = vertices.size();
+        Object[] sizes = new Object[order];
+        boolean[] containsLandmark = new boolean[order];
+        int[] heaviestChild = new int[order];
+
+        // children are settled after their parents
+        for ( int position = dijkstra.getSettledCount() - 1; position >= 0; position-- )
+        {
+            int vertex = dijkstra.getSettled( position );
+            if ( selected[vertex] )
+            {
+                containsLandmark[vertex] = true;
+            }
+
+            W size;
+            if ( containsLandmark[vertex] )
+            {
+                size = weightOperations.identity();
+            }
+            else
+            {
+                W distance = dijkstra.getDistance( vertex );
+                W weight = weightOperations.append( distance, weightOperations.inverse( bound( root, vertex, selectedCount ) ) );
+                size = sizes[vertex] == null ? weight : weightOperations.append( weight( sizes, vertex ), weight );
+            }
+            sizes[vertex] = size;
+
+            int arc = dijkstra.getPredecessorArc( vertex );
+            if ( arc >= 0 )
+            {
+                int parent = compactGraph.getHead( arc );
+                containsLandmark[parent] |= containsLandmark[vertex];
+                if ( !containsLandmark[vertex] )
+                {
+                    if ( sizes[parent] == null )
+                    {
+                        sizes[parent] = size;
+                        heaviestChild[parent] = vertex;
+                    }
+                    else
+                    {
+                        if ( weightOperations.compare( size, weight( sizes, heaviestChild[parent] ) ) > 0 )
+                        {
+                            heaviestChild[parent] = vertex;
+                        }
+                        sizes[parent] = weightOperations.append( weight( sizes, parent ), size );
+                    }
+                }
+            }
+        }
+
+        // the heaviest vertex, then down to a leaf
+        int heaviest = -1;
+        for ( int position = 0; position < dijkstra.getSettledCount(); position++ )
+        {
+            int vertex = dijkstra.getSettled( position );
+            if ( !containsLandmark[vertex]
+                && ( heaviest < 0 || weightOperations.compare( weight( sizes, vertex ), weight( sizes, heaviest ) ) > 0 ) )
+            {
+                heaviest = vertex;
+            }
+        }
+
+        if ( heaviest < 0 )
+        {
+            // every vertex reachable from root already has a landmark below it
+            for ( int v = 0; v < order; v++ )
+            {
+                if ( !selected[v] )
+                {
+                    return v;
+                }
+            }
+        }
+
+        boolean[] isParent = new boolean[order];
+        for ( int position = 0; position < dijkstra.getSettledCount(); position++ )
+        {
+            int vertex = dijkstra.getSettled( position );
+            int arc = dijkstra.getPredecessorArc( vertex );
+            if ( arc >= 0 && !containsLandmark[vertex] )
+            {
+                isParent[compactGraph.getHead( arc )] = true;
+            }
+        }
+        while ( isParent[heaviest] )
+        {
+            heaviest = heaviestChild[heaviest];
+        }
+        return heaviest;
+    }
+
+    /**
+     * Returns the landmarks lower bound of the distance from {@code source} to {@code target},
+     * using the first {@code landmarksCount} landmarks.
+     */
+    private W bound( int source, int target, int landmarksCount )
+    {
+        W best = weightOperations.identity();
+        for ( int i = 0; i < landmarksCount; i++ )
+        {
+            W fromToTarget = weight( fromLandmarks[i], target );
+            W fromToSource = weight( fromLandmarks[i], source );
+            if ( fromToTarget != null && fromToSource != null )
+            {
+                best = max( best, weightOperations.append( fromToTarget, weightOperations.inverse( fromToSource ) ) );
+            }
+
+            W sourceTo = weight( toLandmarks[i], source );
+            W targetTo = weight( toLandmarks[i], target );
+            if ( sourceTo != null && targetTo != null )
+            {
+                best = max( best, weightOperations.append( sourceTo, weightOperations.inverse( targetTo ) ) );
+            }
+        }
+        return best;
+    }
+
+    private W max( W w1, W w2 )
+    {
+        return weightOperations.compare( w1, w2 ) >= 0 ? w1 : w2;
+    }
+
+    @SuppressWarnings( "unchecked" ) // only W instances are stored in the distance tables
+    private W weight( Object[] weights, int vertex )
+    {
+        return (W) weights[vertex];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public W applyHeuristic( V current, V goal )
+    {
+        int currentIndex = vertices.indexOf( current );
+        int goalIndex = vertices.indexOf( goal );
+        if ( currentIndex < 0 || goalIndex < 0 )
+        {
+            return weightOperations.identity();
+        }
+        return bound( currentIndex, goalIndex, landmarks.length );
+    }
+
+    /**
+     * Returns the selected landmarks.
+     *
+     * @return the selected landmarks.
+     */
+    public Iterable<V> getLandmarks()
+    {
+        List<V> result = new ArrayList<V>( landmarks.length );
+        for ( int landmark : landmarks )
+        {
+            result.add( vertices.get( landmark ) );
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,41 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/**
+ * The strategies a {@link LandmarkHeuristic} can select its landmarks with.
+ */
+public enum LandmarkSelection
+{
+
+    /**
+     * Each landmark is the vertex farthest from the already selected ones: cheap, and spreads landmarks
+     * on the graph periphery.
+     */
+    FARTHEST,
+
+    /**
+     * Each landmark is placed in the region of a shortest path tree whose distances are worst approximated
+     * by the already selected landmarks, as described by Goldberg and Werneck: slower to select, usually
+     * gives tighter bounds.
+     */
+    AVOID;
+
+}
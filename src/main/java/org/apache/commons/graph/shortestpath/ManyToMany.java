@@ -0,0 +1,169 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.utils.Tasks;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * Computes a {@link DistanceTable} growing one shortest path tree per source, in parallel; each tree stops as soon
+ * as all the targets are settled. When there are fewer targets than sources, trees are grown backwards from
+ * the targets instead.
+ *
+ * All the searches share the same compact snapshot of the graph, with edge weights mapped once; each parallel
+ * task reuses its search working memory for all its trees.
+ *
+ * @param <V> The Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> The weight type
+ */
+final class ManyToMany<V, WE, W>
+{
+
+    /**
+     * The number of trees each parallel task is split into, per available processor.
+     */
+    private static final int TASKS_PER_PROCESSOR = 4;
+
+    private final OrderedMonoid<W> weightOperations;
+
+    private final CompactGraph<V, WE, W> compactGraph;
+
+    private final DistanceTable<V, W> table;
+
+    private final boolean backward;
+
+    /**
+     * The graph identifiers of the trees roots, {@code -1} for vertices not in the graph.
+     */
+    private final int[] roots;
+
+    /**
+     * The graph identifiers of the vertices each tree has to reach, {@code -1} for vertices not in the graph.
+     */
+    private final int[] leaves;
+
+    private final boolean[] isLeaf;
+
+    private int leavesCount;
+
+    public ManyToMany( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, OrderedMonoid<W> weightOperations,
+                       List<V> sources, List<V> targets )
+    {
+        this.weightOperations = weightOperations;
+        this.compactGraph = new CompactGraph<V, WE, W>( graph, weightedEdges );
+        this.table = new DistanceTable<V, W>( sources, targets );
+        this.backward = targets.size() < sources.size();
+
+        List<V> rootVertices = backward ? targets : sources;
+        List<V> leafVertices = backward ? sources : targets;
+
+        roots = new int[rootVertices.size()];
+        for ( int i = 0; i < roots.length; i++ )
+        {
+            roots[i] = compactGraph.getVertices().indexOf( rootVertices.get( i ) );
+        }
+
+        leaves = new int[leafVertices.size()];
+        isLeaf = new boolean[compactGraph.getOrder()];
+        for ( int i = 0; i < leaves.length; i++ )
+        {
+            leaves[i] = compactGraph.getVertices().indexOf( leafVertices.get( i ) );
+            if ( leaves[i] >= 0 && !isLeaf[leaves[i]] )
+            {
+                isLeaf[leaves[i]] = true;
+                leavesCount++;
+            }
+        }
+    }
+
+    /**
+     * Runs the searches.
+     *
+     * @return the computed distance table
+     */
+    public DistanceTable<V, W> apply()
+    {
+        int chunks = Math.max( 1, Math.min( roots.length, TASKS_PER_PROCESSOR * Tasks.parallelism() ) );
+        List<Callable<Void>> tasks = new ArrayList<Callable<Void>>( chunks );
+        for ( int chunk = 0; chunk < chunks; chunk++ )
+        {
+            tasks.add( new Searches( chunk * roots.length / chunks, ( chunk + 1 ) * roots.length / chunks ) );
+        }
+        Tasks.invokeAll( tasks );
+
+        return table;
+    }
+
+    /**
+     * Grows the trees of a range of roots, reusing the same working memory.
+     */
+    private final class Searches
+        implements Callable<Void>
+    {
+
+        private final int fromRoot;
+
+        private final int toRoot;
+
+        private final DenseDijkstra<V, WE, W> dijkstra = new DenseDijkstra<V, WE, W>( compactGraph, weightOperations );
+
+        public Searches( int fromRoot, int toRoot )
+        {
+            this.fromRoot = fromRoot;
+            this.toRoot = toRoot;
+        }
+
+        public Void call()
+        {
+            for ( int i = fromRoot; i < toRoot; i++ )
+            {
+                if ( roots[i] < 0 )
+                {
+                    continue;
+                }
+
+                dijkstra.search( roots[i], backward, isLeaf, leavesCount );
+
+                for ( int j = 0; j < leaves.length; j++ )
+                {
+                    W distance = leaves[j] < 0 ? null : dijkstra.getDistance( leaves[j] );
+                    if ( backward )
+                    {
+                        table.setDistance( j, i, distance );
+                    }
+                    else
+                    {
+                        table.setDistance( i, j, distance );
+                    }
+                }
+            }
+            return null;
+        }
+
+    }
+
+}
@@ -20,6 +20,7 @@ package org.apache.commons.graph.shortestpath;
  */
 
 import org.apache.commons.graph.GraphException;
+import org.apache.commons.graph.Path;
 
 /**
  * Exception thrown when {@link BellmannFord}'s algorithm detects a negative weighted cycle.
@@ -30,19 +31,39 @@ public final class NegativeWeightedCycleException
 
     private static final long serialVersionUID = 3196711750285223435L;
 
+    private final Path<?, ?> cycle;
+
     public NegativeWeightedCycleException( String messagePattern, Object...arguments )
+    {
+        this( null, messagePattern, arguments );
+    }
+
+    public NegativeWeightedCycleException( Path<?, ?> cycle, String messagePattern, Object...arguments )
     {
         super( messagePattern, arguments );
+        this.cycle = cycle;
     }
 
     public NegativeWeightedCycleException( String msg, Throwable cause )
     {
         super( msg, cause );
+        this.cycle = null;
     }
 
     public NegativeWeightedCycleException( Throwable cause )
     {
         super( cause );
+        this.cycle = null;
+    }
+
+    /**
+     * Returns the detected negative weighted cycle, starting and ending in the same vertex, if available.
+     *
+     * @return the detected negative weighted cycle, {@code null} if not available
+     */
+    public Path<?, ?> getCycle()
+    {
+        return cycle;
     }
 
 }
@@ -0,0 +1,275 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.collections.IndexedHeap;
+import org.apache.commons.graph.model.InMemoryWeightedPath;
+import org.apache.commons.graph.utils.Tasks;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * Bidirectional Dijkstra running the forward and the backward searches on two threads.
+ *
+ * Each search keeps its working memory private and publishes the distances it reaches, and the smallest key of
+ * its frontier, to the other one; the best meeting point is updated atomically. A search stops as soon as its
+ * own smallest key plus the last published one of the other search reaches the best distance: since keys only
+ * grow, a stale value can only delay the stop, never anticipate it.
+ *
+ * @param <V> The Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> The weight type
+ */
+final class ParallelBidirectionalDijkstra<V, WE, W>
+{
+
+    private final Graph<V, WE> graph;
+
+    private final Mapper<WE, W> weightedEdges;
+
+    private final OrderedMonoid<W> weightOperations;
+
+    private final V source;
+
+    private final V target;
+
+    private final AtomicReference<Meeting> best = new AtomicReference<Meeting>();
+
+    /**
+     * Set as soon as one of the searches is over, the other one has nothing left to do.
+     */
+    private volatile boolean done = false;
+
+    public ParallelBidirectionalDijkstra( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, OrderedMonoid<W> weightOperations,
+                                          V source, V target )
+    {
+        this.graph = graph;
+        this.weightedEdges = weightedEdges;
+        this.weightOperations = weightOperations;
+        this.source = source;
+        this.target = target;
+    }
+
+    /**
+     * Runs the search.
+     *
+     * @return the shortest path from source to target
+     * @throws PathNotFoundException if the target is not reachable from the source
+     */
+    public WeightedPath<V, WE, W> apply()
+    {
+        if ( source.equals( target ) )
+        {
+            return new InMemoryWeightedPath<V, WE, W>( source, target, weightOperations, weightedEdges );
+        }
+
+        Search forward = new Search( source, false );
+        Search backward = new Search( target, true );
+        forward.opposite = backward;
+        backward.opposite = forward;
+
+        List<Search> searches = new ArrayList<Search>( 2 );
+        searches.add( forward );
+        searches.add( backward );
+        Tasks.invokeAll( searches );
+
+        Meeting meeting = best.get();
+        if ( meeting == null )
+        {
+            throw new PathNotFoundException( "Path from '%s' to '%s' doesn't exist in Graph '%s'", source, target, graph );
+        }
+
+        InMemoryWeightedPath<V, WE, W> path = new InMemoryWeightedPath<V, WE, W>( source, target, weightOperations, weightedEdges );
+
+        ShortestPathWorkspace<V, WE, W> workspace = forward.workspace;
+        for ( int vertex = workspace.indexOf( meeting.touch ); workspace.getPredecessor( vertex ) >= 0; vertex = workspace.getPredecessor( vertex ) )
+        {
+            path.addConnectionInHead( workspace.getVertex( workspace.getPredecessor( vertex ) ),
+                                      workspace.getPredecessorEdge( vertex ),
+                                      workspace.getVertex( vertex ) );
+        }
+
+        // predecessors of the backward search are successors in the path
+        workspace = backward.workspace;
+        for ( int vertex = workspace.indexOf( meeting.touch ); workspace.getPredecessor( vertex ) >= 0; vertex = workspace.getPredecessor( vertex ) )
+        {
+            path.addConnectionInTail( workspace.getVertex( vertex ),
+                                      workspace.getPredecessorEdge( vertex ),
+                                      workspace.getVertex( workspace.getPredecessor( vertex ) ) );
+        }
+
+        return path;
+    }
+
+    private void offerMeeting( W distance, V touch )
+    {
+        Meeting candidate = new Meeting( distance, touch );
+        Meeting current = best.get();
+        while ( current == null || weightOperations.compare( distance, current.distance ) < 0 )
+        {
+            if ( best.compareAndSet( current, candidate ) )
+            {
+                return;
+            }
+            current = best.get();
+        }
+    }
+
+    /**
+     * An immutable meeting point of the two searches.
+     */
+    private final class Meeting
+    {
+
+        private final W distance;
+
+        private final V touch;
+
+        public Meeting( W distance, V touch )
+        {
+            this.distance = distance;
+            this.touch = touch;
+        }
+
+    }
+
+    /**
+     * One of the two searches, confined to its own thread.
+     */
+    private final class Search
+        implements Callable<Void>
+    {
+
+        private final ShortestPathWorkspace<V, WE, W> workspace = new ShortestPathWorkspace<V, WE, W>();
+
+        /**
+         * The distances reached by this search, read by the opposite one.
+         */
+        private final ConcurrentMap<V, W> published = new ConcurrentHashMap<V, W>();
+
+        private final boolean backward;
+
+        private Search opposite;
+
+        /**
+         * The smallest key in the frontier, read by the opposite search.
+         */
+        private volatile W topKey;
+
+        public Search( V root, boolean backward )
+        {
+            this.backward = backward;
+            this.topKey = weightOperations.identity();
+
+            workspace.begin( weightOperations );
+            int rootIndex = workspace.indexOf( root );
+            workspace.setDistance( rootIndex, weightOperations.identity(), -1, null );
+            workspace.getOpen().offer( rootIndex, weightOperations.identity() );
+            published.put( root, weightOperations.identity() );
+        }
+
+        public Void call()
+        {
+            try
+            {
+                run();
+            }
+            finally
+            {
+                done = true;
+            }
+            return null;
+        }
+
+        private void run()
+        {
+            IndexedHeap<W> open = workspace.getOpen();
+
+            while ( !done && !open.isEmpty() )
+            {
+                int vertexIndex = open.peek();
+                W distance = open.getKey( vertexIndex );
+                topKey = distance;
+
+                Meeting meeting = best.get();
+                if ( meeting != null
+                    && weightOperations.compare( weightOperations.append( distance, opposite.topKey ), meeting.distance ) >= 0 )
+                {
+                    return;
+                }
+
+                open.poll();
+                workspace.settle( vertexIndex );
+                V vertex = workspace.getVertex( vertexIndex );
+
+                Iterable<V> connected;
+                if ( graph instanceof DirectedGraph )
+                {
+                    DirectedGraph<V, WE> directedGraph = (DirectedGraph<V, WE>) graph;
+                    connected = backward ? directedGraph.getInbound( vertex ) : directedGraph.getOutbound( vertex );
+                }
+                else
+                {
+                    connected = graph.getConnectedVertices( vertex );
+                }
+
+                for ( V v : connected )
+                {
+                    int vIndex = workspace.indexOf( v );
+                    if ( workspace.isSettled( vIndex ) )
+                    {
+                        continue;
+                    }
+
+                    WE edge = backward ? graph.getEdge( v, vertex ) : graph.getEdge( vertex, v );
+                    W shortDist = weightOperations.append( distance, weightedEdges.map( edge ) );
+                    W vDistance = workspace.getDistance( vIndex );
+
+                    if ( vDistance == null || weightOperations.compare( shortDist, vDistance ) < 0 )
+                    {
+                        workspace.setDistance( vIndex, shortDist, vertexIndex, edge );
+                        open.offer( vIndex, shortDist );
+
+                        // publish before looking at the opposite search, which does the same:
+                        // at least one of the two sees the other distance
+                        published.put( v, shortDist );
+                        W oppositeDistance = opposite.published.get( v );
+                        if ( oppositeDistance != null )
+                        {
+                            offerMeeting( weightOperations.append( shortDist, oppositeDistance ), v );
+                        }
+                    }
+                }
+            }
+        }
+
+    }
+
+}
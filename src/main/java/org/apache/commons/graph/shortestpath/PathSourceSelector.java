@@ -20,6 +20,7 @@ package org.apache.commons.graph.shortestpath;
  */
 
 import org.apache.commons.graph.weight.OrderedMonoid;
+import org.apache.commons.graph.weight.Semiring;
 
 /**
  *
@@ -39,6 +40,37 @@ public interface PathSourceSelector<V, WE, W>
      */
     <WO extends OrderedMonoid<W>> AllVertexPairsShortestPath<V, WE, W> applyingFloydWarshall( WO weightOperations );
 
+    /**
+     *  Calculates all vertices best paths using the FloydWarshall's algorithm over the input semiring, i.e. the
+     *  widest paths, the most reliable paths or the transitive closure.
+     *
+     * @param <S> the type of semiring
+     * @param semiring the semiring the paths weights are merged and concatenated with
+     * @return a data structure which contains all vertex pairs best path.
+     */
+    <S extends Semiring<W>> AllVertexPairsShortestPath<V, WE, W> applyingFloydWarshallOver( S semiring );
+
+    /**
+     *  Calculates all vertices shortest paths using Johnson's algorithm, faster than FloydWarshall's on sparse graphs.
+     *  Edges weights can be negative, as long as there are no negative weighted cycles.
+     *
+     * @param <WO> the type of weight operations
+     * @param weightOperations the weight operations needed for the algorithm
+     * @return a data structure which contains all vertex pairs shortest path.
+     * @throws NegativeWeightedCycleException if the graph contains a negative weighted cycle
+     */
+    <WO extends OrderedMonoid<W>> AllVertexPairsShortestPath<V, WE, W> applyingJohnson( WO weightOperations );
+
+    /**
+     *  Preprocesses the graph building a Contraction Hierarchy, which answers repeated point-to-point
+     *  shortest path queries much faster than Dijkstra's algorithm. Edges weights must be non-negative.
+     *
+     * @param <WO> the type of weight operations
+     * @param weightOperations the weight operations needed for the algorithm
+     * @return the Contraction Hierarchy to query for shortest paths
+     */
+    <WO extends OrderedMonoid<W>> ContractionHierarchy<V, WE, W> applyingContractionHierarchy( WO weightOperations );
+
     /**
      * Specifies the shortest path source.
      *
@@ -46,4 +78,12 @@ public interface PathSourceSelector<V, WE, W>
      */
     <H extends V> TargetSourceSelector<V, WE, W> from( H source );
 
+    /**
+     * Specifies the sources of a many-to-many shortest distances computation.
+     *
+     * @param sources the shortest paths sources
+     * @return the many-to-many targets selector
+     */
+    <S extends V> TargetsSelector<V, WE, W> fromAll( Iterable<S> sources );
+
 }
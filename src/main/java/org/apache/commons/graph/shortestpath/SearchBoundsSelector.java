@@ -0,0 +1,79 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * Bounds a single source shortest paths search, which stops as soon as any of the specified bounds is hit
+ * and returns the partial shortest path tree.
+ *
+ * @param <V> The Graph vertices type.
+ * @param <WE> the Graph weighted edges type
+ * @param <W> The weight type
+ */
+public interface SearchBoundsSelector<V, WE, W>
+{
+
+    /**
+     * Bounds the search to the vertices having a distance from the source not greater than the input one.
+     *
+     * @param maxDistance the maximum distance from the source
+     * @return the bounded search selector
+     */
+    SearchBoundsSelector<V, WE, W> within( W maxDistance );
+
+    /**
+     * Bounds the search to the first settled vertices, the source included.
+     *
+     * @param maxSettled the maximum number of vertices to settle
+     * @return the bounded search selector
+     */
+    SearchBoundsSelector<V, WE, W> settlingAtMost( int maxSettled );
+
+    /**
+     * Stops the search as soon as all the input targets are settled.
+     *
+     * @param targets the vertices the search has to settle
+     * @return the bounded search selector
+     */
+    <T extends V> SearchBoundsSelector<V, WE, W> toAll( Iterable<T> targets );
+
+    /**
+     *  Grows the shortest path tree using Dijkstra's algorithm.
+     *
+     * @param <WO> the type of weight operations
+     * @param weightOperations the class responsible for operations on weights
+     * @return the shortest path tree of the vertices settled before hitting a bound
+     */
+    <WO extends OrderedMonoid<W>> ShortestPathTree<V, WE, W> applyingDijkstra( WO weightOperations );
+
+    /**
+     *  Grows the shortest path tree using Dijkstra's algorithm, reusing the input workspace working memory.
+     *
+     * @param <WO> the type of weight operations
+     * @param weightOperations the class responsible for operations on weights
+     * @param workspace the working memory, shared by repeated queries
+     * @return the shortest path tree of the vertices settled before hitting a bound
+     */
+    <WO extends OrderedMonoid<W>> ShortestPathTree<V, WE, W> applyingDijkstra( WO weightOperations,
+                                                                             ShortestPathWorkspace<V, WE, W> workspace );
+
+}
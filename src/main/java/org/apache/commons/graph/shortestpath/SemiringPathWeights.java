@@ -0,0 +1,73 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.GraphException;
+import org.apache.commons.graph.weight.Monoid;
+import org.apache.commons.graph.weight.Semiring;
+
+/**
+ * The multiplicative {@link Monoid} of a {@link Semiring}, which sums up the edges weights of the paths built
+ * by the algorithms running over it.
+ *
+ * Semiring weights have no inverse: this adapter is only handed to Floyd-Warshall, Bellman-Ford and the paths they
+ * build, which never invert a weight, and it is never exposed as an {@code OrderedMonoid}.
+ *
+ * @param <W> The weight type
+ */
+final class SemiringPathWeights<W>
+    implements Monoid<W>
+{
+
+    private static final long serialVersionUID = 3722716432880738620L;
+
+    private final Semiring<W> semiring;
+
+    public SemiringPathWeights( Semiring<W> semiring )
+    {
+        this.semiring = semiring;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public W append( W e1, W e2 )
+    {
+        return semiring.times( e1, e2 );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public W identity()
+    {
+        return semiring.one();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public W inverse( W element )
+    {
+        throw new GraphException( "%s path weights can not be inverted, the algorithm requires an OrderedMonoid",
+                                  semiring.getClass().getSimpleName() );
+    }
+
+}
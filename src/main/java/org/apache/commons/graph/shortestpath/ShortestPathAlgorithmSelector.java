@@ -19,6 +19,8 @@ package org.apache.commons.graph.shortestpath;
  * under the License.
  */
 
+import java.util.List;
+
 import org.apache.commons.graph.WeightedPath;
 import org.apache.commons.graph.weight.OrderedMonoid;
 
@@ -41,6 +43,28 @@ public interface ShortestPathAlgorithmSelector<V, WE, W>
      */
     <WO extends OrderedMonoid<W>> HeuristicBuilder<V, WE, W> applyingAStar( WO weightOperations );
 
+    /**
+     *  Calculates the shortest path using the A* algorithm, reusing the input workspace working memory.
+     *
+     * @param <WO> the type of weight operations
+     * @param weightOperations the class responsible for operations on weights
+     * @param workspace the working memory, shared by repeated queries
+     * @return the builder for the A* heuristic
+     */
+    <WO extends OrderedMonoid<W>> HeuristicBuilder<V, WE, W> applyingAStar( WO weightOperations,
+                                                                          ShortestPathWorkspace<V, WE, W> workspace );
+
+    /**
+     *  Calculates the shortest path using the bidirectional A* algorithm, balancing the forward and backward
+     *  searches with average potentials. The heuristic must be consistent, i.e. satisfy the triangle inequality,
+     *  and is applied both as {@code h(v, target)} and as {@code h(source, v)}.
+     *
+     * @param <WO> the type of weight operations
+     * @param weightOperations the class responsible for operations on weights
+     * @return the builder for the A* heuristic
+     */
+    <WO extends OrderedMonoid<W>> HeuristicBuilder<V, WE, W> applyingBidirectionalAStar( WO weightOperations );
+
     /**
      *  Calculates the shortest path using bidirectional Dijkstra's algorithm.
      *
@@ -50,6 +74,16 @@ public interface ShortestPathAlgorithmSelector<V, WE, W>
      */
     <WO extends OrderedMonoid<W>> WeightedPath<V, WE, W> applyingBidirectionalDijkstra( WO weightOperations );
 
+    /**
+     *  Calculates the shortest path using bidirectional Dijkstra's algorithm, running the forward and the
+     *  backward searches on two threads of the common fork/join pool.
+     *
+     * @param <WO> the type of weight operations
+     * @param weightOperations the class responsible for operations on weights
+     * @return a path which describes the shortest path, if any, otherwise a {@link PathNotFoundException} will be thrown
+     */
+    <WO extends OrderedMonoid<W>> WeightedPath<V, WE, W> applyingParallelBidirectionalDijkstra( WO weightOperations );
+
     /**
      *  Calculates the shortest path using Dijkstra's algorithm.
      *
@@ -59,4 +93,26 @@ public interface ShortestPathAlgorithmSelector<V, WE, W>
      */
     <WO extends OrderedMonoid<W>> WeightedPath<V, WE, W> applyingDijkstra( WO weightOperations );
 
+    /**
+     *  Calculates the shortest path using Dijkstra's algorithm, reusing the input workspace working memory.
+     *
+     * @param <WO> the type of weight operations
+     * @param weightOperations the class responsible for operations on weights
+     * @param workspace the working memory, shared by repeated queries
+     * @return a path which describes the shortest path, if any, otherwise a {@link PathNotFoundException} will be thrown
+     */
+    <WO extends OrderedMonoid<W>> WeightedPath<V, WE, W> applyingDijkstra( WO weightOperations,
+                                                                         ShortestPathWorkspace<V, WE, W> workspace );
+
+    /**
+     *  Calculates the {@code k} shortest loopless paths using Yen's algorithm.
+     *
+     * @param <WO> the type of weight operations
+     * @param k the maximum number of paths, must be positive
+     * @param weightOperations the class responsible for operations on weights
+     * @return at most {@code k} paths in non-decreasing weight order, fewer if the graph doesn't contain as many
+     *         loopless paths; if the target is not reachable a {@link PathNotFoundException} will be thrown
+     */
+    <WO extends OrderedMonoid<W>> List<WeightedPath<V, WE, W>> applyingYen( int k, WO weightOperations );
+
 }
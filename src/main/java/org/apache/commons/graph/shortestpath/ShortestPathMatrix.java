@@ -0,0 +1,202 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Arrays;
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.collections.ElementIndex;
+import org.apache.commons.graph.model.InMemoryWeightedPath;
+import org.apache.commons.graph.weight.Monoid;
+
+/**
+ * Dense all vertex pairs distance and next-hop tables, indexed by vertex identifiers,
+ * from which shortest paths are rebuilt on demand.
+ *
+ * @param <V> The Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> The weight type
+ */
+final class ShortestPathMatrix<V, WE, W>
+{
+
+    private final Graph<V, WE> graph;
+
+    private final Mapper<WE, W> weightedEdges;
+
+    private final Monoid<W> weightOperations;
+
+    private final ElementIndex<V> vertices;
+
+    private final int order;
+
+    /**
+     * The row-major distance matrix, {@code null} means no path.
+     */
+    private final Object[] distances;
+
+    /**
+     * The row-major next-hop matrix, {@code -1} means no path.
+     */
+    private final int[] next;
+
+    public ShortestPathMatrix( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, Monoid<W> weightOperations,
+                               ElementIndex<V> vertices )
+    {
+        this.graph = graph;
+        this.weightedEdges = weightedEdges;
+        this.weightOperations = weightOperations;
+        this.vertices = vertices;
+        this.order = vertices.size();
+        this.distances = new Object[order * order];
+        this.next = new int[order * order];
+
+        Arrays.fill( next, -1 );
+        for ( int i = 0; i < order; i++ )
+        {
+            distances[i * order + i] = weightOperations.identity();
+            next[i * order + i] = i;
+        }
+    }
+
+    /**
+     * Returns the vertex index the matrix rows and columns refer to.
+     *
+     * @return the vertex index the matrix rows and columns refer to.
+     */
+    public ElementIndex<V> getVertices()
+    {
+        return vertices;
+    }
+
+    /**
+     * Returns the number of matrix rows (and columns).
+     *
+     * @return the number of matrix rows (and columns).
+     */
+    public int getOrder()
+    {
+        return order;
+    }
+
+    /**
+     * Returns the weight operations the paths weights are computed with.
+     *
+     * @return the weight operations the paths weights are computed with.
+     */
+    public Monoid<W> getWeightOperations()
+    {
+        return weightOperations;
+    }
+
+    /**
+     * Returns the shortest distance between two vertex identifiers, {@code null} if there is no path.
+     *
+     * @param source the source vertex identifier
+     * @param target the target vertex identifier
+     * @return the shortest distance, {@code null} if there is no path.
+     */
+    public W getDistance( int source, int target )
+    {
+        return getDistance( source * order + target );
+    }
+
+    /**
+     * Returns the distance stored in the input row-major cell, {@code null} if there is no path.
+     *
+     * @param cell the row-major cell
+     * @return the distance stored in the input cell, {@code null} if there is no path.
+     */
+    @SuppressWarnings( "unchecked" ) // only W instances are stored in the distances matrix
+    public W getDistance( int cell )
+    {
+        return (W) distances[cell];
+    }
+
+    /**
+     * Returns the identifier of the vertex following {@code source} on the shortest path to {@code target},
+     * {@code -1} if there is no path.
+     *
+     * @param source the source vertex identifier
+     * @param target the target vertex identifier
+     * @return the next-hop vertex identifier, {@code -1} if there is no path.
+     */
+    public int getNext( int source, int target )
+    {
+        return next[source * order + target];
+    }
+
+    /**
+     * Returns the next-hop stored in the input row-major cell, {@code -1} if there is no path.
+     *
+     * @param cell the row-major cell
+     * @return the next-hop stored in the input cell, {@code -1} if there is no path.
+     */
+    public int getNext( int cell )
+    {
+        return next[cell];
+    }
+
+    /**
+     * Stores the shortest distance and next-hop in the input row-major cell.
+     *
+     * @param cell the row-major cell
+     * @param distance the shortest distance
+     * @param nextHop the next-hop vertex identifier
+     */
+    public void set( int cell, W distance, int nextHop )
+    {
+        distances[cell] = distance;
+        next[cell] = nextHop;
+    }
+
+    /**
+     * Rebuilds the shortest path between two vertex identifiers following the next-hop matrix.
+     *
+     * @param source the source vertex identifier
+     * @param target the target vertex identifier
+     * @return the shortest path, {@code null} if there is no path.
+     */
+    public WeightedPath<V, WE, W> buildPath( int source, int target )
+    {
+        if ( source == target || next[source * order + target] < 0 )
+        {
+            return null;
+        }
+
+        InMemoryWeightedPath<V, WE, W> path =
+            new InMemoryWeightedPath<V, WE, W>( vertices.get( source ), vertices.get( target ), weightOperations, weightedEdges );
+
+        int current = source;
+        while ( current != target )
+        {
+            int successor = next[current * order + target];
+            V head = vertices.get( current );
+            V tail = vertices.get( successor );
+            path.addConnectionInTail( head, graph.getEdge( head, tail ), tail );
+            current = successor;
+        }
+
+        return path;
+    }
+
+}
@@ -0,0 +1,181 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.collections.ElementIndex;
+import org.apache.commons.graph.model.InMemoryWeightedPath;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * The, possibly partial, shortest path tree grown by a bounded search: it contains the vertices settled by the
+ * search, in non-decreasing distance order, each one with its exact distance from the source and the edge it is
+ * reached through.
+ *
+ * @param <V> The Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> The weight type
+ */
+public final class ShortestPathTree<V, WE, W>
+{
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final OrderedMonoid<W> weightOperations;
+
+    private final Mapper<WE, W> weightedEdges;
+
+    /**
+     * The search source, known even if the search bounds did not let it be settled.
+     */
+    private final V source;
+
+    /**
+     * The settled vertices, identified by their settle order.
+     */
+    private final ElementIndex<V> vertices = new ElementIndex<V>();
+
+    private Object[] distances = new Object[INITIAL_CAPACITY];
+
+    private int[] predecessors = new int[INITIAL_CAPACITY];
+
+    private Object[] predecessorEdges = new Object[INITIAL_CAPACITY];
+
+    ShortestPathTree( OrderedMonoid<W> weightOperations, Mapper<WE, W> weightedEdges, V source )
+    {
+        this.weightOperations = weightOperations;
+        this.weightedEdges = weightedEdges;
+        this.source = source;
+    }
+
+    /**
+     * Adds a settled vertex, reached from an already settled predecessor, {@code null} for the source.
+     */
+    void settle( V vertex, W distance, V predecessor, WE predecessorEdge )
+    {
+        int index = vertices.add( vertex );
+        if ( index == distances.length )
+        {
+            distances = Arrays.copyOf( distances, 2 * index );
+            predecessors = Arrays.copyOf( predecessors, 2 * index );
+            predecessorEdges = Arrays.copyOf( predecessorEdges, 2 * index );
+        }
+        distances[index] = distance;
+        predecessors[index] = predecessor == null ? -1 : vertices.indexOf( predecessor );
+        predecessorEdges[index] = predecessorEdge;
+    }
+
+    /**
+     * Returns the search source.
+     *
+     * @return the search source.
+     */
+    public V getSource()
+    {
+        return source;
+    }
+
+    /**
+     * Returns the number of settled vertices.
+     *
+     * @return the number of settled vertices.
+     */
+    public int getSize()
+    {
+        return vertices.size();
+    }
+
+    /**
+     * Returns the settled vertices, in non-decreasing distance order.
+     *
+     * @return the settled vertices, in non-decreasing distance order.
+     */
+    public List<V> getSettledVertices()
+    {
+        @SuppressWarnings( "unchecked" ) // the settled vertices are all V instances
+        V[] settled = (V[]) new Object[vertices.size()];
+        for ( int i = 0; i < settled.length; i++ )
+        {
+            settled[i] = vertices.get( i );
+        }
+        return Arrays.asList( settled );
+    }
+
+    /**
+     * Checks if the input vertex has been settled by the search.
+     *
+     * @param vertex the vertex to check
+     * @return true if the vertex has been settled, false otherwise
+     */
+    public boolean contains( V vertex )
+    {
+        return vertices.indexOf( vertex ) >= 0;
+    }
+
+    /**
+     * Returns the shortest distance from the source to the input vertex.
+     *
+     * @param vertex the vertex which distance has to be returned
+     * @return the shortest distance from the source, {@code null} if the vertex has not been settled
+     */
+    @SuppressWarnings( "unchecked" ) // only W instances are stored in the distances array
+    public W getDistance( V vertex )
+    {
+        int index = vertices.indexOf( vertex );
+        return index < 0 ? null : (W) distances[index];
+    }
+
+    /**
+     * Builds the shortest path from the source to the input vertex.
+     *
+     * @param vertex the path target
+     * @return the shortest path from the source to the input vertex
+     * @throws PathNotFoundException if the vertex has not been settled by the search
+     */
+    @SuppressWarnings( "unchecked" ) // only WE instances are stored in the predecessorEdges array
+    public WeightedPath<V, WE, W> getShortestPath( V vertex )
+    {
+        int index = vertices.indexOf( vertex );
+        if ( index < 0 )
+        {
+            throw new PathNotFoundException( "Vertex '%s' has not been settled searching from '%s'", vertex, getSource() );
+        }
+
+        InMemoryWeightedPath<V, WE, W> path =
+            new InMemoryWeightedPath<V, WE, W>( getSource(), vertex, weightOperations, weightedEdges );
+        for ( int current = index; predecessors[current] >= 0; current = predecessors[current] )
+        {
+            path.addConnectionInHead( vertices.get( predecessors[current] ), (WE) predecessorEdges[current],
+                                      vertices.get( current ) );
+        }
+        return path;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format( "ShortestPathTree [source=%s, settled=%s]", getSource(), getSettledVertices() );
+    }
+
+}
@@ -0,0 +1,191 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.collections.ElementIndex;
+import org.apache.commons.graph.collections.IndexedHeap;
+import org.apache.commons.graph.model.InMemoryWeightedPath;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * The working memory of point-to-point shortest path searches, to be reused by repeated queries so that
+ * they do not allocate hash-based maps and sets sized for the whole search.
+ *
+ * Vertices are assigned a dense identifier the first time a search reaches them, and their distance,
+ * predecessor and settled state are stored in arrays; each search starts a new <i>generation</i>, so
+ * resetting the previous search state takes constant time.
+ *
+ * <p><b>Note</b>: a workspace can be used by one search at a time, it is NOT thread safe!</p>
+ *
+ * @param <V> The Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> The weight type
+ */
+public final class ShortestPathWorkspace<V, WE, W>
+{
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ElementIndex<V> vertices = new ElementIndex<V>();
+
+    private OrderedMonoid<W> weightOperations;
+
+    private final IndexedHeap<W> open = new IndexedHeap<W>( INITIAL_CAPACITY, new Comparator<W>()
+    {
+
+        public int compare( W o1, W o2 )
+        {
+            return weightOperations.compare( o1, o2 );
+        }
+
+    } );
+
+    /**
+     * The generation each vertex has been reached in; data of vertices reached in older generations is stale.
+     */
+    private int[] reachedGenerations = new int[INITIAL_CAPACITY];
+
+    private int[] settledGenerations = new int[INITIAL_CAPACITY];
+
+    private Object[] distances = new Object[INITIAL_CAPACITY];
+
+    private int[] predecessors = new int[INITIAL_CAPACITY];
+
+    private Object[] predecessorEdges = new Object[INITIAL_CAPACITY];
+
+    private int generation = 0;
+
+    /**
+     * Starts a new search, discarding the state of the previous one.
+     *
+     * @param weightOperations the weight operations of the new search
+     */
+    void begin( OrderedMonoid<W> weightOperations )
+    {
+        this.weightOperations = weightOperations;
+        open.clear();
+
+        if ( ++generation == Integer.MAX_VALUE )
+        {
+            Arrays.fill( reachedGenerations, 0 );
+            Arrays.fill( settledGenerations, 0 );
+            generation = 1;
+        }
+    }
+
+    /**
+     * Returns the identifier of the input vertex, assigning a new one if the vertex was never reached before.
+     *
+     * @param vertex the vertex
+     * @return the vertex identifier
+     */
+    int indexOf( V vertex )
+    {
+        int index = vertices.add( vertex );
+        if ( index == reachedGenerations.length )
+        {
+            int capacity = 2 * reachedGenerations.length;
+            reachedGenerations = Arrays.copyOf( reachedGenerations, capacity );
+            settledGenerations = Arrays.copyOf( settledGenerations, capacity );
+            distances = Arrays.copyOf( distances, capacity );
+            predecessors = Arrays.copyOf( predecessors, capacity );
+            predecessorEdges = Arrays.copyOf( predecessorEdges, capacity );
+            open.ensureCapacity( capacity );
+        }
+        return index;
+    }
+
+    V getVertex( int index )
+    {
+        return vertices.get( index );
+    }
+
+    IndexedHeap<W> getOpen()
+    {
+        return open;
+    }
+
+    /**
+     * Returns the distance of the input vertex in the current search, {@code null} if not reached yet.
+     */
+    @SuppressWarnings( "unchecked" ) // only W instances are stored in the distances array
+    W getDistance( int index )
+    {
+        return reachedGenerations[index] == generation ? (W) distances[index] : null;
+    }
+
+    /**
+     * Sets the distance of the input vertex in the current search, reached through the input edge.
+     */
+    void setDistance( int index, W distance, int predecessor, WE predecessorEdge )
+    {
+        reachedGenerations[index] = generation;
+        distances[index] = distance;
+        predecessors[index] = predecessor;
+        predecessorEdges[index] = predecessorEdge;
+    }
+
+    /**
+     * Returns the vertex the input one has been reached from in the current search, {@code -1} for the source.
+     */
+    int getPredecessor( int index )
+    {
+        return predecessors[index];
+    }
+
+    @SuppressWarnings( "unchecked" ) // only WE instances are stored in the predecessorEdges array
+    WE getPredecessorEdge( int index )
+    {
+        return (WE) predecessorEdges[index];
+    }
+
+    boolean isSettled( int index )
+    {
+        return settledGenerations[index] == generation;
+    }
+
+    void settle( int index )
+    {
+        settledGenerations[index] = generation;
+    }
+
+    /**
+     * Builds the path from the source of the current search to the input target.
+     */
+    @SuppressWarnings( "unchecked" ) // only WE instances are stored in the predecessorEdges array
+    WeightedPath<V, WE, W> buildPath( int source, int target, Mapper<WE, W> weightedEdges )
+    {
+        InMemoryWeightedPath<V, WE, W> path =
+            new InMemoryWeightedPath<V, WE, W>( vertices.get( source ), vertices.get( target ), weightOperations, weightedEdges );
+
+        for ( int vertex = target; vertex != source; vertex = predecessors[vertex] )
+        {
+            path.addConnectionInHead( vertices.get( predecessors[vertex] ), (WE) predecessorEdges[vertex], vertices.get( vertex ) );
+        }
+
+        return path;
+    }
+
+}
@@ -20,6 +20,7 @@ package org.apache.commons.graph.shortestpath;
  */
 
 import org.apache.commons.graph.weight.OrderedMonoid;
+import org.apache.commons.graph.weight.Semiring;
 
 /**
  *
@@ -37,9 +38,57 @@ public interface TargetSourceSelector<V, WE, W>
      * @param <WO> the type of weight operations
      * @param weightOperations the weight operations needed for the algorithm
      * @return a data structure which contains all vertex pairs shortest path.
+     * @throws NegativeWeightedCycleException if a negative weighted cycle is reachable from the source,
+     *         carrying the cycle itself
      */
     <WO extends OrderedMonoid<W>> AllVertexPairsShortestPath<V, WE, W> applyingBelmannFord( WO weightOperations );
 
+    /**
+     *  Calculates the best paths using the BellmannFord's algorithm over the input semiring, i.e. the widest
+     *  paths, the most reliable paths or the reachable vertices.
+     *
+     * @param <S> the type of semiring
+     * @param semiring the semiring the paths weights are merged and concatenated with
+     * @return a data structure which contains all vertex pairs best path.
+     * @throws NegativeWeightedCycleException if a cycle improving its own vertices is reachable from the source,
+     *         carrying the cycle itself
+     */
+    <S extends Semiring<W>> AllVertexPairsShortestPath<V, WE, W> applyingBelmannFordOver( S semiring );
+
+    /**
+     *  Calculates the shortest path tree of the source using Dijkstra's algorithm, and keeps it up to date
+     *  while edges weights change.
+     *
+     * @param <WO> the type of weight operations
+     * @param weightOperations the weight operations needed for the algorithm
+     * @return the dynamic shortest path tree to notify of edges weights changes
+     */
+    <WO extends OrderedMonoid<W>> DynamicShortestPaths<V, WE, W> applyingDynamicDijkstra( WO weightOperations );
+
+    /**
+     * Bounds the search to the vertices having a distance from the source not greater than the input one.
+     *
+     * @param maxDistance the maximum distance from the source
+     * @return the bounded search selector
+     */
+    SearchBoundsSelector<V, WE, W> within( W maxDistance );
+
+    /**
+     * Bounds the search to the first settled vertices, the source included.
+     *
+     * @param maxSettled the maximum number of vertices to settle
+     * @return the bounded search selector
+     */
+    SearchBoundsSelector<V, WE, W> settlingAtMost( int maxSettled );
+
+    /**
+     * Stops the search as soon as all the input targets are settled.
+     *
+     * @param targets the vertices the search has to settle
+     * @return the bounded search selector
+     */
+    <T extends V> SearchBoundsSelector<V, WE, W> toAll( Iterable<T> targets );
+
     /**
      * Specifies the shortest path source.
      *
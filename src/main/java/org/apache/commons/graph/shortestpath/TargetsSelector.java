@@ -1,4 +1,4 @@
-package org.apache.commons.graph.scc;
+package org.apache.commons.graph.shortestpath;
 
 /*
  * Licensed to the Apache Software Foundation (ASF) under one
@@ -19,38 +19,22 @@ package org.apache.commons.graph.scc;
  * under the License.
  */
 
-final class TarjanVertexMetaInfo
+/**
+ * Selects the targets of a many-to-many shortest distances computation.
+ *
+ * @param <V> The Graph vertices type.
+ * @param <WE> the Graph weighted edges type
+ * @param <W> The weight type
+ */
+public interface TargetsSelector<V, WE, W>
 {
 
-    private static final int UNDEFINED = -1;
-
-    private int index = UNDEFINED;
-
-    private int lowLink = UNDEFINED;
-
-    public int getIndex()
-    {
-        return index;
-    }
-
-    public int getLowLink()
-    {
-        return lowLink;
-    }
-
-    public boolean hasUndefinedIndex()
-    {
-        return UNDEFINED == index;
-    }
-
-    public void setIndex( int index )
-    {
-        this.index = index;
-    }
-
-    public void setLowLink( int lowLink )
-    {
-        this.lowLink = lowLink;
-    }
+    /**
+     * Specifies the shortest paths targets.
+     *
+     * @param targets the shortest paths targets
+     * @return the many-to-many algorithm selector
+     */
+    <T extends V> DistanceTableAlgorithmSelector<V, WE, W> toAll( Iterable<T> targets );
 
 }
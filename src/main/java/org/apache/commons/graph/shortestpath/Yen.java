@@ -0,0 +1,427 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.collections.IndexedHeap;
+import org.apache.commons.graph.model.InMemoryWeightedPath;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * <a href="https://en.wikipedia.org/wiki/Yen%27s_algorithm">Yen's algorithm</a> for the k shortest loopless
+ * paths, with Lawler's restriction of the spur vertices to the deviation suffix of the last accepted path.
+ *
+ * Spur searches run on a {@link CompactGraph} where the excluded arcs and root path vertices are only masked.
+ * The reverse shortest path tree of the target is computed once: when the tree path of a spur vertex avoids
+ * the masked elements it is the spur path itself, otherwise its distances guide an A* search and prune the
+ * vertices that can not reach the target at all.
+ *
+ * @param <V> The Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> The weight type
+ */
+final class Yen<V, WE, W>
+{
+
+    private final Graph<V, WE> graph;
+
+    private final Mapper<WE, W> weightedEdges;
+
+    private final OrderedMonoid<W> weightOperations;
+
+    private final V source;
+
+    private final V target;
+
+    private final CompactGraph<V, WE, W> compactGraph;
+
+    private final int sourceIndex;
+
+    private final int targetIndex;
+
+    /**
+     * The distance of each vertex to the target in the unmasked graph, {@code null} if the target is unreachable.
+     */
+    private final Object[] toTarget;
+
+    /**
+     * The arc leaving each vertex in the reverse shortest path tree of the target.
+     */
+    private final int[] successorArcs;
+
+    private final boolean[] maskedArcs;
+
+    private final boolean[] maskedVertices;
+
+    private final IndexedHeap<W> open;
+
+    private final Object[] distances;
+
+    private final int[] predecessorArcs;
+
+    private final boolean[] closed;
+
+    /**
+     * The vertices touched by the last spur search, to be reset by the next one.
+     */
+    private final int[] reached;
+
+    private int reachedSize = 0;
+
+    public Yen( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, OrderedMonoid<W> weightOperations, V source, V target )
+    {
+        this.graph = graph;
+        this.weightedEdges = weightedEdges;
+        this.weightOperations = weightOperations;
+        this.source = source;
+        this.target = target;
+
+        compactGraph = new CompactGraph<V, WE, W>( graph, weightedEdges );
+        sourceIndex = compactGraph.getVertices().indexOf( source );
+        targetIndex = compactGraph.getVertices().indexOf( target );
+
+        int order = compactGraph.getOrder();
+        toTarget = new Object[order];
+        successorArcs = new int[order];
+        maskedArcs = new boolean[compactGraph.getArcs()];
+        maskedVertices = new boolean[order];
+        open = new IndexedHeap<W>( order, weightOperations );
+        distances = new Object[order];
+        predecessorArcs = new int[order];
+        closed = new boolean[order];
+        reached = new int[order];
+    }
+
+    /**
+     * Computes the shortest loopless paths from the source to the target, in non-decreasing weight order.
+     *
+     * @param k the maximum number of paths
+     * @return at most {@code k} paths, fewer if the graph doesn't contain as many loopless paths
+     * @throws PathNotFoundException if the target is not reachable from the source
+     */
+    public List<WeightedPath<V, WE, W>> apply( int k )
+    {
+        if ( sourceIndex < 0 || targetIndex < 0 )
+        {
+            throw new PathNotFoundException( "Path from '%s' to '%s' doesn't exist in Graph '%s'", source, target, graph );
+        }
+
+        DenseDijkstra<V, WE, W> reverseTree = new DenseDijkstra<V, WE, W>( compactGraph, weightOperations );
+        reverseTree.search( targetIndex, true );
+        for ( int vertex = 0; vertex < compactGraph.getOrder(); vertex++ )
+        {
+            toTarget[vertex] = reverseTree.getDistance( vertex );
+            successorArcs[vertex] = reverseTree.getPredecessorArc( vertex );
+        }
+        if ( toTarget[sourceIndex] == null )
+        {
+            throw new PathNotFoundException( "Path from '%s' to '%s' doesn't exist in Graph '%s'", source, target, graph );
+        }
+
+        List<Candidate> accepted = new ArrayList<Candidate>( k );
+        Set<Candidate> known = new HashSet<Candidate>();
+        PriorityQueue<Candidate> candidates = new PriorityQueue<Candidate>( 11, new Comparator<Candidate>()
+        {
+
+            public int compare( Candidate o1, Candidate o2 )
+            {
+                int byWeight = weightOperations.compare( o1.weight, o2.weight );
+                return byWeight != 0 ? byWeight : o1.arcs.length - o2.arcs.length;
+            }
+
+        } );
+
+        Candidate shortest = new Candidate( treePath( sourceIndex, new int[0], 0 ), distanceToTarget( sourceIndex ), 0 );
+        accepted.add( shortest );
+        known.add( shortest );
+
+        while ( accepted.size() < k )
+        {
+            Candidate last = accepted.get( accepted.size() - 1 );
+
+            W rootWeight = weightOperations.identity();
+            for ( int i = 0; i < last.deviation; i++ )
+            {
+                rootWeight = weightOperations.append( rootWeight, compactGraph.getWeight( last.arcs[i] ) );
+            }
+
+            for ( int i = last.deviation; i < last.arcs.length; i++ )
+            {
+                int spur = i == 0 ? sourceIndex : compactGraph.getTail( last.arcs[i - 1] );
+
+                // root path vertices, but the spur one, can not be crossed again
+                maskedVertices[sourceIndex] = i > 0;
+                for ( int j = 0; j < i - 1; j++ )
+                {
+                    maskedVertices[compactGraph.getTail( last.arcs[j] )] = true;
+                }
+                // arcs leaving the spur vertex along the accepted paths sharing the root path are excluded
+                for ( Candidate path : accepted )
+                {
+                    if ( path.arcs.length > i && sharesRoot( path.arcs, last.arcs, i ) )
+                    {
+                        maskedArcs[path.arcs[i]] = true;
+                    }
+                }
+
+                Candidate candidate = spur( last.arcs, i, spur, rootWeight );
+                if ( candidate != null && known.add( candidate ) )
+                {
+                    candidates.offer( candidate );
+                }
+
+                maskedVertices[sourceIndex] = false;
+                for ( int j = 0; j < i - 1; j++ )
+                {
+                    maskedVertices[compactGraph.getTail( last.arcs[j] )] = false;
+                }
+                for ( Candidate path : accepted )
+                {
+                    if ( path.arcs.length > i )
+                    {
+                        maskedArcs[path.arcs[i]] = false;
+                    }
+                }
+
+                rootWeight = weightOperations.append( rootWeight, compactGraph.getWeight( last.arcs[i] ) );
+            }
+
+            if ( candidates.isEmpty() )
+            {
+                break;
+            }
+            accepted.add( candidates.poll() );
+        }
+
+        List<WeightedPath<V, WE, W>> paths = new ArrayList<WeightedPath<V, WE, W>>( accepted.size() );
+        for ( Candidate candidate : accepted )
+        {
+            paths.add( toPath( candidate.arcs ) );
+        }
+        return paths;
+    }
+
+    private static boolean sharesRoot( int[] path, int[] other, int length )
+    {
+        for ( int i = 0; i < length; i++ )
+        {
+            if ( path[i] != other[i] )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings( "unchecked" ) // only W instances are stored in the toTarget array
+    private W distanceToTarget( int vertex )
+    {
+        return (W) toTarget[vertex];
+    }
+
+    @SuppressWarnings( "unchecked" ) // only W instances are stored in the distances array
+    private W getDistance( int vertex )
+    {
+        return (W) distances[vertex];
+    }
+
+    /**
+     * Appends to the input root path the reverse tree path from the input vertex to the target.
+     */
+    private int[] treePath( int vertex, int[] root, int rootLength )
+    {
+        int length = rootLength;
+        for ( int current = vertex; successorArcs[current] >= 0; current = compactGraph.getTail( successorArcs[current] ) )
+        {
+            length++;
+        }
+
+        int[] arcs = Arrays.copyOf( root, length );
+        int i = rootLength;
+        for ( int current = vertex; successorArcs[current] >= 0; current = compactGraph.getTail( successorArcs[current] ) )
+        {
+            arcs[i++] = successorArcs[current];
+        }
+        return arcs;
+    }
+
+    /**
+     * Checks whether the reverse tree path from the input vertex avoids the masked arcs and vertices.
+     */
+    private boolean isTreePathUnmasked( int vertex )
+    {
+        for ( int current = vertex; successorArcs[current] >= 0; current = compactGraph.getTail( successorArcs[current] ) )
+        {
+            if ( maskedVertices[current] || maskedArcs[successorArcs[current]] )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Searches the shortest path from the spur vertex to the target in the masked graph and joins it to the root path.
+     */
+    private Candidate spur( int[] root, int rootLength, int spur, W rootWeight )
+    {
+        if ( toTarget[spur] == null )
+        {
+            return null;
+        }
+        if ( isTreePathUnmasked( spur ) )
+        {
+            return new Candidate( treePath( spur, root, rootLength ),
+                                  weightOperations.append( rootWeight, distanceToTarget( spur ) ),
+                                  rootLength );
+        }
+
+        for ( int i = 0; i < reachedSize; i++ )
+        {
+            distances[reached[i]] = null;
+            closed[reached[i]] = false;
+        }
+        reachedSize = 0;
+        open.clear();
+
+        reach( spur, weightOperations.identity(), -1 );
+
+        while ( !open.isEmpty() )
+        {
+            int vertex = open.poll();
+            if ( vertex == targetIndex )
+            {
+                int length = rootLength;
+                for ( int current = vertex; current != spur; current = compactGraph.getHead( predecessorArcs[current] ) )
+                {
+                    length++;
+                }
+                int[] arcs = Arrays.copyOf( root, length );
+                for ( int current = vertex; current != spur; current = compactGraph.getHead( predecessorArcs[current] ) )
+                {
+                    arcs[--length] = predecessorArcs[current];
+                }
+                return new Candidate( arcs, weightOperations.append( rootWeight, getDistance( vertex ) ), rootLength );
+            }
+            closed[vertex] = true;
+            W distance = getDistance( vertex );
+
+            for ( int i = compactGraph.getOutboundStart( vertex ); i < compactGraph.getOutboundStart( vertex + 1 ); i++ )
+            {
+                int arc = compactGraph.getOutboundArc( i );
+                int next = compactGraph.getTail( arc );
+                // vertices not reaching the target in the whole graph can not reach it in the masked one
+                if ( maskedArcs[arc] || maskedVertices[next] || closed[next] || toTarget[next] == null )
+                {
+                    continue;
+                }
+
+                W candidate = weightOperations.append( distance, compactGraph.getWeight( arc ) );
+                W current = getDistance( next );
+                if ( current == null || weightOperations.compare( candidate, current ) < 0 )
+                {
+                    if ( current == null )
+                    {
+                        reached[reachedSize++] = next;
+                    }
+                    distances[next] = candidate;
+                    predecessorArcs[next] = arc;
+                    // distances to the target in the unmasked graph are a consistent heuristic for the masked one
+                    open.offer( next, weightOperations.append( candidate, distanceToTarget( next ) ) );
+                }
+            }
+        }
+        return null;
+    }
+
+    private void reach( int vertex, W distance, int arc )
+    {
+        reached[reachedSize++] = vertex;
+        distances[vertex] = distance;
+        predecessorArcs[vertex] = arc;
+        open.offer( vertex, weightOperations.append( distance, distanceToTarget( vertex ) ) );
+    }
+
+    private WeightedPath<V, WE, W> toPath( int[] arcs )
+    {
+        InMemoryWeightedPath<V, WE, W> path = new InMemoryWeightedPath<V, WE, W>( source, target, weightOperations, weightedEdges );
+        for ( int arc : arcs )
+        {
+            path.addConnectionInTail( compactGraph.getVertices().get( compactGraph.getHead( arc ) ),
+                                      compactGraph.getEdge( arc ),
+                                      compactGraph.getVertices().get( compactGraph.getTail( arc ) ) );
+        }
+        return path;
+    }
+
+    /**
+     * A loopless path, as arcs sequence, with the position where it deviates from the path it has been spurred from.
+     */
+    private final class Candidate
+    {
+
+        private final int[] arcs;
+
+        private final W weight;
+
+        private final int deviation;
+
+        public Candidate( int[] arcs, W weight, int deviation )
+        {
+            this.arcs = arcs;
+            this.weight = weight;
+            this.deviation = deviation;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Arrays.hashCode( arcs );
+        }
+
+        @Override
+        public boolean equals( Object obj )
+        {
+            if ( this == obj )
+            {
+                return true;
+            }
+            if ( obj == null || getClass() != obj.getClass() )
+            {
+                return false;
+            }
+            @SuppressWarnings( "unchecked" ) // the class has been checked
+            Candidate other = (Candidate) obj;
+            return Arrays.equals( arcs, other.arcs );
+        }
+
+    }
+
+}
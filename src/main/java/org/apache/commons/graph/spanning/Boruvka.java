@@ -0,0 +1,265 @@
+package org.apache.commons.graph.spanning;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.SpanningTree;
+import org.apache.commons.graph.VertexPair;
+import org.apache.commons.graph.collections.ElementIndex;
+import org.apache.commons.graph.collections.IntDisjointSet;
+import org.apache.commons.graph.model.MutableSpanningTree;
+import org.apache.commons.graph.utils.Tasks;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * Parallel <a href="https://en.wikipedia.org/wiki/Bor%C5%AFvka's_algorithm">Boruvka</a>'s algorithm.
+ *
+ * Each round scans the edges still joining different components in parallel slices, publishing the lightest edge
+ * leaving each component with compare-and-set, and drops the edges which became internal to a component.
+ * Components are then contracted through the selected edges. Ties are broken by edge identifier, so that the
+ * selected edges never close a cycle. The algorithm stops when no edge joins different components, so
+ * disconnected inputs produce a spanning forest.
+ *
+ * @param <V> The Graph vertices type
+ * @param <W> The weight type
+ * @param <WE> the Graph weighted edges type
+ */
+final class Boruvka<V, W, WE>
+{
+
+    /**
+     * The minimum number of edges worth a parallel slice.
+     */
+    private static final int MIN_SLICE_SIZE = 4096;
+
+    private final Graph<V, WE> graph;
+
+    private final Mapper<WE, W> weightedEdges;
+
+    private final OrderedMonoid<W> weightOperations;
+
+    private final ElementIndex<V> vertices;
+
+    private final int[] heads;
+
+    private final int[] tails;
+
+    private final Object[] weights;
+
+    private final Object[] edges;
+
+    /**
+     * The identifiers of the edges still joining different components, in {@code [0, aliveSize)}.
+     */
+    private final int[] alive;
+
+    private int aliveSize;
+
+    /**
+     * The component each vertex belongs to, in the current round.
+     */
+    private final int[] components;
+
+    /**
+     * The lightest edge leaving each component, {@code -1} if none.
+     */
+    private final AtomicIntegerArray lightest;
+
+    public Boruvka( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, OrderedMonoid<W> weightOperations )
+    {
+        this.graph = graph;
+        this.weightedEdges = weightedEdges;
+        this.weightOperations = weightOperations;
+        this.vertices = new ElementIndex<V>( graph.getVertices() );
+
+        int size = graph.getSize();
+        heads = new int[size];
+        tails = new int[size];
+        weights = new Object[size];
+        edges = new Object[size];
+        alive = new int[size];
+
+        for ( WE edge : graph.getEdges() )
+        {
+            VertexPair<V> pair = graph.getVertices( edge );
+            int head = vertices.indexOf( pair.getHead() );
+            int tail = vertices.indexOf( pair.getTail() );
+            // self loops never belong to a spanning tree
+            if ( head != tail )
+            {
+                heads[aliveSize] = head;
+                tails[aliveSize] = tail;
+                weights[aliveSize] = weightedEdges.map( edge );
+                edges[aliveSize] = edge;
+                alive[aliveSize] = aliveSize;
+                aliveSize++;
+            }
+        }
+
+        components = new int[vertices.size()];
+        for ( int v = 0; v < components.length; v++ )
+        {
+            components[v] = v;
+        }
+        lightest = new AtomicIntegerArray( vertices.size() );
+    }
+
+    /**
+     * Computes the minimum spanning forest.
+     *
+     * @return the minimum spanning forest, a tree if the graph is connected
+     */
+    public SpanningTree<V, WE, W> apply()
+    {
+        MutableSpanningTree<V, WE, W> spanningTree = new MutableSpanningTree<V, WE, W>( weightOperations, weightedEdges );
+        for ( V v : graph.getVertices() )
+        {
+            spanningTree.addVertex( v );
+        }
+
+        IntDisjointSet disjointSet = new IntDisjointSet( vertices.size() );
+
+        while ( aliveSize > 0 )
+        {
+            for ( int c = 0; c < components.length; c++ )
+            {
+                lightest.set( c, -1 );
+            }
+
+            scan();
+
+            // contraction, over at most one edge per component
+            for ( int c = 0; c < components.length; c++ )
+            {
+                int edge = lightest.get( c );
+                if ( edge >= 0 && disjointSet.union( heads[edge], tails[edge] ) )
+                {
+                    spanningTree.addEdge( vertices.get( heads[edge] ), getEdge( edge ), vertices.get( tails[edge] ) );
+                }
+            }
+            for ( int v = 0; v < components.length; v++ )
+            {
+                components[v] = disjointSet.find( v );
+            }
+        }
+
+        return spanningTree;
+    }
+
+    /**
+     * Runs the parallel slices scan, then joins the surviving edges of each slice.
+     */
+    private void scan()
+    {
+        int slices = Math.max( 1, Math.min( Tasks.parallelism(), aliveSize / MIN_SLICE_SIZE ) );
+        int sliceSize = ( aliveSize + slices - 1 ) / slices;
+
+        List<Slice> tasks = new ArrayList<Slice>( slices );
+        for ( int from = 0; from < aliveSize; from += sliceSize )
+        {
+            tasks.add( new Slice( from, Math.min( from + sliceSize, aliveSize ) ) );
+        }
+        Tasks.invokeAll( tasks );
+
+        int size = 0;
+        for ( Slice slice : tasks )
+        {
+            System.arraycopy( alive, slice.from, alive, size, slice.survivors );
+            size += slice.survivors;
+        }
+        aliveSize = size;
+    }
+
+    @SuppressWarnings( "unchecked" ) // only WE instances are stored in the edges array
+    private WE getEdge( int edge )
+    {
+        return (WE) edges[edge];
+    }
+
+    /**
+     * Total order on the edges: by weight, then by identifier.
+     */
+    @SuppressWarnings( "unchecked" ) // only W instances are stored in the weights array
+    private boolean isLighter( int edge, int other )
+    {
+        int comparison = weightOperations.compare( (W) weights[edge], (W) weights[other] );
+        return comparison < 0 || ( comparison == 0 && edge < other );
+    }
+
+    private void offer( int component, int edge )
+    {
+        while ( true )
+        {
+            int current = lightest.get( component );
+            if ( ( current >= 0 && !isLighter( edge, current ) ) || lightest.compareAndSet( component, current, edge ) )
+            {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Scans the {@code [from, to)} range of the alive edges, compacting the ones still joining different components
+     * at the head of the range.
+     */
+    private final class Slice
+        implements Callable<Void>
+    {
+
+        private final int from;
+
+        private final int to;
+
+        private int survivors;
+
+        public Slice( int from, int to )
+        {
+            this.from = from;
+            this.to = to;
+        }
+
+        public Void call()
+        {
+            int end = from;
+            for ( int i = from; i < to; i++ )
+            {
+                int edge = alive[i];
+                int headComponent = components[heads[edge]];
+                int tailComponent = components[tails[edge]];
+                if ( headComponent != tailComponent )
+                {
+                    alive[end++] = edge;
+                    offer( headComponent, edge );
+                    offer( tailComponent, edge );
+                }
+            }
+            survivors = end - from;
+            return null;
+        }
+
+    }
+
+}
@@ -19,22 +19,13 @@ package org.apache.commons.graph.spanning;
  * under the License.
  */
 
-import static java.util.Collections.reverseOrder;
-import static org.apache.commons.graph.CommonsGraph.findShortestPath;
 import static org.apache.commons.graph.utils.Assertions.checkNotNull;
 import static org.apache.commons.graph.utils.Assertions.checkState;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.PriorityQueue;
-import java.util.Queue;
-
 import org.apache.commons.graph.Graph;
 import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.Mappers;
 import org.apache.commons.graph.SpanningTree;
-import org.apache.commons.graph.VertexPair;
-import org.apache.commons.graph.model.MutableSpanningTree;
-import org.apache.commons.graph.shortestpath.PathNotFoundException;
 import org.apache.commons.graph.weight.OrderedMonoid;
 
 /**
@@ -63,57 +54,22 @@ final class DefaultSpanningTreeSourceSelector<V, W, WE>
      */
     public <WO extends OrderedMonoid<W>> SpanningTree<V, WE, W> applyingReverseDeleteAlgorithm( WO weightOperations )
     {
-
         checkNotNull( weightOperations, "The Reverse-Delete algorithm cannot be calulated with null weight operations" );
 
-        final Queue<WE> sortedEdge = new PriorityQueue<WE>( 11, reverseOrder( new WeightedEdgesComparator<W, WE>( weightOperations, weightedEdges ) ) );
-        final List<WE> visitedEdge = new ArrayList<WE>();
-
-        Iterable<WE> edges = graph.getEdges();
-        for ( WE we : edges )
-        {
-            sortedEdge.offer( we );
-        }
-
-        Graph<V, WE> tmpGraph = new ReverseDeleteGraph<V, WE>( graph, sortedEdge, visitedEdge );
-
-        while ( !sortedEdge.isEmpty() )
-        {
-            WE we = sortedEdge.poll();
-
-            VertexPair<V> vertices = graph.getVertices( we );
-
-            try
-            {
-                findShortestPath( tmpGraph )
-                    .whereEdgesHaveWeights( weightedEdges )
-                    .from( vertices.getHead() )
-                    .to( vertices.getTail() )
-                    .applyingDijkstra( weightOperations );
-            }
-            catch ( PathNotFoundException ex )
-            {
-                // only if a path doesn't exist
-                visitedEdge.add( we );
-            }
-        }
-
-        final MutableSpanningTree<V, WE, W> res = new MutableSpanningTree<V, WE, W>( weightOperations, weightedEdges );
-        for ( V v : graph.getVertices() )
-        {
-            res.addVertex( v );
-        }
-
-        for ( WE we : edges )
-        {
-            VertexPair<V> pair = tmpGraph.getVertices( we );
-            if ( pair != null )
-            {
-                res.addEdge( pair.getHead(), we, pair.getTail() );
-            }
-        }
+        /*
+         * an edge survives the deletions by decreasing weight if and only if no path of lighter edges joins its
+         * endpoints, which is exactly the edge set Kruskal's algorithm keeps.
+         */
+        return new Kruskal<V, W, WE>( graph, Mappers.precomputeIfExpensive( graph, weightedEdges ), weightOperations ).apply();
+    }
 
-        return res;
+    /**
+     * {@inheritDoc}
+     */
+    public <WO extends OrderedMonoid<W>> IncrementalSpanningTree<V, WE, W> applyingIncrementalMaintenance( WO weightOperations )
+    {
+        checkNotNull( weightOperations, "The spanning forest cannot be maintained with null weight operations" );
+        return new IncrementalSpanningTree<V, WE, W>( graph, weightedEdges, weightOperations );
     }
 
     /**
@@ -132,7 +88,7 @@ final class DefaultSpanningTreeSourceSelector<V, W, WE>
     {
         source = checkNotNull( source, "Spanning tree cannot be calculated without expressing the source vertex" );
         checkState( graph.containsVertex( source ), "Vertex %s does not exist in the Graph", source );
-        return new DefaultSpanningTreeAlgorithmSelector<V, W, WE>( graph, weightedEdges, source );
+        return new DefaultSpanningTreeAlgorithmSelector<V, W, WE>( graph, Mappers.precomputeIfExpensive( graph, weightedEdges ), source );
     }
 
 }
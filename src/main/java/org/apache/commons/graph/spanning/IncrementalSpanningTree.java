@@ -0,0 +1,327 @@
+package org.apache.commons.graph.spanning;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Arrays;
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.GraphException;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.SpanningTree;
+import org.apache.commons.graph.VertexPair;
+import org.apache.commons.graph.collections.ElementIndex;
+import org.apache.commons.graph.model.MutableSpanningTree;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * A minimum spanning forest kept up to date while edges are added to the graph or their weights change.
+ *
+ * Tree edges live in a {@link LinkCutForest}: when an edge joins two vertices already connected, the heaviest edge
+ * on the tree path between them is found in amortized {@code O(log V)} time and swapped out if the new edge is
+ * lighter. Weight decreases are handled the same way; a tree edge becoming heavier is cut, and the lightest edge
+ * reconnecting the two sides is searched among all the non-tree edges.
+ *
+ * Edge weights are read through the mapper whenever an edge is inserted or updated, even for
+ * {@link org.apache.commons.graph.ExpensiveMapper expensive} mappers, which are never precomputed here.
+ *
+ * This class is NOT thread safe!
+ *
+ * @param <V> The Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> The weight type
+ */
+public final class IncrementalSpanningTree<V, WE, W>
+{
+
+    private final Graph<V, WE> graph;
+
+    private final Mapper<WE, W> weightedEdges;
+
+    private final OrderedMonoid<W> weightOperations;
+
+    private final LinkCutForest<W> forest;
+
+    private final ElementIndex<V> vertices = new ElementIndex<V>();
+
+    /**
+     * The forest node of each vertex.
+     */
+    private int[] vertexNodes = new int[16];
+
+    private final ElementIndex<WE> edges = new ElementIndex<WE>();
+
+    /**
+     * The forest node of each edge, allocated when the edge joins the tree for the first time.
+     */
+    private int[] edgeNodes = new int[16];
+
+    private int[] heads = new int[16];
+
+    private int[] tails = new int[16];
+
+    /**
+     * The known weight of each edge, as last mapped.
+     */
+    private Object[] weights = new Object[16];
+
+    private boolean[] inTree = new boolean[16];
+
+    /**
+     * The edge of each forest node, {@code -1} for vertex nodes.
+     */
+    private int[] nodeEdges = new int[16];
+
+    private final MutableSpanningTree<V, WE, W> spanningTree;
+
+    IncrementalSpanningTree( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, OrderedMonoid<W> weightOperations )
+    {
+        this.graph = graph;
+        this.weightedEdges = weightedEdges;
+        this.weightOperations = weightOperations;
+        this.forest = new LinkCutForest<W>( weightOperations );
+        // the tree weight has to follow the known weights, not the mapper ones which may have changed meanwhile
+        this.spanningTree = new MutableSpanningTree<V, WE, W>( weightOperations, new Mapper<WE, W>()
+        {
+
+            private static final long serialVersionUID = 4577406532286651837L;
+
+            public W map( WE input )
+            {
+                return getWeight( edges.indexOf( input ) );
+            }
+
+        } );
+
+        for ( V v : graph.getVertices() )
+        {
+            indexOf( v );
+        }
+        for ( WE edge : graph.getEdges() )
+        {
+            insertEdge( edge );
+        }
+    }
+
+    /**
+     * Returns the minimum spanning forest, kept up to date: it must not be modified.
+     *
+     * @return the minimum spanning forest
+     */
+    public SpanningTree<V, WE, W> getSpanningTree()
+    {
+        return spanningTree;
+    }
+
+    /**
+     * Updates the minimum spanning forest after the input edge has been added to the graph.
+     *
+     * @param edge the edge added to the graph
+     */
+    public void insertEdge( WE edge )
+    {
+        VertexPair<V> pair = graph.getVertices( edge );
+        if ( pair == null )
+        {
+            throw new GraphException( "Edge %s does not exist in the Graph", edge );
+        }
+        if ( edges.indexOf( edge ) >= 0 )
+        {
+            updateWeight( edge );
+            return;
+        }
+
+        int head = indexOf( pair.getHead() );
+        int tail = indexOf( pair.getTail() );
+
+        int index = edges.add( edge );
+        if ( index == inTree.length )
+        {
+            int capacity = 2 * index;
+            edgeNodes = Arrays.copyOf( edgeNodes, capacity );
+            heads = Arrays.copyOf( heads, capacity );
+            tails = Arrays.copyOf( tails, capacity );
+            weights = Arrays.copyOf( weights, capacity );
+            inTree = Arrays.copyOf( inTree, capacity );
+        }
+        edgeNodes[index] = -1;
+        heads[index] = head;
+        tails[index] = tail;
+        weights[index] = weightedEdges.map( edge );
+
+        offer( index );
+    }
+
+    /**
+     * Updates the minimum spanning forest after the weight of the input edge changed.
+     *
+     * @param edge the edge which weight changed
+     */
+    public void updateWeight( WE edge )
+    {
+        int index = edges.indexOf( edge );
+        if ( index < 0 )
+        {
+            throw new GraphException( "Edge %s does not belong to the spanning forest graph", edge );
+        }
+
+        W weight = weightedEdges.map( edge );
+        int comparison = weightOperations.compare( weight, getWeight( index ) );
+        if ( !inTree[index] )
+        {
+            weights[index] = weight;
+            if ( comparison < 0 )
+            {
+                offer( index );
+            }
+        }
+        else if ( comparison <= 0 )
+        {
+            // a lighter tree edge still belongs to the minimum spanning forest
+            spanningTree.removeEdge( edge );
+            weights[index] = weight;
+            forest.setKey( edgeNodes[index], weight );
+            addTreeEdge( index );
+        }
+        else
+        {
+            unlink( index );
+            weights[index] = weight;
+            reconnect( heads[index], tails[index] );
+        }
+    }
+
+    private int indexOf( V vertex )
+    {
+        int index = vertices.indexOf( vertex );
+        if ( index < 0 )
+        {
+            index = vertices.add( vertex );
+            if ( index == vertexNodes.length )
+            {
+                vertexNodes = Arrays.copyOf( vertexNodes, 2 * index );
+            }
+            vertexNodes[index] = newNode( null, -1 );
+            spanningTree.addVertex( vertex );
+        }
+        return index;
+    }
+
+    @SuppressWarnings( "unchecked" ) // only W instances are stored in the weights array
+    private W getWeight( int edge )
+    {
+        return (W) weights[edge];
+    }
+
+    /**
+     * Adds the input non-tree edge to the forest, if it joins two trees or replaces a heavier tree edge.
+     */
+    private void offer( int edge )
+    {
+        int head = vertexNodes[heads[edge]];
+        int tail = vertexNodes[tails[edge]];
+        if ( head == tail )
+        {
+            return;
+        }
+
+        if ( forest.connected( head, tail ) )
+        {
+            int heaviest = nodeEdges[forest.pathMax( head, tail )];
+            if ( weightOperations.compare( getWeight( edge ), getWeight( heaviest ) ) >= 0 )
+            {
+                return;
+            }
+            unlink( heaviest );
+        }
+        link( edge );
+    }
+
+    private int newNode( W key, int edge )
+    {
+        int node = forest.add( key );
+        if ( node == nodeEdges.length )
+        {
+            nodeEdges = Arrays.copyOf( nodeEdges, 2 * node );
+        }
+        nodeEdges[node] = edge;
+        return node;
+    }
+
+    private void link( int edge )
+    {
+        if ( edgeNodes[edge] < 0 )
+        {
+            edgeNodes[edge] = newNode( getWeight( edge ), edge );
+        }
+        else
+        {
+            forest.setKey( edgeNodes[edge], getWeight( edge ) );
+        }
+        forest.link( vertexNodes[heads[edge]], edgeNodes[edge] );
+        forest.link( edgeNodes[edge], vertexNodes[tails[edge]] );
+        inTree[edge] = true;
+        addTreeEdge( edge );
+    }
+
+    private void addTreeEdge( int edge )
+    {
+        spanningTree.addEdge( vertices.get( heads[edge] ), edges.get( edge ), vertices.get( tails[edge] ) );
+    }
+
+    private void unlink( int edge )
+    {
+        forest.cut( vertexNodes[heads[edge]], edgeNodes[edge] );
+        forest.cut( edgeNodes[edge], vertexNodes[tails[edge]] );
+        inTree[edge] = false;
+        spanningTree.removeEdge( edges.get( edge ) );
+    }
+
+    /**
+     * Links the lightest non-tree edge joining the trees of the two input vertices, if any.
+     */
+    private void reconnect( int head, int tail )
+    {
+        int headNode = vertexNodes[head];
+        int tailNode = vertexNodes[tail];
+
+        int lightest = -1;
+        for ( int i = 0; i < edges.size(); i++ )
+        {
+            if ( inTree[i] || heads[i] == tails[i] )
+            {
+                continue;
+            }
+            int u = vertexNodes[heads[i]];
+            int v = vertexNodes[tails[i]];
+            boolean joins = ( forest.connected( u, headNode ) && forest.connected( v, tailNode ) )
+                || ( forest.connected( u, tailNode ) && forest.connected( v, headNode ) );
+            if ( joins && ( lightest < 0 || weightOperations.compare( getWeight( i ), getWeight( lightest ) ) < 0 ) )
+            {
+                lightest = i;
+            }
+        }
+
+        if ( lightest >= 0 )
+        {
+            link( lightest );
+        }
+    }
+
+}
@@ -0,0 +1,276 @@
+package org.apache.commons.graph.spanning;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.SpanningTree;
+import org.apache.commons.graph.VertexPair;
+import org.apache.commons.graph.collections.ElementIndex;
+import org.apache.commons.graph.collections.IntDisjointSet;
+import org.apache.commons.graph.model.MutableSpanningTree;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * <a href="http://algo2.iti.kit.edu/documents/fkruskal.pdf">Filter-Kruskal</a> implementation: edges are
+ * partitioned around a pivot weight, the light ones are processed first and the heavy ones are filtered, discarding
+ * those already closing a cycle, before being processed in turn. Small partitions are sorted with a parallel sort and
+ * scanned against an {@link IntDisjointSet}, until the spanning tree has {@code V - 1} edges.
+ *
+ * Edge weights are mapped once and kept, with the dense endpoint identifiers, in one array of records.
+ *
+ * @param <V> The Graph vertices type
+ * @param <W> The weight type
+ * @param <WE> the Graph weighted edges type
+ */
+final class Kruskal<V, W, WE>
+{
+
+    /**
+     * The partitions size below which edges are just sorted, as a multiple of the graph order.
+     */
+    private static final int SORT_THRESHOLD_FACTOR = 2;
+
+    private final Graph<V, WE> graph;
+
+    private final Mapper<WE, W> weightedEdges;
+
+    private final OrderedMonoid<W> weightOperations;
+
+    private final ElementIndex<V> vertices;
+
+    private final IntDisjointSet disjointSet;
+
+    private final Comparator<Arc<W, WE>> comparator;
+
+    private final MutableSpanningTree<V, WE, W> spanningTree;
+
+    private int treeEdges = 0;
+
+    public Kruskal( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, final OrderedMonoid<W> weightOperations )
+    {
+        this.graph = graph;
+        this.weightedEdges = weightedEdges;
+        this.weightOperations = weightOperations;
+        this.vertices = new ElementIndex<V>( graph.getVertices() );
+        this.disjointSet = new IntDisjointSet( vertices.size() );
+        this.comparator = new Comparator<Arc<W, WE>>()
+        {
+
+            public int compare( Arc<W, WE> o1, Arc<W, WE> o2 )
+            {
+                return weightOperations.compare( o1.weight, o2.weight );
+            }
+
+        };
+        this.spanningTree = new MutableSpanningTree<V, WE, W>( weightOperations, weightedEdges );
+    }
+
+    /**
+     * Computes the minimum spanning forest.
+     *
+     * @return the minimum spanning forest, a tree if the graph is connected
+     */
+    public SpanningTree<V, WE, W> apply()
+    {
+        for ( V v : graph.getVertices() )
+        {
+            spanningTree.addVertex( v );
+        }
+
+        @SuppressWarnings( { "unchecked", "rawtypes" } ) // generic arrays can not be created
+        Arc<W, WE>[] arcs = new Arc[graph.getSize()];
+        int size = 0;
+        for ( WE edge : graph.getEdges() )
+        {
+            VertexPair<V> pair = graph.getVertices( edge );
+            int head = vertices.indexOf( pair.getHead() );
+            int tail = vertices.indexOf( pair.getTail() );
+            // self loops never belong to a spanning tree
+            if ( head != tail )
+            {
+                arcs[size++] = new Arc<W, WE>( weightedEdges.map( edge ), head, tail, edge );
+            }
+        }
+
+        filterKruskal( arcs, 0, size );
+        return spanningTree;
+    }
+
+    private boolean isComplete()
+    {
+        return treeEdges == vertices.size() - 1;
+    }
+
+    /**
+     * Processes the arcs in the {@code [from, to)} range.
+     */
+    private void filterKruskal( Arc<W, WE>[] arcs, int from, int to )
+    {
+        if ( isComplete() || from == to )
+        {
+            return;
+        }
+
+        if ( to - from <= SORT_THRESHOLD_FACTOR * vertices.size() )
+        {
+            Arrays.parallelSort( arcs, from, to, comparator );
+            scan( arcs, from, to );
+            return;
+        }
+
+        // three-way partition: [from, lt) lighter, [lt, gt) as heavy as, [gt, to) heavier than the pivot
+        W pivot = pivot( arcs, from, to );
+        int lt = from;
+        int gt = to;
+        int i = from;
+        while ( i < gt )
+        {
+            int comparison = weightOperations.compare( arcs[i].weight, pivot );
+            if ( comparison < 0 )
+            {
+                swap( arcs, lt++, i++ );
+            }
+            else if ( comparison > 0 )
+            {
+                swap( arcs, i, --gt );
+            }
+            else
+            {
+                i++;
+            }
+        }
+
+        partition( arcs, from, lt, to - from );
+        // arcs as heavy as the pivot are already in order, whatever their count
+        scan( arcs, lt, gt );
+        partition( arcs, gt, filter( arcs, gt, to ), to - from );
+    }
+
+    /**
+     * Processes a partition of a range having the input size, recursing only if the partition shrank.
+     */
+    private void partition( Arc<W, WE>[] arcs, int from, int to, int rangeSize )
+    {
+        if ( to - from < rangeSize )
+        {
+            filterKruskal( arcs, from, to );
+        }
+        else
+        {
+            Arrays.parallelSort( arcs, from, to, comparator );
+            scan( arcs, from, to );
+        }
+    }
+
+    /**
+     * Adds to the spanning tree the arcs in the already sorted {@code [from, to)} range joining different subsets.
+     */
+    private void scan( Arc<W, WE>[] arcs, int from, int to )
+    {
+        for ( int i = from; i < to && !isComplete(); i++ )
+        {
+            Arc<W, WE> arc = arcs[i];
+            if ( disjointSet.union( arc.head, arc.tail ) )
+            {
+                spanningTree.addEdge( vertices.get( arc.head ), arc.edge, vertices.get( arc.tail ) );
+                treeEdges++;
+            }
+        }
+    }
+
+    /**
+     * Moves to the head of the {@code [from, to)} range the arcs joining different subsets, returning the range end.
+     */
+    private int filter( Arc<W, WE>[] arcs, int from, int to )
+    {
+        if ( isComplete() )
+        {
+            return from;
+        }
+
+        int end = from;
+        for ( int i = from; i < to; i++ )
+        {
+            if ( !disjointSet.connected( arcs[i].head, arcs[i].tail ) )
+            {
+                arcs[end++] = arcs[i];
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Median of three pivot.
+     */
+    private W pivot( Arc<W, WE>[] arcs, int from, int to )
+    {
+        W first = arcs[from].weight;
+        W middle = arcs[( from + to ) >>> 1].weight;
+        W last = arcs[to - 1].weight;
+
+        if ( weightOperations.compare( first, middle ) > 0 )
+        {
+            W swap = first;
+            first = middle;
+            middle = swap;
+        }
+        if ( weightOperations.compare( middle, last ) > 0 )
+        {
+            middle = last;
+        }
+        return weightOperations.compare( first, middle ) > 0 ? first : middle;
+    }
+
+    private static <T> void swap( T[] array, int i, int j )
+    {
+        T swap = array[i];
+        array[i] = array[j];
+        array[j] = swap;
+    }
+
+    /**
+     * An edge with its mapped weight and dense endpoint identifiers.
+     */
+    private static final class Arc<W, WE>
+    {
+
+        private final W weight;
+
+        private final int head;
+
+        private final int tail;
+
+        private final WE edge;
+
+        public Arc( W weight, int head, int tail, WE edge )
+        {
+            this.weight = weight;
+            this.head = head;
+            this.tail = tail;
+            this.edge = edge;
+        }
+
+    }
+
+}
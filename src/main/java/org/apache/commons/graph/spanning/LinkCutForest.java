@@ -0,0 +1,330 @@
+package org.apache.commons.graph.spanning;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Array based <a href="https://en.wikipedia.org/wiki/Link/cut_tree">link/cut trees</a> over dense {@code int}
+ * nodes, each one optionally carrying a key: paths are kept in splay trees, which maintain the node with the
+ * maximum key, so that linking, cutting and maximum queries along tree paths take amortized {@code O(log n)} time.
+ *
+ * Edges of the represented forest are modelled as nodes carrying their weight, linked to both endpoints,
+ * while vertices are nodes without key.
+ *
+ * This class is NOT thread safe!
+ *
+ * @param <K> The type of the node keys.
+ */
+final class LinkCutForest<K>
+{
+
+    private final Comparator<? super K> comparator;
+
+    private int[] left = new int[16];
+
+    private int[] right = new int[16];
+
+    /**
+     * The splay tree parent or, for splay tree roots, the path parent; {@code -1} for none.
+     */
+    private int[] parent = new int[16];
+
+    private boolean[] flipped = new boolean[16];
+
+    private Object[] keys = new Object[16];
+
+    /**
+     * The node with the maximum key in each splay subtree, {@code -1} if none has a key.
+     */
+    private int[] max = new int[16];
+
+    private int size = 0;
+
+    /**
+     * The splay path, from the splay tree root down to the splayed node.
+     */
+    private int[] stack = new int[16];
+
+    public LinkCutForest( Comparator<? super K> comparator )
+    {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Adds a new node, in its own tree.
+     *
+     * @param key the node key, {@code null} if none
+     * @return the added node
+     */
+    public int add( K key )
+    {
+        if ( size == left.length )
+        {
+            int capacity = 2 * size;
+            left = Arrays.copyOf( left, capacity );
+            right = Arrays.copyOf( right, capacity );
+            parent = Arrays.copyOf( parent, capacity );
+            flipped = Arrays.copyOf( flipped, capacity );
+            keys = Arrays.copyOf( keys, capacity );
+            max = Arrays.copyOf( max, capacity );
+            stack = Arrays.copyOf( stack, capacity );
+        }
+        left[size] = -1;
+        right[size] = -1;
+        parent[size] = -1;
+        keys[size] = key;
+        max[size] = key != null ? size : -1;
+        return size++;
+    }
+
+    /**
+     * Updates the key of the input node.
+     *
+     * @param node the node
+     * @param key the new key, {@code null} if none
+     */
+    public void setKey( int node, K key )
+    {
+        access( node );
+        keys[node] = key;
+        update( node );
+    }
+
+    /**
+     * Returns the key of the input node.
+     *
+     * @param node the node
+     * @return the key of the input node, {@code null} if none
+     */
+    @SuppressWarnings( "unchecked" ) // only K instances are stored in the keys array
+    public K getKey( int node )
+    {
+        return (K) keys[node];
+    }
+
+    /**
+     * Checks whether the two input nodes belong to the same tree.
+     *
+     * @param u the first node
+     * @param v the second node
+     * @return true, if the nodes belong to the same tree, false otherwise
+     */
+    public boolean connected( int u, int v )
+    {
+        return u == v || findRoot( u ) == findRoot( v );
+    }
+
+    /**
+     * Joins the trees of the two input nodes with a {@code (u, v)} link; the nodes must belong to different trees.
+     *
+     * @param u the first node
+     * @param v the second node
+     */
+    public void link( int u, int v )
+    {
+        makeRoot( u );
+        parent[u] = v;
+    }
+
+    /**
+     * Removes the {@code (u, v)} link.
+     *
+     * @param u the first node
+     * @param v the second node
+     */
+    public void cut( int u, int v )
+    {
+        makeRoot( u );
+        access( v );
+        // u is the only node before v on the root path
+        left[v] = -1;
+        parent[u] = -1;
+        update( v );
+    }
+
+    /**
+     * Returns the node with the maximum key on the tree path between the input nodes, which must be connected.
+     *
+     * @param u the first node
+     * @param v the second node
+     * @return the node with the maximum key on the tree path, {@code -1} if no node has a key
+     */
+    public int pathMax( int u, int v )
+    {
+        makeRoot( u );
+        access( v );
+        return max[v];
+    }
+
+    private boolean isSplayRoot( int node )
+    {
+        int p = parent[node];
+        return p == -1 || ( left[p] != node && right[p] != node );
+    }
+
+    private void push( int node )
+    {
+        if ( flipped[node] )
+        {
+            int swap = left[node];
+            left[node] = right[node];
+            right[node] = swap;
+            if ( left[node] != -1 )
+            {
+                flipped[left[node]] ^= true;
+            }
+            if ( right[node] != -1 )
+            {
+                flipped[right[node]] ^= true;
+            }
+            flipped[node] = false;
+        }
+    }
+
+    private void update( int node )
+    {
+        int best = keys[node] != null ? node : -1;
+        best = maxOf( best, left[node] != -1 ? max[left[node]] : -1 );
+        best = maxOf( best, right[node] != -1 ? max[right[node]] : -1 );
+        max[node] = best;
+    }
+
+    private int maxOf( int n1, int n2 )
+    {
+        if ( n1 == -1 )
+        {
+            return n2;
+        }
+        if ( n2 == -1 )
+        {
+            return n1;
+        }
+        return comparator.compare( getKey( n2 ), getKey( n1 ) ) > 0 ? n2 : n1;
+    }
+
+    private void rotate( int node )
+    {
+        int p = parent[node];
+        int grandParent = parent[p];
+
+        if ( !isSplayRoot( p ) )
+        {
+            if ( left[grandParent] == p )
+            {
+                left[grandParent] = node;
+            }
+            else
+            {
+                right[grandParent] = node;
+            }
+        }
+        parent[node] = grandParent;
+
+        if ( left[p] == node )
+        {
+            left[p] = right[node];
+            if ( right[node] != -1 )
+            {
+                parent[right[node]] = p;
+            }
+            right[node] = p;
+        }
+        else
+        {
+            right[p] = left[node];
+            if ( left[node] != -1 )
+            {
+                parent[left[node]] = p;
+            }
+            left[node] = p;
+        }
+        parent[p] = node;
+
+        update( p );
+        update( node );
+    }
+
+    private void splay( int node )
+    {
+        // pending flips are pushed down from the splay root first
+        int top = 0;
+        stack[top++] = node;
+        for ( int current = node; !isSplayRoot( current ); current = parent[current] )
+        {
+            stack[top++] = parent[current];
+        }
+        while ( top > 0 )
+        {
+            push( stack[--top] );
+        }
+
+        while ( !isSplayRoot( node ) )
+        {
+            int p = parent[node];
+            if ( !isSplayRoot( p ) )
+            {
+                int grandParent = parent[p];
+                boolean zigZig = ( left[p] == node ) == ( left[grandParent] == p );
+                rotate( zigZig ? p : node );
+            }
+            rotate( node );
+        }
+    }
+
+    /**
+     * Makes the path from the tree root to the input node preferred, splaying the node at the root of its splay tree.
+     */
+    private void access( int node )
+    {
+        int last = -1;
+        for ( int current = node; current != -1; current = parent[current] )
+        {
+            splay( current );
+            right[current] = last;
+            update( current );
+            last = current;
+        }
+        splay( node );
+    }
+
+    private void makeRoot( int node )
+    {
+        access( node );
+        flipped[node] ^= true;
+        push( node );
+    }
+
+    private int findRoot( int node )
+    {
+        access( node );
+        int current = node;
+        push( current );
+        while ( left[current] != -1 )
+        {
+            current = left[current];
+            push( current );
+        }
+        splay( current );
+        return current;
+    }
+
+}
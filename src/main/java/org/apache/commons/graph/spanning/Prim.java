@@ -0,0 +1,137 @@
+package org.apache.commons.graph.spanning;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.SpanningTree;
+import org.apache.commons.graph.VertexPair;
+import org.apache.commons.graph.collections.ElementIndex;
+import org.apache.commons.graph.collections.IndexedHeap;
+import org.apache.commons.graph.model.MutableSpanningTree;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * Prim's algorithm over dense vertex identifiers: unsettled vertices are kept in an {@link IndexedHeap} keyed by
+ * the weight of their lightest edge towards the tree, which is decreased in place when a lighter edge is found, so
+ * that each vertex is in the heap at most once and each edge weight is mapped once per endpoint.
+ *
+ * @param <V> The Graph vertices type
+ * @param <W> The weight type
+ * @param <WE> the Graph weighted edges type
+ */
+final class Prim<V, W, WE>
+{
+
+    private final Graph<V, WE> graph;
+
+    private final Mapper<WE, W> weightedEdges;
+
+    private final OrderedMonoid<W> weightOperations;
+
+    private final V source;
+
+    private final ElementIndex<V> vertices;
+
+    /**
+     * The lightest known edge connecting each vertex to the tree.
+     */
+    private final Object[] lightestEdges;
+
+    private final boolean[] settled;
+
+    public Prim( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, OrderedMonoid<W> weightOperations, V source )
+    {
+        this.graph = graph;
+        this.weightedEdges = weightedEdges;
+        this.weightOperations = weightOperations;
+        this.source = source;
+        this.vertices = new ElementIndex<V>( graph.getVertices() );
+        this.lightestEdges = new Object[vertices.size()];
+        this.settled = new boolean[vertices.size()];
+    }
+
+    /**
+     * Computes the minimum spanning tree of the source connected component.
+     *
+     * @return the minimum spanning tree of the source connected component
+     */
+    public SpanningTree<V, WE, W> apply()
+    {
+        MutableSpanningTree<V, WE, W> spanningTree = new MutableSpanningTree<V, WE, W>( weightOperations, weightedEdges );
+
+        IndexedHeap<W> unsettledVertices = new IndexedHeap<W>( vertices.size(), weightOperations );
+        unsettledVertices.offer( vertices.indexOf( source ), weightOperations.identity() );
+
+        while ( !unsettledVertices.isEmpty() )
+        {
+            int vertex = unsettledVertices.poll();
+            settled[vertex] = true;
+
+            WE lightestEdge = getLightestEdge( vertex );
+            if ( lightestEdge != null )
+            {
+                addEdge( spanningTree, lightestEdge );
+            }
+
+            V v = vertices.get( vertex );
+            for ( V connected : graph.getConnectedVertices( v ) )
+            {
+                int tail = vertices.indexOf( connected );
+                if ( settled[tail] )
+                {
+                    continue;
+                }
+
+                WE edge = graph.getEdge( v, connected );
+                W weight = weightedEdges.map( edge );
+                W key = unsettledVertices.getKey( tail );
+                if ( key == null || weightOperations.compare( weight, key ) < 0 )
+                {
+                    lightestEdges[tail] = edge;
+                    unsettledVertices.offer( tail, weight );
+                }
+            }
+        }
+
+        return spanningTree;
+    }
+
+    @SuppressWarnings( "unchecked" ) // only WE instances are stored in the lightest edges array
+    private WE getLightestEdge( int vertex )
+    {
+        return (WE) lightestEdges[vertex];
+    }
+
+    private void addEdge( MutableSpanningTree<V, WE, W> spanningTree, WE edge )
+    {
+        VertexPair<V> pair = graph.getVertices( edge );
+        if ( !spanningTree.containsVertex( pair.getHead() ) )
+        {
+            spanningTree.addVertex( pair.getHead() );
+        }
+        if ( !spanningTree.containsVertex( pair.getTail() ) )
+        {
+            spanningTree.addVertex( pair.getTail() );
+        }
+        spanningTree.addEdge( pair.getHead(), edge, pair.getTail() );
+    }
+
+}
@@ -0,0 +1,315 @@
+package org.apache.commons.graph.spanning;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+import static org.apache.commons.graph.utils.Assertions.checkState;
+
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.SpanningTree;
+import org.apache.commons.graph.collections.ElementIndex;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * Path queries index over a {@link SpanningTree}, or a spanning forest: each tree is rooted in an arbitrary vertex
+ * and <a href="https://en.wikipedia.org/wiki/Level_ancestor_problem#Jump_pointer_algorithm">binary lifting</a>
+ * tables store, for each vertex, its {@code 2^k}-th ancestor together with the heaviest edge on the way, so that
+ * lowest common ancestor, distance and heaviest edge queries between two vertices take {@code O(log V)} time after an
+ * {@code O(V log V)} construction, without visiting the tree.
+ *
+ * Instances are not modified once built, so they can be queried concurrently.
+ *
+ * @param <V> The Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> The weight type
+ */
+public final class SpanningTreePaths<V, WE, W>
+{
+
+    private final OrderedMonoid<W> weightOperations;
+
+    private final ElementIndex<V> vertices;
+
+    /**
+     * The root of the tree each vertex belongs to.
+     */
+    private final int[] roots;
+
+    private final int[] depths;
+
+    /**
+     * The distance of each vertex from its tree root.
+     */
+    private final Object[] distances;
+
+    /**
+     * The edge connecting each vertex to its parent, {@code null} for roots.
+     */
+    private final Object[] parentEdges;
+
+    private final Object[] parentWeights;
+
+    /**
+     * {@code ancestors[k][v]} is the {@code 2^k}-th ancestor of {@code v}, its root if the tree is not that deep.
+     */
+    private final int[][] ancestors;
+
+    /**
+     * {@code heaviest[k][v]} is the vertex, between {@code v} included and {@code ancestors[k][v]} excluded, which
+     * parent edge is the heaviest, {@code -1} if none.
+     */
+    private final int[][] heaviest;
+
+    /**
+     * Indexes the input spanning tree.
+     *
+     * @param spanningTree the spanning tree, or forest, to be indexed
+     * @param weightedEdges the spanning tree edges weights mapper
+     * @param weightOperations the weight operations
+     */
+    public SpanningTreePaths( SpanningTree<V, WE, W> spanningTree, Mapper<WE, W> weightedEdges,
+                              OrderedMonoid<W> weightOperations )
+    {
+        checkNotNull( spanningTree, "Paths cannot be indexed on a null spanning tree" );
+        checkNotNull( weightedEdges, "Paths cannot be indexed with null edges weights mapper" );
+        this.weightOperations =
+            checkNotNull( weightOperations, "Paths cannot be indexed with null weight operations" );
+
+        vertices = new ElementIndex<V>( spanningTree.getVertices() );
+        int order = vertices.size();
+        roots = new int[order];
+        depths = new int[order];
+        distances = new Object[order];
+        parentEdges = new Object[order];
+        parentWeights = new Object[order];
+
+        int levels = Math.max( 1, 32 - Integer.numberOfLeadingZeros( order ) );
+        ancestors = new int[levels][order];
+        heaviest = new int[levels][order];
+
+        // breadth first visits, so that parents are always indexed before their children
+        boolean[] visited = new boolean[order];
+        int[] queue = new int[order];
+        int tail = 0;
+        for ( int root = 0; root < order; root++ )
+        {
+            if ( visited[root] )
+            {
+                continue;
+            }
+
+            visited[root] = true;
+            roots[root] = root;
+            distances[root] = weightOperations.identity();
+            ancestors[0][root] = root;
+            heaviest[0][root] = -1;
+            queue[tail++] = root;
+
+            for ( int head = tail - 1; head < tail; head++ )
+            {
+                int vertex = queue[head];
+                V v = vertices.get( vertex );
+                for ( V connected : spanningTree.getConnectedVertices( v ) )
+                {
+                    int child = vertices.indexOf( connected );
+                    if ( visited[child] )
+                    {
+                        continue;
+                    }
+
+                    WE edge = spanningTree.getEdge( v, connected );
+                    W weight = weightedEdges.map( edge );
+
+                    visited[child] = true;
+                    roots[child] = root;
+                    depths[child] = depths[vertex] + 1;
+                    distances[child] = weightOperations.append( getDistance( vertex ), weight );
+                    parentEdges[child] = edge;
+                    parentWeights[child] = weight;
+                    ancestors[0][child] = vertex;
+                    heaviest[0][child] = child;
+                    queue[tail++] = child;
+                }
+            }
+        }
+
+        for ( int k = 1; k < levels; k++ )
+        {
+            for ( int v = 0; v < order; v++ )
+            {
+                int middle = ancestors[k - 1][v];
+                ancestors[k][v] = ancestors[k - 1][middle];
+                heaviest[k][v] = heavier( heaviest[k - 1][v], heaviest[k - 1][middle] );
+            }
+        }
+    }
+
+    /**
+     * Returns the lowest common ancestor of the input vertices, with respect to the arbitrary root of their tree.
+     *
+     * @param u the first vertex
+     * @param v the second vertex
+     * @return the lowest common ancestor of the input vertices, {@code null} if they belong to different trees
+     */
+    public V getLowestCommonAncestor( V u, V v )
+    {
+        int lowestCommonAncestor = lowestCommonAncestor( indexOf( u ), indexOf( v ) );
+        return lowestCommonAncestor < 0 ? null : vertices.get( lowestCommonAncestor );
+    }
+
+    /**
+     * Returns the weight of the tree path between the input vertices.
+     *
+     * @param u the first vertex
+     * @param v the second vertex
+     * @return the weight of the tree path between the input vertices, {@code null} if they belong to different trees
+     */
+    public W getDistance( V u, V v )
+    {
+        int first = indexOf( u );
+        int second = indexOf( v );
+        int lowestCommonAncestor = lowestCommonAncestor( first, second );
+        if ( lowestCommonAncestor < 0 )
+        {
+            return null;
+        }
+
+        W common = getDistance( lowestCommonAncestor );
+        return weightOperations.append( weightOperations.append( getDistance( first ), getDistance( second ) ),
+                                        weightOperations.inverse( weightOperations.append( common, common ) ) );
+    }
+
+    /**
+     * Returns the heaviest edge on the tree path between the input vertices.
+     *
+     * @param u the first vertex
+     * @param v the second vertex
+     * @return the heaviest edge on the tree path between the input vertices, {@code null} if the vertices are the
+     *         same or belong to different trees
+     */
+    @SuppressWarnings( "unchecked" ) // only WE instances are stored in the parent edges array
+    public WE getHeaviestEdge( V u, V v )
+    {
+        int first = indexOf( u );
+        int second = indexOf( v );
+        if ( roots[first] != roots[second] )
+        {
+            return null;
+        }
+
+        int heaviestVertex = -1;
+        if ( depths[first] < depths[second] )
+        {
+            int swap = first;
+            first = second;
+            second = swap;
+        }
+        for ( int k = 0, difference = depths[first] - depths[second]; difference > 0; k++, difference >>>= 1 )
+        {
+            if ( ( difference & 1 ) != 0 )
+            {
+                heaviestVertex = heavier( heaviestVertex, heaviest[k][first] );
+                first = ancestors[k][first];
+            }
+        }
+        if ( first != second )
+        {
+            for ( int k = ancestors.length - 1; k >= 0; k-- )
+            {
+                if ( ancestors[k][first] != ancestors[k][second] )
+                {
+                    heaviestVertex = heavier( heaviestVertex, heavier( heaviest[k][first], heaviest[k][second] ) );
+                    first = ancestors[k][first];
+                    second = ancestors[k][second];
+                }
+            }
+            heaviestVertex = heavier( heaviestVertex, heavier( first, second ) );
+        }
+
+        return heaviestVertex < 0 ? null : (WE) parentEdges[heaviestVertex];
+    }
+
+    private int indexOf( V vertex )
+    {
+        int index = vertices.indexOf( vertex );
+        checkState( index >= 0, "Vertex %s does not exist in the Graph", vertex );
+        return index;
+    }
+
+    private int lowestCommonAncestor( int u, int v )
+    {
+        if ( roots[u] != roots[v] )
+        {
+            return -1;
+        }
+
+        if ( depths[u] < depths[v] )
+        {
+            int swap = u;
+            u = v;
+            v = swap;
+        }
+        for ( int k = 0, difference = depths[u] - depths[v]; difference > 0; k++, difference >>>= 1 )
+        {
+            if ( ( difference & 1 ) != 0 )
+            {
+                u = ancestors[k][u];
+            }
+        }
+        if ( u == v )
+        {
+            return u;
+        }
+
+        for ( int k = ancestors.length - 1; k >= 0; k-- )
+        {
+            if ( ancestors[k][u] != ancestors[k][v] )
+            {
+                u = ancestors[k][u];
+                v = ancestors[k][v];
+            }
+        }
+        return ancestors[0][u];
+    }
+
+    /**
+     * Returns, between the two input vertices, the one which parent edge is heavier; {@code -1} stands for none.
+     */
+    @SuppressWarnings( "unchecked" ) // only W instances are stored in the parent weights array
+    private int heavier( int u, int v )
+    {
+        if ( u < 0 )
+        {
+            return v;
+        }
+        if ( v < 0 )
+        {
+            return u;
+        }
+        return weightOperations.compare( (W) parentWeights[v], (W) parentWeights[u] ) > 0 ? v : u;
+    }
+
+    @SuppressWarnings( "unchecked" ) // only W instances are stored in the distances array
+    private W getDistance( int vertex )
+    {
+        return (W) distances[vertex];
+    }
+
+}
@@ -48,12 +48,25 @@ public interface SpanningTreeSourceSelector<V, W, WE>
      *   return edges[] E
      * </pre>
      *
+     * The deletions are answered offline, which keeps exactly the edges Kruskal's algorithm keeps: the result is
+     * the same minimum spanning forest Reverse-Delete computes, in {@code O(E log E)} time.
+     *
      * @param <WO> the type of weight operations
      * @param weightOperations the weight operations
      * @return the calculated spanning tree
      */
     <WO extends OrderedMonoid<W>> SpanningTree<V, WE, W> applyingReverseDeleteAlgorithm( WO weightOperations );
 
+    /**
+     * Computes the minimum spanning forest and keeps it up to date while edges are added to the graph or their
+     * weights change, swapping out the heaviest edge on the tree path closed by a lighter edge.
+     *
+     * @param <WO> the type of weight operations
+     * @param weightOperations the weight operations
+     * @return the maintained minimum spanning forest
+     */
+    <WO extends OrderedMonoid<W>> IncrementalSpanningTree<V, WE, W> applyingIncrementalMaintenance( WO weightOperations );
+
     /**
      * Selects an arbitrary source from the input Graph to calculate the spanning tree.
      *
@@ -0,0 +1,108 @@
+package org.apache.commons.graph.utils;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.apache.commons.graph.GraphException;
+
+/**
+ * Simple utility methods to run independent algorithm steps concurrently.
+ */
+public final class Tasks
+{
+
+    /**
+     * Executes the input tasks on the common fork/join pool and waits for all of them to complete.
+     *
+     * Unchecked exceptions thrown by a task are rethrown as they are, checked ones are wrapped
+     * in a {@link GraphException}.
+     *
+     * @param <T> the tasks result type
+     * @param tasks the tasks to be executed
+     */
+    public static <T> void invokeAll( Collection<? extends Callable<T>> tasks )
+    {
+        if ( tasks.size() == 1 )
+        {
+            try
+            {
+                tasks.iterator().next().call();
+            }
+            catch ( RuntimeException e )
+            {
+                throw e;
+            }
+            catch ( Exception e )
+            {
+                throw new GraphException( "Task execution failed", e );
+            }
+            return;
+        }
+
+        try
+        {
+            for ( Future<T> future : ForkJoinPool.commonPool().invokeAll( tasks ) )
+            {
+                future.get();
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new GraphException( "Interrupted while waiting for tasks completion", e );
+        }
+        catch ( ExecutionException e )
+        {
+            if ( e.getCause() instanceof RuntimeException )
+            {
+                throw (RuntimeException) e.getCause();
+            }
+            if ( e.getCause() instanceof Error )
+            {
+                throw (Error) e.getCause();
+            }
+            throw new GraphException( "Task execution failed", e.getCause() );
+        }
+    }
+
+    /**
+     * Returns the number of tasks worth splitting a parallel algorithm step into.
+     *
+     * @return the parallelism level of the common fork/join pool.
+     */
+    public static int parallelism()
+    {
+        return ForkJoinPool.getCommonPoolParallelism();
+    }
+
+    /**
+     * Hidden constructor, this class must not be instantiated.
+     */
+    private Tasks()
+    {
+        // do nothing
+    }
+
+}
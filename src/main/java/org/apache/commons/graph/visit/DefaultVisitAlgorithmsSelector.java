@@ -23,14 +23,10 @@ import static org.apache.commons.graph.utils.Assertions.checkNotNull;
 import static org.apache.commons.graph.visit.VisitState.ABORT;
 import static org.apache.commons.graph.visit.VisitState.CONTINUE;
 
-import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.Set;
 
 import org.apache.commons.graph.DirectedGraph;
 import org.apache.commons.graph.Graph;
-import org.apache.commons.graph.VertexPair;
 
 /**
  * {@link VisitAlgorithmsSelector} implementation.
@@ -74,7 +70,15 @@ final class DefaultVisitAlgorithmsSelector<V, E, G extends Graph<V, E>>
      */
     public <O> O applyingBreadthFirstSearch( GraphVisitHandler<V, E, G, O> handler )
     {
-        return applyingSearch( handler, true );
+        return applyingBreadthFirstSearch( handler, new VisitWorkspace<V>() );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <O> O applyingBreadthFirstSearch( GraphVisitHandler<V, E, G, O> handler, VisitWorkspace<V> workspace )
+    {
+        return applyingSearch( handler, workspace, true );
     }
 
     /**
@@ -90,7 +94,15 @@ final class DefaultVisitAlgorithmsSelector<V, E, G extends Graph<V, E>>
      */
     public <O> O applyingDepthFirstSearch( GraphVisitHandler<V, E, G, O> handler )
     {
-        return applyingSearch( handler, false );
+        return applyingDepthFirstSearch( handler, new VisitWorkspace<V>() );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <O> O applyingDepthFirstSearch( GraphVisitHandler<V, E, G, O> handler, VisitWorkspace<V> workspace )
+    {
+        return applyingSearch( handler, workspace, false );
     }
 
     /**
@@ -102,31 +114,34 @@ final class DefaultVisitAlgorithmsSelector<V, E, G extends Graph<V, E>>
      * </ul>
      *
      * @param handler the handler intercepts visits
+     * @param workspace the visit working memory
      * @param enqueue defines the collection behavior used to traverse the graph: true is a Queue, false is a Stack
      * @return the result of {@link GraphVisitHandler#onCompleted()}
      */
-    private <O> O applyingSearch( GraphVisitHandler<V, E, G, O> handler, boolean enqueue )
+    private <O> O applyingSearch( GraphVisitHandler<V, E, G, O> handler, VisitWorkspace<V> workspace, boolean enqueue )
     {
         handler = checkNotNull( handler, "Graph visitor handler can not be null." );
+        workspace = checkNotNull( workspace, "Graph visitor workspace can not be null." );
 
         handler.discoverGraph( graph );
 
-        final LinkedList<VertexPair<V>> vertexList = new LinkedList<VertexPair<V>>();
-
-        vertexList.addLast( new VertexPair<V>( source, source ) );
+        workspace.begin();
 
-        final Set<V> visitedVertices = new HashSet<V>();
-        visitedVertices.add( source );
+        final int sourceIndex = workspace.indexOf( source );
+        workspace.push( sourceIndex, -1 );
+        workspace.visit( sourceIndex );
 
         boolean visitingGraph = true;
 
-        while ( visitingGraph && !vertexList.isEmpty() )
+        while ( visitingGraph && !workspace.isFrontierEmpty() )
         {
             // if dequeue, remove the first element, otherwise the last
-            final VertexPair<V> pair = enqueue ? vertexList.removeFirst() : vertexList.removeLast();
-            final V v = pair.getHead();
-            final V prevHead = pair.getTail();
-            final E e = prevHead.equals( v ) ? null : graph.getEdge( prevHead, v );
+            final int position = workspace.pop( enqueue );
+            final int vIndex = workspace.getFrontierVertex( position );
+            final int prevHeadIndex = workspace.getFrontierPredecessor( position );
+            final V v = workspace.getVertex( vIndex );
+            final V prevHead = prevHeadIndex < 0 ? null : workspace.getVertex( prevHeadIndex );
+            final E e = prevHead == null ? null : graph.getEdge( prevHead, v );
 
             boolean skipVertex = false;
 
@@ -134,7 +149,7 @@ final class DefaultVisitAlgorithmsSelector<V, E, G extends Graph<V, E>>
             {
                 // if the vertex was already visited, do not discover
                 // another edge leading to the same vertex
-                if ( visitedVertices.contains( v ) )
+                if ( workspace.isVisited( vIndex ) )
                 {
                     skipVertex = true;
                 }
@@ -163,7 +178,7 @@ final class DefaultVisitAlgorithmsSelector<V, E, G extends Graph<V, E>>
             boolean vertexWasDiscovered = false;
             if ( !skipVertex )
             {
-                visitedVertices.add( v );
+                workspace.visit( vIndex );
                 VisitState stateAfterVertexDiscovery = handler.discoverVertex( v );
                 vertexWasDiscovered = true;
                 if ( CONTINUE != stateAfterVertexDiscovery )
@@ -184,10 +199,10 @@ final class DefaultVisitAlgorithmsSelector<V, E, G extends Graph<V, E>>
 
                 while ( connected.hasNext() )
                 {
-                    V w = connected.next();
-                    if ( !visitedVertices.contains( w ) )
+                    int wIndex = workspace.indexOf( connected.next() );
+                    if ( !workspace.isVisited( wIndex ) )
                     {
-                        vertexList.addLast( new VertexPair<V>( w, v ) );
+                        workspace.push( wIndex, vIndex );
                     }
                 }
             }
@@ -45,6 +45,14 @@ public interface VisitAlgorithmsSelector<V, E, G extends Graph<V, E>>
      */
     <O> O applyingBreadthFirstSearch( GraphVisitHandler<V, E, G, O> handler );
 
+    /**
+     * Breadth-first search algorithm implementation, reusing the input workspace working memory.
+     *
+     * @param handler the handler intercepts visit actions
+     * @param workspace the working memory, shared by repeated visits
+     */
+    <O> O applyingBreadthFirstSearch( GraphVisitHandler<V, E, G, O> handler, VisitWorkspace<V> workspace );
+
     /**
      * Depth-first search algorithm implementation.
      *
@@ -59,4 +67,12 @@ public interface VisitAlgorithmsSelector<V, E, G extends Graph<V, E>>
      */
     <O> O applyingDepthFirstSearch( GraphVisitHandler<V, E, G, O> handler );
 
+    /**
+     * Depth-first search algorithm implementation, reusing the input workspace working memory.
+     *
+     * @param handler the handler intercepts visit actions
+     * @param workspace the working memory, shared by repeated visits
+     */
+    <O> O applyingDepthFirstSearch( GraphVisitHandler<V, E, G, O> handler, VisitWorkspace<V> workspace );
+
 }
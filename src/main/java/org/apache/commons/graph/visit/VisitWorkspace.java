@@ -0,0 +1,156 @@
+package org.apache.commons.graph.visit;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Arrays;
+
+import org.apache.commons.graph.collections.ElementIndex;
+
+/**
+ * The working memory of graph visits, to be reused by repeated visits so that they do not allocate
+ * hash-based sets and linked lists sized for the whole visit.
+ *
+ * Vertices are assigned a dense identifier the first time a visit reaches them, and their visited state
+ * is stored in an array; each visit starts a new <i>generation</i>, so resetting the previous visit state
+ * takes constant time.
+ *
+ * <p><b>Note</b>: a workspace can be used by one visit at a time, it is NOT thread safe!</p>
+ *
+ * @param <V> The Graph vertices type
+ */
+public final class VisitWorkspace<V>
+{
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ElementIndex<V> vertices = new ElementIndex<V>();
+
+    /**
+     * The generation each vertex has been visited in.
+     */
+    private int[] visitedGenerations = new int[INITIAL_CAPACITY];
+
+    private int generation = 0;
+
+    /**
+     * The vertices to be visited, each one paired to the vertex it was discovered from.
+     */
+    private int[] frontierVertices = new int[INITIAL_CAPACITY];
+
+    private int[] frontierPredecessors = new int[INITIAL_CAPACITY];
+
+    private int frontierHead = 0;
+
+    private int frontierTail = 0;
+
+    /**
+     * Starts a new visit, discarding the state of the previous one.
+     */
+    void begin()
+    {
+        frontierHead = 0;
+        frontierTail = 0;
+
+        if ( ++generation == Integer.MAX_VALUE )
+        {
+            Arrays.fill( visitedGenerations, 0 );
+            generation = 1;
+        }
+    }
+
+    /**
+     * Returns the identifier of the input vertex, assigning a new one if the vertex was never reached before.
+     */
+    int indexOf( V vertex )
+    {
+        int index = vertices.add( vertex );
+        if ( index == visitedGenerations.length )
+        {
+            visitedGenerations = Arrays.copyOf( visitedGenerations, 2 * visitedGenerations.length );
+        }
+        return index;
+    }
+
+    V getVertex( int index )
+    {
+        return vertices.get( index );
+    }
+
+    boolean isVisited( int index )
+    {
+        return visitedGenerations[index] == generation;
+    }
+
+    void visit( int index )
+    {
+        visitedGenerations[index] = generation;
+    }
+
+    /**
+     * Appends a vertex to be visited to the frontier.
+     */
+    void push( int vertex, int predecessor )
+    {
+        if ( frontierTail == frontierVertices.length )
+        {
+            // compact the frontier, growing it only if it is more than half full
+            int size = frontierTail - frontierHead;
+            int capacity = size < frontierVertices.length / 2 ? frontierVertices.length : 2 * frontierVertices.length;
+            frontierVertices = shift( frontierVertices, capacity );
+            frontierPredecessors = shift( frontierPredecessors, capacity );
+            frontierHead = 0;
+            frontierTail = size;
+        }
+        frontierVertices[frontierTail] = vertex;
+        frontierPredecessors[frontierTail++] = predecessor;
+    }
+
+    private int[] shift( int[] frontier, int capacity )
+    {
+        int[] shifted = frontier.length == capacity ? frontier : new int[capacity];
+        System.arraycopy( frontier, frontierHead, shifted, 0, frontierTail - frontierHead );
+        return shifted;
+    }
+
+    boolean isFrontierEmpty()
+    {
+        return frontierHead == frontierTail;
+    }
+
+    /**
+     * Removes the first (queue behavior) or the last (stack behavior) element of the frontier, returning its
+     * position, to be used to read the vertex and its predecessor.
+     */
+    int pop( boolean first )
+    {
+        return first ? frontierHead++ : --frontierTail;
+    }
+
+    int getFrontierVertex( int position )
+    {
+        return frontierVertices[position];
+    }
+
+    int getFrontierPredecessor( int position )
+    {
+        return frontierPredecessors[position];
+    }
+
+}
@@ -0,0 +1,92 @@
+package org.apache.commons.graph.weight;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+/**
+ * The tropical {@link Semiring} of shortest paths, built on top of an {@link OrderedMonoid}: {@code plus} is the
+ * minimum and {@code times} the monoid operation. The {@link #zero()}, i.e. the infinite distance, is {@code null}.
+ *
+ * @param <W> The weight type
+ */
+public final class MinPlusSemiring<W>
+    implements Semiring<W>
+{
+
+    private static final long serialVersionUID = -1593251096335374405L;
+
+    private final OrderedMonoid<W> weightOperations;
+
+    /**
+     * Creates a new min-plus semiring over the input weight operations.
+     *
+     * @param weightOperations the weight operations
+     */
+    public MinPlusSemiring( OrderedMonoid<W> weightOperations )
+    {
+        this.weightOperations = checkNotNull( weightOperations, "Min-plus semiring can not be built on null weight operations" );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public W plus( W e1, W e2 )
+    {
+        if ( e1 == null )
+        {
+            return e2;
+        }
+        if ( e2 == null )
+        {
+            return e1;
+        }
+        return weightOperations.compare( e2, e1 ) < 0 ? e2 : e1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public W times( W e1, W e2 )
+    {
+        if ( e1 == null || e2 == null )
+        {
+            return null;
+        }
+        return weightOperations.append( e1, e2 );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public W zero()
+    {
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public W one()
+    {
+        return weightOperations.identity();
+    }
+
+}
@@ -0,0 +1,69 @@
+package org.apache.commons.graph.weight;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.Serializable;
+
+/**
+ * A {@link Semiring} defines two binary operations on path weights: {@code times} extends a path with an edge,
+ * {@code plus} merges alternative paths between the same vertices into the best one.
+ *
+ * Path algorithms expect {@code plus} to be idempotent and to select one of its arguments, and cycles to never
+ * improve a path, i.e. {@code plus( one(), c )} equals {@code one()} for any cycle weight {@code c}.
+ *
+ * @param <E> The type of the elements in the {@link Semiring}
+ */
+public interface Semiring<E>
+    extends Serializable
+{
+
+    /**
+     * Returns the result of the additive operation, merging two alternative paths weights.
+     *
+     * @param e1 the first element
+     * @param e2 the second element
+     * @return the result of the additive operation
+     */
+    E plus( E e1, E e2 );
+
+    /**
+     * Returns the result of the multiplicative operation, concatenating two paths weights.
+     *
+     * @param e1 the first element
+     * @param e2 the second element
+     * @return the result of the multiplicative operation
+     */
+    E times( E e1, E e2 );
+
+    /**
+     * Returns the additive identity, the weight of a missing path.
+     *
+     * @return the additive identity
+     */
+    E zero();
+
+    /**
+     * Returns the multiplicative identity, the weight of the empty path.
+     *
+     * @return the multiplicative identity
+     */
+    E one();
+
+}
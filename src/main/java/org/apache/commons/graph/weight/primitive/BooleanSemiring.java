@@ -0,0 +1,66 @@
+package org.apache.commons.graph.weight.primitive;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.weight.Semiring;
+
+/**
+ * The {@link Semiring} of reachability for weights of type {@link Boolean}: {@code true} edges can be crossed and
+ * a vertex is reachable if any path to it exists.
+ */
+public class BooleanSemiring
+    implements Semiring<Boolean>
+{
+
+    private static final long serialVersionUID = 8365934410377405178L;
+
+    /**
+     * {@inheritDoc}
+     */
+    public Boolean plus( Boolean e1, Boolean e2 )
+    {
+        return e1 || e2;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Boolean times( Boolean e1, Boolean e2 )
+    {
+        return e1 && e2;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Boolean zero()
+    {
+        return Boolean.FALSE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Boolean one()
+    {
+        return Boolean.TRUE;
+    }
+
+}
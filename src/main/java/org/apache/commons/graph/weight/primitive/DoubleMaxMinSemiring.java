@@ -0,0 +1,66 @@
+package org.apache.commons.graph.weight.primitive;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.weight.Semiring;
+
+/**
+ * The bottleneck {@link Semiring} of widest paths for weights of type {@link Double}: a path is as wide as its
+ * narrowest edge and the widest alternative is the best one.
+ */
+public class DoubleMaxMinSemiring
+    implements Semiring<Double>
+{
+
+    private static final long serialVersionUID = 2977370389880164271L;
+
+    /**
+     * {@inheritDoc}
+     */
+    public Double plus( Double e1, Double e2 )
+    {
+        return e2.compareTo( e1 ) > 0 ? e2 : e1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Double times( Double e1, Double e2 )
+    {
+        return e2.compareTo( e1 ) < 0 ? e2 : e1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Double zero()
+    {
+        return Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Double one()
+    {
+        return Double.POSITIVE_INFINITY;
+    }
+
+}
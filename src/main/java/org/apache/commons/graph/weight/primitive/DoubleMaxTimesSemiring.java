@@ -0,0 +1,66 @@
+package org.apache.commons.graph.weight.primitive;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.weight.Semiring;
+
+/**
+ * The {@link Semiring} of most reliable paths for weights of type {@link Double}, in the {@code [0, 1]} range:
+ * a path is as reliable as the product of its edges probabilities and the most reliable alternative is the best one.
+ */
+public class DoubleMaxTimesSemiring
+    implements Semiring<Double>
+{
+
+    private static final long serialVersionUID = -6203453640437934651L;
+
+    /**
+     * {@inheritDoc}
+     */
+    public Double plus( Double e1, Double e2 )
+    {
+        return e2.compareTo( e1 ) > 0 ? e2 : e1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Double times( Double e1, Double e2 )
+    {
+        return e1 * e2;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Double zero()
+    {
+        return 0.0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Double one()
+    {
+        return 1.0;
+    }
+
+}
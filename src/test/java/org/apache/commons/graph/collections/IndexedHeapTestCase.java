@@ -0,0 +1,114 @@
+package org.apache.commons.graph.collections;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.apache.commons.graph.weight.primitive.IntegerWeightBaseOperations;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class IndexedHeapTestCase
+{
+
+    private static final int CAPACITY = 1000;
+
+    private IndexedHeap<Integer> heap;
+
+    @Before
+    public void setUp()
+    {
+        heap = new IndexedHeap<Integer>( CAPACITY, new IntegerWeightBaseOperations() );
+    }
+
+    @Test( expected = NoSuchElementException.class )
+    public void pollThrowsExceptionWhenEmpty()
+    {
+        heap.poll();
+    }
+
+    @Test
+    public void testDecreaseAndIncreaseKey()
+    {
+        heap.offer( 1, 10 );
+        heap.offer( 2, 20 );
+        heap.offer( 3, 30 );
+
+        heap.offer( 3, 5 );
+        assertThat( heap.size(), is( 3 ) );
+        assertThat( heap.peek(), is( 3 ) );
+
+        heap.offer( 3, 25 );
+        assertThat( heap.poll(), is( 1 ) );
+        assertThat( heap.poll(), is( 2 ) );
+        assertThat( heap.getKey( 3 ), is( 25 ) );
+        assertThat( heap.poll(), is( 3 ) );
+        assertThat( heap.isEmpty(), is( true ) );
+        assertThat( heap.contains( 3 ), is( false ) );
+        assertThat( heap.getKey( 3 ), is( nullValue() ) );
+    }
+
+    @Test
+    public void testClear()
+    {
+        heap.offer( 7, 1 );
+        heap.offer( 8, 2 );
+        heap.clear();
+
+        assertThat( heap.isEmpty(), is( true ) );
+        assertThat( heap.contains( 7 ), is( false ) );
+
+        heap.offer( 8, 3 );
+        assertThat( heap.poll(), is( 8 ) );
+    }
+
+    @Test
+    public void testRandomKeysArePolledInOrder()
+    {
+        Random random = new Random( 13 );
+        int[] expected = new int[CAPACITY];
+        for ( int element = 0; element < CAPACITY; element++ )
+        {
+            heap.offer( element, random.nextInt( 10 * CAPACITY ) );
+        }
+        // shuffle the keys once more, through updates
+        for ( int element = 0; element < CAPACITY; element++ )
+        {
+            expected[element] = random.nextInt( 10 * CAPACITY );
+            heap.offer( element, expected[element] );
+        }
+        Arrays.sort( expected );
+
+        for ( int i = 0; i < CAPACITY; i++ )
+        {
+            int key = heap.getKey( heap.peek() );
+            assertThat( key, is( expected[i] ) );
+            heap.poll();
+        }
+        assertThat( heap.isEmpty(), is( true ) );
+    }
+
+}
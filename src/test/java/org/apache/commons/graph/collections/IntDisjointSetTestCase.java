@@ -0,0 +1,112 @@
+package org.apache.commons.graph.collections;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public final class IntDisjointSetTestCase
+{
+
+    private static final int SIZE = 2000;
+
+    @Test
+    public void testRandomUnionsAgainstLabels()
+    {
+        IntDisjointSet disjointSet = new IntDisjointSet( SIZE );
+        // naive reference: every element is labeled with its subset, relabeled on each union
+        int[] labels = new int[SIZE];
+        for ( int i = 0; i < SIZE; i++ )
+        {
+            labels[i] = i;
+        }
+        int subsets = SIZE;
+
+        Random random = new Random( 41 );
+        for ( int round = 0; round < 3000; round++ )
+        {
+            int e1 = random.nextInt( SIZE );
+            int e2 = random.nextInt( SIZE );
+
+            boolean merged = labels[e1] != labels[e2];
+            assertThat( disjointSet.union( e1, e2 ), is( merged ) );
+            if ( merged )
+            {
+                int old = labels[e2];
+                for ( int i = 0; i < SIZE; i++ )
+                {
+                    if ( labels[i] == old )
+                    {
+                        labels[i] = labels[e1];
+                    }
+                }
+                subsets--;
+            }
+
+            int e3 = random.nextInt( SIZE );
+            assertThat( disjointSet.connected( e1, e3 ), is( labels[e1] == labels[e3] ) );
+            assertThat( disjointSet.getSubsets(), is( subsets ) );
+        }
+    }
+
+    @Test
+    public void testLongChain()
+    {
+        IntDisjointSet disjointSet = new IntDisjointSet( 0 );
+        int previous = disjointSet.add();
+        for ( int i = 1; i < 1000000; i++ )
+        {
+            int current = disjointSet.add();
+            disjointSet.union( current, previous );
+            previous = current;
+        }
+
+        assertThat( disjointSet.size(), is( 1000000 ) );
+        assertThat( disjointSet.getSubsets(), is( 1 ) );
+        assertThat( disjointSet.find( 0 ), is( disjointSet.find( 999999 ) ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testOutOfRangeElement()
+    {
+        new IntDisjointSet( 10 ).find( 10 );
+    }
+
+    @Test
+    public void testGenericDisjointSet()
+    {
+        DisjointSet<String> disjointSet = new DisjointSet<String>();
+        disjointSet.union( "a", "b" );
+        disjointSet.union( "c", "d" );
+
+        assertThat( disjointSet.find( "a" ), is( disjointSet.find( "b" ) ) );
+        assertThat( disjointSet.find( "c" ), is( disjointSet.find( "d" ) ) );
+        assertThat( disjointSet.find( "a" ).equals( disjointSet.find( "c" ) ), is( false ) );
+        assertThat( disjointSet.find( "e" ), is( "e" ) );
+
+        disjointSet.union( "b", "d" );
+        assertThat( disjointSet.find( "a" ), is( disjointSet.find( "c" ) ) );
+    }
+
+}
@@ -24,9 +24,12 @@ import static org.apache.commons.graph.CommonsGraph.newUndirectedMutableGraph;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.apache.commons.graph.connectivity.RandomGraphs.populate;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Random;
 
 import org.apache.commons.graph.Graph;
 import org.apache.commons.graph.builder.AbstractGraphConnection;
@@ -246,4 +249,66 @@ public final class FindConnectedComponetTestCase
         findConnectedComponent( (Graph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>) null ).includingAllVertices().applyingMinimumSpanningTreeAlgorithm();
     }
 
+    @Test
+    public void testUnionFindIncludingVertices()
+    {
+        final BaseLabeledVertex a = new BaseLabeledVertex( "A" );
+        final BaseLabeledVertex c = new BaseLabeledVertex( "C" );
+        final BaseLabeledVertex f = new BaseLabeledVertex( "F" );
+
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> graph =
+        newUndirectedMutableGraph( new AbstractGraphConnection<BaseLabeledVertex, BaseLabeledEdge>()
+        {
+
+            public void connect()
+            {
+                addVertex( a );
+                BaseLabeledVertex b = addVertex( new BaseLabeledVertex( "B" ) );
+                addVertex( c );
+                BaseLabeledVertex g = addVertex( new BaseLabeledVertex( "G" ) );
+                addVertex( f );
+
+                addEdge( new BaseLabeledEdge( "A -> B" ) ).from( a ).to( b );
+                addEdge( new BaseLabeledEdge( "B -> F" ) ).from( b ).to( f );
+                addEdge( new BaseLabeledEdge( "C -> G" ) ).from( c ).to( g );
+            }
+
+        } );
+
+        ConnectedComponents<BaseLabeledVertex> components =
+            findConnectedComponent( graph ).includingVertices( a, c, f ).applyingUnionFind();
+
+        assertEquals( 2, components.getComponentsCount() );
+        assertEquals( components.getComponent( a ), components.getComponent( f ) );
+        assertTrue( components.getComponent( a ) != components.getComponent( c ) );
+        assertEquals( 2, components.getComponents().size() );
+    }
+
+    @Test
+    public void testParallelUnionFindAgainstVisit()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>();
+
+        populate( graph, new Random( 48 ), 20000, 15000 );
+
+        Collection<List<BaseLabeledVertex>> expected =
+            findConnectedComponent( graph ).includingAllVertices().applyingMinimumSpanningTreeAlgorithm();
+        ConnectedComponents<BaseLabeledVertex> sequential =
+            findConnectedComponent( graph ).includingAllVertices().applyingUnionFind();
+        ConnectedComponents<BaseLabeledVertex> parallel =
+            findConnectedComponent( graph ).includingAllVertices().applyingParallelUnionFind();
+
+        assertEquals( expected.size(), sequential.getComponentsCount() );
+        assertEquals( expected.size(), parallel.getComponentsCount() );
+        for ( List<BaseLabeledVertex> component : expected )
+        {
+            int label = parallel.getComponent( component.get( 0 ) );
+            for ( BaseLabeledVertex vertex : component )
+            {
+                assertEquals( label, parallel.getComponent( vertex ) );
+            }
+        }
+    }
+
 }
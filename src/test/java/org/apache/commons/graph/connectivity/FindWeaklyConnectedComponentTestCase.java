@@ -0,0 +1,110 @@
+package org.apache.commons.graph.connectivity;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.CommonsGraph.findConnectedComponent;
+import static org.apache.commons.graph.CommonsGraph.findWeaklyConnectedComponent;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.apache.commons.graph.connectivity.RandomGraphs.populate;
+
+import java.util.Random;
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.model.BaseLabeledEdge;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.junit.Test;
+
+public final class FindWeaklyConnectedComponentTestCase
+{
+
+    @Test( expected = NullPointerException.class )
+    public void testNullGraph()
+    {
+        findWeaklyConnectedComponent( (DirectedGraph<BaseLabeledVertex, BaseLabeledEdge>) null ).applyingBreadthFirstSearch();
+    }
+
+    @Test
+    public void testEdgesAreFollowedBackwards()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>();
+
+        BaseLabeledVertex a = new BaseLabeledVertex( "A" );
+        BaseLabeledVertex b = new BaseLabeledVertex( "B" );
+        BaseLabeledVertex c = new BaseLabeledVertex( "C" );
+        BaseLabeledVertex d = new BaseLabeledVertex( "D" );
+        graph.addVertex( a );
+        graph.addVertex( b );
+        graph.addVertex( c );
+        graph.addVertex( d );
+
+        // b and c both point to a, but neither reaches the other
+        graph.addEdge( b, new BaseLabeledEdge( "B -> A" ), a );
+        graph.addEdge( c, new BaseLabeledEdge( "C -> A" ), a );
+
+        ConnectedComponents<BaseLabeledVertex> components =
+            findWeaklyConnectedComponent( graph ).applyingBreadthFirstSearch();
+
+        assertEquals( 2, components.getComponentsCount() );
+        assertEquals( components.getComponent( b ), components.getComponent( c ) );
+        assertTrue( components.getComponent( a ) != components.getComponent( d ) );
+
+        int[] labels = components.getLabels();
+        assertEquals( 4, labels.length );
+        for ( int i = 0; i < labels.length; i++ )
+        {
+            assertEquals( components.getComponent( components.getVertex( i ) ), labels[i] );
+        }
+    }
+
+    @Test
+    public void testParallelAgainstBreadthFirstSearch()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>();
+
+        Random random = new Random( 49 );
+        BaseLabeledVertex[] vertices = populate( graph, random, 20000, 15000 );
+
+        ConnectedComponents<BaseLabeledVertex> expected =
+            findConnectedComponent( graph ).includingAllVertices().applyingUnionFind();
+        ConnectedComponents<BaseLabeledVertex> sequential =
+            findWeaklyConnectedComponent( graph ).applyingBreadthFirstSearch();
+        ConnectedComponents<BaseLabeledVertex> parallel =
+            findWeaklyConnectedComponent( graph ).applyingParallelUnionFind();
+
+        assertEquals( expected.getComponentsCount(), sequential.getComponentsCount() );
+        // both label components in order of their lowest vertex
+        assertArrayEquals( sequential.getLabels(), parallel.getLabels() );
+        for ( int i = 0; i < vertices.length; i++ )
+        {
+            for ( int j = 0; j < 3; j++ )
+            {
+                BaseLabeledVertex other = vertices[random.nextInt( vertices.length )];
+                assertEquals( expected.getComponent( vertices[i] ) == expected.getComponent( other ),
+                              sequential.getComponent( vertices[i] ) == sequential.getComponent( other ) );
+            }
+        }
+    }
+
+}
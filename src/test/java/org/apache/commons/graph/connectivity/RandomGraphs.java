@@ -0,0 +1,71 @@
+package org.apache.commons.graph.connectivity;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Random;
+
+import org.apache.commons.graph.MutableGraph;
+import org.apache.commons.graph.model.BaseLabeledEdge;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+
+/**
+ * Random sparse graphs shared by the connectivity tests, large enough to be scanned in parallel.
+ */
+final class RandomGraphs
+{
+
+    private RandomGraphs()
+    {
+        // do nothing
+    }
+
+    /**
+     * Adds {@code order} vertices and tries {@code attempts} times to connect two random ones, skipping self loops
+     * and the vertices already connected.
+     *
+     * @param graph the graph to populate
+     * @param random the source of randomness
+     * @param order the number of vertices
+     * @param attempts the number of edges to try to add
+     * @return the added vertices
+     */
+    static BaseLabeledVertex[] populate( MutableGraph<BaseLabeledVertex, BaseLabeledEdge> graph, Random random,
+                                         int order, int attempts )
+    {
+        BaseLabeledVertex[] vertices = new BaseLabeledVertex[order];
+        for ( int i = 0; i < order; i++ )
+        {
+            vertices[i] = new BaseLabeledVertex( String.valueOf( i ) );
+            graph.addVertex( vertices[i] );
+        }
+
+        for ( int i = 0; i < attempts; i++ )
+        {
+            BaseLabeledVertex head = vertices[random.nextInt( order )];
+            BaseLabeledVertex tail = vertices[random.nextInt( order )];
+            if ( head != tail && graph.getEdge( head, tail ) == null )
+            {
+                graph.addEdge( head, new BaseLabeledEdge( head + " -> " + tail ), tail );
+            }
+        }
+        return vertices;
+    }
+
+}
@@ -33,7 +33,6 @@ import org.apache.commons.graph.model.BaseLabeledEdge;
 import org.apache.commons.graph.model.BaseLabeledVertex;
 import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
 import org.apache.commons.graph.model.DirectedMutableGraph;
-import org.junit.Ignore;
 import org.junit.Test;
 
 /**
@@ -88,7 +87,6 @@ public final class TarjanTestCase
     }
 
     @Test
-    @Ignore //TODO - for time being ignoring it.
     public void verifyHasStronglyConnectedComponents()
     {
         final BaseLabeledVertex a = new BaseLabeledVertex( "A" );
@@ -147,4 +145,36 @@ public final class TarjanTestCase
         assertEquals( expected, actual );
     }
 
+    @Test
+    public void testDeepChainDoesNotOverflow()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>();
+
+        // a long path closed in a cycle by its last 10 vertices
+        final int length = 200000;
+        BaseLabeledVertex[] vertices = new BaseLabeledVertex[length];
+        for ( int i = 0; i < length; i++ )
+        {
+            vertices[i] = new BaseLabeledVertex( String.valueOf( i ) );
+            graph.addVertex( vertices[i] );
+            if ( i > 0 )
+            {
+                graph.addEdge( vertices[i - 1], new BaseLabeledEdge( ( i - 1 ) + " -> " + i ), vertices[i] );
+            }
+        }
+        graph.addEdge( vertices[length - 1], new BaseLabeledEdge( ( length - 1 ) + " -> " + ( length - 10 ) ),
+                       vertices[length - 10] );
+
+        Set<Set<BaseLabeledVertex>> actual = findStronglyConnectedComponent( graph ).applyingTarjan();
+
+        assertEquals( length - 9, actual.size() );
+        int largest = 0;
+        for ( Set<BaseLabeledVertex> component : actual )
+        {
+            largest = Math.max( largest, component.size() );
+        }
+        assertEquals( 10, largest );
+    }
+
 }
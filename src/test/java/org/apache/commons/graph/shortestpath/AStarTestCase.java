@@ -102,10 +102,9 @@ public final class AStarTestCase
         InMemoryWeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> expected =
             new InMemoryWeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double>( start, goal, new DoubleWeightBaseOperations(), new BaseWeightedEdge<Double>() );
 
-        expected.addConnectionInTail( start, new BaseLabeledWeightedEdge<Double>( "start <-> a", 1.5D ), a );
-        expected.addConnectionInTail( a, new BaseLabeledWeightedEdge<Double>( "a <-> b", 2D ), b );
-        expected.addConnectionInTail( b, new BaseLabeledWeightedEdge<Double>( "b <-> c", 3D ), c );
-        expected.addConnectionInTail( c, new BaseLabeledWeightedEdge<Double>( "c <-> goal", 3D ), goal );
+        expected.addConnectionInTail( start, new BaseLabeledWeightedEdge<Double>( "start <-> d", 2D ), d );
+        expected.addConnectionInTail( d, new BaseLabeledWeightedEdge<Double>( "d <-> e", 3D ), e );
+        expected.addConnectionInTail( e, new BaseLabeledWeightedEdge<Double>( "e <-> goal", 2D ), goal );
 
         // actual path
 
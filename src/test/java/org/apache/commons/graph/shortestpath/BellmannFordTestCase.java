@@ -23,6 +23,8 @@ import static org.junit.Assert.assertEquals;
 import static org.apache.commons.graph.CommonsGraph.findShortestPath;
 import static org.junit.Assert.fail;
 
+import java.util.Random;
+
 import org.apache.commons.graph.Graph;
 import org.apache.commons.graph.WeightedPath;
 import org.apache.commons.graph.model.BaseLabeledVertex;
@@ -32,6 +34,7 @@ import org.apache.commons.graph.model.DirectedMutableGraph;
 import org.apache.commons.graph.model.InMemoryWeightedPath;
 import org.apache.commons.graph.model.UndirectedMutableGraph;
 import org.apache.commons.graph.weight.primitive.DoubleWeightBaseOperations;
+import org.apache.commons.graph.weight.primitive.IntegerWeightBaseOperations;
 import org.junit.Test;
 
 public final class BellmannFordTestCase
@@ -171,4 +174,96 @@ public final class BellmannFordTestCase
             .applyingBelmannFord( new DoubleWeightBaseOperations() );
     }
 
+    @Test
+    public void testNegativeWeightedCycle()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        BaseLabeledVertex source = new BaseLabeledVertex( "s" );
+        BaseLabeledVertex a = new BaseLabeledVertex( "a" );
+        BaseLabeledVertex b = new BaseLabeledVertex( "b" );
+        BaseLabeledVertex c = new BaseLabeledVertex( "c" );
+        BaseLabeledVertex d = new BaseLabeledVertex( "d" );
+
+        graph.addVertex( source );
+        graph.addVertex( a );
+        graph.addVertex( b );
+        graph.addVertex( c );
+        graph.addVertex( d );
+
+        graph.addEdge( source, new BaseLabeledWeightedEdge<Double>( "s -> a", 1D ), a );
+        graph.addEdge( a, new BaseLabeledWeightedEdge<Double>( "a -> b", 1D ), b );
+        graph.addEdge( b, new BaseLabeledWeightedEdge<Double>( "b -> c", -3D ), c );
+        graph.addEdge( c, new BaseLabeledWeightedEdge<Double>( "c -> a", 1D ), a );
+        graph.addEdge( c, new BaseLabeledWeightedEdge<Double>( "c -> d", 1D ), d );
+
+        try
+        {
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .from( source )
+                .applyingBelmannFord( new DoubleWeightBaseOperations() );
+            fail( "Negative weighted cycle not detected" );
+        }
+        catch ( NegativeWeightedCycleException e )
+        {
+            WeightedPath<?, ?, ?> cycle = (WeightedPath<?, ?, ?>) e.getCycle();
+            assertEquals( cycle.getSource(), cycle.getTarget() );
+            assertEquals( 3, cycle.getSize() );
+            assertEquals( -1D, cycle.getWeight() );
+        }
+    }
+
+    @Test
+    public void testRandomGraphAgainstDijkstra()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+
+        BaseLabeledVertex[] vertices = new BaseLabeledVertex[100];
+        for ( int i = 0; i < vertices.length; i++ )
+        {
+            vertices[i] = new BaseLabeledVertex( String.valueOf( i ) );
+            graph.addVertex( vertices[i] );
+        }
+
+        Random random = new Random( 17 );
+        for ( int i = 0; i < 400; i++ )
+        {
+            BaseLabeledVertex head = vertices[random.nextInt( vertices.length )];
+            BaseLabeledVertex tail = vertices[random.nextInt( vertices.length )];
+            if ( head != tail && graph.getEdge( head, tail ) == null )
+            {
+                graph.addEdge( head, new BaseLabeledWeightedEdge<Integer>( head + " -> " + tail, random.nextInt( 50 ) ), tail );
+            }
+        }
+
+        AllVertexPairsShortestPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> allVertexPairsShortestPath =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                .from( vertices[0] )
+                .applyingBelmannFord( new IntegerWeightBaseOperations() );
+
+        for ( int i = 1; i < vertices.length; i++ )
+        {
+            WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> expected;
+            try
+            {
+                expected = findShortestPath( graph )
+                    .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                    .from( vertices[0] )
+                    .to( vertices[i] )
+                    .applyingDijkstra( new IntegerWeightBaseOperations() );
+            }
+            catch ( PathNotFoundException e )
+            {
+                continue;
+            }
+
+            assertEquals( expected.getWeight(),
+                          allVertexPairsShortestPath.findShortestPath( vertices[0], vertices[i] ).getWeight() );
+        }
+    }
+
 }
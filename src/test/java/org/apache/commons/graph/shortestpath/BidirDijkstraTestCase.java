@@ -148,6 +148,42 @@ public final class BidirDijkstraTestCase
         }
     }
 
+    @Test
+    public void testParallelCompareToUnidirectional()
+    {
+        Random r = new Random( 59 );
+
+        for ( int ii = 0; ii < TIMES; ii++ )
+        {
+            BaseLabeledVertex s = vertices.get( r.nextInt( vertices.size() ) );
+            BaseLabeledVertex t;
+
+            do
+            {
+                t = vertices.get( r.nextInt( vertices.size() ) );
+            }
+            while ( s.equals( t ) );
+
+            WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> pathUni =
+                    findShortestPath( graph )
+                        .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                        .from( s )
+                        .to( t )
+                        .applyingDijkstra( weightOperations );
+
+            WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> pathBi =
+                    findShortestPath( graph )
+                        .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                        .from( s )
+                        .to( t )
+                        .applyingParallelBidirectionalDijkstra( weightOperations );
+
+            assertEquals( pathUni.getWeight(), pathBi.getWeight(), EPSILON );
+            assertEquals( s, pathBi.getSource() );
+            assertEquals( t, pathBi.getTarget() );
+        }
+    }
+
     /**
      * Test Graph and Dijkstra's solution can be seen on
      * <a href="http://en.wikipedia.org/wiki/Dijkstra's_algorithm>Wikipedia</a>
@@ -229,6 +265,24 @@ public final class BidirDijkstraTestCase
             .applyingBidirectionalDijkstra( new DoubleWeightBaseOperations() );
     }
 
+    @Test( expected = PathNotFoundException.class )
+    public void testParallelNotConnectGraph()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        final BaseLabeledVertex a = new BaseLabeledVertex( "a" );
+        final BaseLabeledVertex b = new BaseLabeledVertex( "b" );
+        graph.addVertex( a );
+        graph.addVertex( b );
+
+        findShortestPath( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+            .from( a )
+            .to( b )
+            .applyingParallelBidirectionalDijkstra( new DoubleWeightBaseOperations() );
+    }
+
     @Test( expected = NullPointerException.class )
     public void testNullGraph()
     {
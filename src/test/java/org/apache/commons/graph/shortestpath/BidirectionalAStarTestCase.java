@@ -0,0 +1,144 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.CommonsGraph.findShortestPath;
+import static org.apache.commons.graph.shortestpath.RoadGraphs.assertShortestPath;
+import static org.apache.commons.graph.shortestpath.RoadGraphs.dijkstra;
+import static org.apache.commons.graph.shortestpath.RoadGraphs.populate;
+
+import java.util.Random;
+
+import org.apache.commons.graph.MutableGraph;
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.BaseWeightedEdge;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.apache.commons.graph.model.UndirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.IntegerWeightBaseOperations;
+import org.junit.Test;
+
+public final class BidirectionalAStarTestCase
+{
+
+    private static final int VERTICES = 200;
+
+    private static void verifyAgainstDijkstra( MutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph,
+                                               BaseLabeledVertex[] vertices, Heuristic<BaseLabeledVertex, Integer> heuristic )
+    {
+        Random random = new Random( 41 );
+        for ( int i = 0; i < 100; i++ )
+        {
+            BaseLabeledVertex source = vertices[random.nextInt( VERTICES )];
+            BaseLabeledVertex target = vertices[random.nextInt( VERTICES )];
+
+            WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> actual =
+                findShortestPath( graph )
+                    .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                    .from( source )
+                    .to( target )
+                    .applyingBidirectionalAStar( new IntegerWeightBaseOperations() )
+                    .withHeuristic( heuristic );
+
+            assertShortestPath( graph, dijkstra( graph, source, target ), actual );
+        }
+    }
+
+    private static LandmarkHeuristic<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> landmarks( MutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph )
+    {
+        return new LandmarkHeuristic<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer>( graph,
+                                                                                                    new BaseWeightedEdge<Integer>(),
+                                                                                                    new IntegerWeightBaseOperations(),
+                                                                                                    4,
+                                                                                                    LandmarkSelection.FARTHEST );
+    }
+
+    @Test
+    public void testDirectedGraphWithLandmarks()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+        BaseLabeledVertex[] vertices = populate( graph, VERTICES, 2, 43 );
+        verifyAgainstDijkstra( graph, vertices, landmarks( graph ) );
+    }
+
+    @Test
+    public void testUndirectedGraphWithLandmarks()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+        BaseLabeledVertex[] vertices = populate( graph, VERTICES, 2, 47 );
+        verifyAgainstDijkstra( graph, vertices, landmarks( graph ) );
+    }
+
+    @Test
+    public void testDirectedGraphWithoutHeuristic()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+        BaseLabeledVertex[] vertices = populate( graph, VERTICES, 2, 53 );
+        verifyAgainstDijkstra( graph, vertices, new Heuristic<BaseLabeledVertex, Integer>()
+        {
+
+            public Integer applyHeuristic( BaseLabeledVertex current, BaseLabeledVertex goal )
+            {
+                return 0;
+            }
+
+        } );
+    }
+
+    @Test( expected = PathNotFoundException.class )
+    public void testNotConnectGraph()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+
+        BaseLabeledVertex a = new BaseLabeledVertex( "a" );
+        BaseLabeledVertex b = new BaseLabeledVertex( "b" );
+        graph.addVertex( a );
+        graph.addVertex( b );
+
+        findShortestPath( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+            .from( a )
+            .to( b )
+            .applyingBidirectionalAStar( new IntegerWeightBaseOperations() )
+            .withHeuristic( landmarks( graph ) );
+    }
+
+    @Test( expected = NullPointerException.class )
+    public void testNullHeuristic()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+        BaseLabeledVertex a = new BaseLabeledVertex( "a" );
+        graph.addVertex( a );
+
+        findShortestPath( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+            .from( a )
+            .to( a )
+            .applyingBidirectionalAStar( new IntegerWeightBaseOperations() )
+            .withHeuristic( null );
+    }
+
+}
@@ -0,0 +1,149 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.apache.commons.graph.CommonsGraph.findShortestPath;
+import static org.apache.commons.graph.shortestpath.RoadGraphs.assertShortestPath;
+import static org.apache.commons.graph.shortestpath.RoadGraphs.dijkstra;
+import static org.apache.commons.graph.shortestpath.RoadGraphs.populate;
+
+import java.util.Random;
+
+import org.apache.commons.graph.MutableGraph;
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.BaseWeightedEdge;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.apache.commons.graph.model.InMemoryWeightedPath;
+import org.apache.commons.graph.model.UndirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.IntegerWeightBaseOperations;
+import org.junit.Test;
+
+public final class ContractionHierarchyTestCase
+{
+
+    private static final int VERTICES = 300;
+
+    private static void verifyAgainstDijkstra( MutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph,
+                                               BaseLabeledVertex[] vertices )
+    {
+        ContractionHierarchy<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> hierarchy =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                .applyingContractionHierarchy( new IntegerWeightBaseOperations() );
+
+        ContractionHierarchy.Query<Integer> query = hierarchy.newQuery();
+
+        Random random = new Random( 3 );
+        for ( int i = 0; i < 300; i++ )
+        {
+            BaseLabeledVertex source = vertices[random.nextInt( VERTICES )];
+            BaseLabeledVertex target = vertices[random.nextInt( VERTICES )];
+
+            WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> expected =
+                dijkstra( graph, source, target );
+
+            assertShortestPath( graph, expected, hierarchy.findShortestPath( source, target ) );
+            // the same query working memory is reused by all the searches
+            assertShortestPath( graph, expected, hierarchy.findShortestPath( source, target, query ) );
+        }
+    }
+
+    @Test
+    public void testDirectedGraphAgainstDijkstra()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+        verifyAgainstDijkstra( graph, populate( graph, VERTICES, 2, 11 ) );
+    }
+
+    @Test
+    public void testUndirectedGraphAgainstDijkstra()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+        verifyAgainstDijkstra( graph, populate( graph, VERTICES, 2, 23 ) );
+    }
+
+    @Test
+    public void testSameSourceAndTarget()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+        BaseLabeledVertex a = new BaseLabeledVertex( "a" );
+        graph.addVertex( a );
+
+        WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> actual =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                .applyingContractionHierarchy( new IntegerWeightBaseOperations() )
+                .findShortestPath( a, a );
+
+        assertEquals( new InMemoryWeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer>( a, a, new IntegerWeightBaseOperations(), new BaseWeightedEdge<Integer>() ),
+                      actual );
+    }
+
+    @Test( expected = PathNotFoundException.class )
+    public void testNotConnectGraph()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+
+        BaseLabeledVertex a = new BaseLabeledVertex( "a" );
+        BaseLabeledVertex b = new BaseLabeledVertex( "b" );
+        graph.addVertex( a );
+        graph.addVertex( b );
+
+        findShortestPath( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+            .applyingContractionHierarchy( new IntegerWeightBaseOperations() )
+            .findShortestPath( a, b );
+    }
+
+    @Test( expected = NullPointerException.class )
+    public void testNullMonoid()
+    {
+        findShortestPath( new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>() )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+            .applyingContractionHierarchy( null );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testQueryOfAnotherHierarchy()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+        BaseLabeledVertex[] vertices = populate( graph, VERTICES, 2, 29 );
+
+        ContractionHierarchy.Query<Integer> query =
+            findShortestPath( new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>() )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                .applyingContractionHierarchy( new IntegerWeightBaseOperations() )
+                .newQuery();
+
+        findShortestPath( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+            .applyingContractionHierarchy( new IntegerWeightBaseOperations() )
+            .findShortestPath( vertices[0], vertices[1], query );
+    }
+
+}
@@ -20,10 +20,14 @@ package org.apache.commons.graph.shortestpath;
  */
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.apache.commons.graph.CommonsGraph.findShortestPath;
 
+import java.util.Random;
+
 import org.apache.commons.graph.Graph;
 import org.apache.commons.graph.Path;
+import org.apache.commons.graph.WeightedPath;
 import org.apache.commons.graph.model.BaseLabeledVertex;
 import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
 import org.apache.commons.graph.model.BaseWeightedEdge;
@@ -161,4 +165,86 @@ public final class DijkstraTestCase
             .applyingDijkstra( new DoubleWeightBaseOperations() );
     }
 
+    @Test
+    public void testQueriesSharingWorkspace()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        BaseLabeledVertex[] vertices = new BaseLabeledVertex[100];
+        for ( int i = 0; i < vertices.length; i++ )
+        {
+            vertices[i] = new BaseLabeledVertex( String.valueOf( i ) );
+            graph.addVertex( vertices[i] );
+        }
+
+        Random random = new Random( 31 );
+        for ( int i = 0; i < 400; i++ )
+        {
+            BaseLabeledVertex head = vertices[random.nextInt( vertices.length )];
+            BaseLabeledVertex tail = vertices[random.nextInt( vertices.length )];
+            if ( head != tail && graph.getEdge( head, tail ) == null )
+            {
+                graph.addEdge( head, new BaseLabeledWeightedEdge<Double>( head + " -> " + tail, (double) random.nextInt( 50 ) ), tail );
+            }
+        }
+
+        Heuristic<BaseLabeledVertex, Double> noHeuristic = new Heuristic<BaseLabeledVertex, Double>()
+        {
+
+            public Double applyHeuristic( BaseLabeledVertex current, BaseLabeledVertex goal )
+            {
+                return 0D;
+            }
+
+        };
+
+        ShortestPathWorkspace<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> workspace =
+            new ShortestPathWorkspace<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double>();
+
+        for ( int i = 0; i < 100; i++ )
+        {
+            BaseLabeledVertex source = vertices[random.nextInt( vertices.length )];
+            BaseLabeledVertex target = vertices[random.nextInt( vertices.length )];
+
+            Double expected;
+            try
+            {
+                expected = findShortestPath( graph )
+                    .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                    .from( source )
+                    .to( target )
+                    .applyingDijkstra( new DoubleWeightBaseOperations() )
+                    .getWeight();
+            }
+            catch ( PathNotFoundException e )
+            {
+                expected = null;
+            }
+
+            try
+            {
+                WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> actual =
+                    findShortestPath( graph )
+                        .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                        .from( source )
+                        .to( target )
+                        .applyingDijkstra( new DoubleWeightBaseOperations(), workspace );
+                assertEquals( expected, actual.getWeight() );
+
+                actual = findShortestPath( graph )
+                        .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                        .from( source )
+                        .to( target )
+                        .applyingAStar( new DoubleWeightBaseOperations(), workspace )
+                        .withHeuristic( noHeuristic );
+                assertEquals( expected, actual.getWeight() );
+            }
+            catch ( PathNotFoundException e )
+            {
+                assertNull( expected );
+            }
+        }
+    }
+
 }
@@ -0,0 +1,159 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.apache.commons.graph.CommonsGraph.findShortestPath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.BaseWeightedEdge;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.apache.commons.graph.model.UndirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.IntegerWeightBaseOperations;
+import org.junit.Test;
+
+public final class DistanceTableTestCase
+{
+
+    private static final int VERTICES = 200;
+
+    private final DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+        new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+
+    private final BaseLabeledVertex[] vertices = new BaseLabeledVertex[VERTICES];
+
+    public DistanceTableTestCase()
+    {
+        for ( int i = 0; i < VERTICES; i++ )
+        {
+            vertices[i] = new BaseLabeledVertex( String.valueOf( i ) );
+            graph.addVertex( vertices[i] );
+        }
+
+        Random random = new Random( 29 );
+        for ( int i = 0; i < 3 * VERTICES; i++ )
+        {
+            BaseLabeledVertex head = vertices[random.nextInt( VERTICES )];
+            BaseLabeledVertex tail = vertices[random.nextInt( VERTICES )];
+            if ( head != tail && graph.getEdge( head, tail ) == null )
+            {
+                graph.addEdge( head, new BaseLabeledWeightedEdge<Integer>( head + " -> " + tail, random.nextInt( 30 ) ), tail );
+            }
+        }
+    }
+
+    private List<BaseLabeledVertex> pick( int count, long seed )
+    {
+        Random random = new Random( seed );
+        List<BaseLabeledVertex> picked = new ArrayList<BaseLabeledVertex>();
+        for ( int i = 0; i < count; i++ )
+        {
+            picked.add( vertices[random.nextInt( VERTICES )] );
+        }
+        return picked;
+    }
+
+    private void verifyAgainstFloydWarshall( List<BaseLabeledVertex> sources, List<BaseLabeledVertex> targets )
+    {
+        DistanceTable<BaseLabeledVertex, Integer> table =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                .fromAll( sources )
+                .toAll( targets )
+                .applyingDistanceTable( new IntegerWeightBaseOperations() );
+
+        assertEquals( sources, table.getSources() );
+        assertEquals( targets, table.getTargets() );
+
+        AllVertexPairsShortestPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> expected =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                .applyingFloydWarshall( new IntegerWeightBaseOperations() );
+
+        for ( int i = 0; i < sources.size(); i++ )
+        {
+            for ( int j = 0; j < targets.size(); j++ )
+            {
+                BaseLabeledVertex source = sources.get( i );
+                BaseLabeledVertex target = targets.get( j );
+                if ( source.equals( target ) )
+                {
+                    assertEquals( Integer.valueOf( 0 ), table.getDistance( i, j ) );
+                }
+                else if ( expected.hasShortestDistance( source, target ) )
+                {
+                    assertEquals( expected.getShortestDistance( source, target ), table.getDistance( i, j ) );
+                }
+                else
+                {
+                    assertNull( table.getDistance( i, j ) );
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testForwardTrees()
+    {
+        verifyAgainstFloydWarshall( pick( 10, 1 ), pick( 40, 2 ) );
+    }
+
+    @Test
+    public void testBackwardTrees()
+    {
+        verifyAgainstFloydWarshall( pick( 40, 3 ), pick( 10, 4 ) );
+    }
+
+    @Test
+    public void testVerticesNotInGraph()
+    {
+        BaseLabeledVertex outside = new BaseLabeledVertex( "outside" );
+
+        DistanceTable<BaseLabeledVertex, Integer> table =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                .fromAll( Arrays.asList( vertices[0], outside ) )
+                .toAll( Arrays.asList( outside, vertices[0] ) )
+                .applyingDistanceTable( new IntegerWeightBaseOperations() );
+
+        assertEquals( Integer.valueOf( 0 ), table.getDistance( vertices[0], vertices[0] ) );
+        assertFalse( table.hasDistance( vertices[0], outside ) );
+        assertFalse( table.hasDistance( outside, outside ) );
+    }
+
+    @Test( expected = NullPointerException.class )
+    public void testNullMonoid()
+    {
+        findShortestPath( new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>() )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+            .fromAll( new ArrayList<BaseLabeledVertex>() )
+            .toAll( new ArrayList<BaseLabeledVertex>() )
+            .applyingDistanceTable( null );
+    }
+
+}
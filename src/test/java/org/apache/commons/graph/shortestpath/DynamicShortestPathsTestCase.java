@@ -0,0 +1,183 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.apache.commons.graph.CommonsGraph.findShortestPath;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.commons.graph.ExpensiveMapper;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.MutableGraph;
+import org.apache.commons.graph.model.BaseLabeledEdge;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.apache.commons.graph.model.UndirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.IntegerWeightBaseOperations;
+import org.junit.Test;
+
+public final class DynamicShortestPathsTestCase
+{
+
+    private static final int VERTICES = 120;
+
+    /**
+     * Edges weights the test changes over time.
+     */
+    private final Map<BaseLabeledEdge, Integer> weights = new HashMap<BaseLabeledEdge, Integer>();
+
+    private final Mapper<BaseLabeledEdge, Integer> weightedEdges = new Mapper<BaseLabeledEdge, Integer>()
+    {
+
+        public Integer map( BaseLabeledEdge input )
+        {
+            return weights.get( input );
+        }
+
+    };
+
+    private void verifyAgainstDijkstra( MutableGraph<BaseLabeledVertex, BaseLabeledEdge> graph )
+    {
+        BaseLabeledVertex[] vertices = new BaseLabeledVertex[VERTICES];
+        for ( int i = 0; i < VERTICES; i++ )
+        {
+            vertices[i] = new BaseLabeledVertex( String.valueOf( i ) );
+            graph.addVertex( vertices[i] );
+        }
+
+        Random random = new Random( 61 );
+        List<BaseLabeledEdge> edges = new ArrayList<BaseLabeledEdge>();
+        for ( int i = 0; i < 3 * VERTICES; i++ )
+        {
+            BaseLabeledVertex head = vertices[random.nextInt( VERTICES )];
+            BaseLabeledVertex tail = vertices[random.nextInt( VERTICES )];
+            if ( head != tail && graph.getEdge( head, tail ) == null )
+            {
+                BaseLabeledEdge edge = new BaseLabeledEdge( head + " -> " + tail );
+                graph.addEdge( head, edge, tail );
+                weights.put( edge, 1 + random.nextInt( 50 ) );
+                edges.add( edge );
+            }
+        }
+
+        DynamicShortestPaths<BaseLabeledVertex, BaseLabeledEdge, Integer> dynamic =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( weightedEdges )
+                .from( vertices[0] )
+                .applyingDynamicDijkstra( new IntegerWeightBaseOperations() );
+
+        for ( int update = 0; update < 200; update++ )
+        {
+            if ( update > 0 )
+            {
+                BaseLabeledEdge edge = edges.get( random.nextInt( edges.size() ) );
+                int weight = weights.get( edge );
+                weights.put( edge, random.nextBoolean() ? weight + 1 + random.nextInt( 100 ) : Math.max( 0, weight - 1 - random.nextInt( 50 ) ) );
+                dynamic.updateWeight( edge );
+            }
+
+            ShortestPathTree<BaseLabeledVertex, BaseLabeledEdge, Integer> expected =
+                findShortestPath( graph )
+                    .whereEdgesHaveWeights( weightedEdges )
+                    .from( vertices[0] )
+                    .settlingAtMost( Integer.MAX_VALUE )
+                    .applyingDijkstra( new IntegerWeightBaseOperations() );
+
+            for ( BaseLabeledVertex vertex : vertices )
+            {
+                assertEquals( expected.getDistance( vertex ), dynamic.getDistance( vertex ) );
+                if ( expected.contains( vertex ) )
+                {
+                    assertEquals( expected.getDistance( vertex ), dynamic.getShortestPath( vertex ).getWeight() );
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDirectedGraph()
+    {
+        verifyAgainstDijkstra( new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>() );
+    }
+
+    @Test
+    public void testUndirectedGraph()
+    {
+        verifyAgainstDijkstra( new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>() );
+    }
+
+    @Test
+    public void testExpensiveWeightsAreReadOnUpdate()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>();
+
+        BaseLabeledVertex a = new BaseLabeledVertex( "a" );
+        BaseLabeledVertex b = new BaseLabeledVertex( "b" );
+        graph.addVertex( a );
+        graph.addVertex( b );
+        BaseLabeledEdge edge = new BaseLabeledEdge( "a -> b" );
+        graph.addEdge( a, edge, b );
+        weights.put( edge, 5 );
+
+        DynamicShortestPaths<BaseLabeledVertex, BaseLabeledEdge, Integer> dynamic =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new ExpensiveMapper<BaseLabeledEdge, Integer>()
+                {
+
+                    public Integer map( BaseLabeledEdge input )
+                    {
+                        return weights.get( input );
+                    }
+
+                } )
+                .from( a )
+                .applyingDynamicDijkstra( new IntegerWeightBaseOperations() );
+
+        weights.put( edge, 1 );
+        dynamic.updateWeight( edge );
+
+        assertEquals( Integer.valueOf( 1 ), dynamic.getDistance( b ) );
+    }
+
+    @Test( expected = PathNotFoundException.class )
+    public void testNotConnectGraph()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>();
+
+        BaseLabeledVertex a = new BaseLabeledVertex( "a" );
+        BaseLabeledVertex b = new BaseLabeledVertex( "b" );
+        graph.addVertex( a );
+        graph.addVertex( b );
+
+        findShortestPath( graph )
+            .whereEdgesHaveWeights( weightedEdges )
+            .from( a )
+            .applyingDynamicDijkstra( new IntegerWeightBaseOperations() )
+            .getShortestPath( b );
+    }
+
+}
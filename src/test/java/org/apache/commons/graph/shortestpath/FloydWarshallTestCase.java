@@ -21,9 +21,13 @@ package org.apache.commons.graph.shortestpath;
 
 import static junit.framework.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 import static org.apache.commons.graph.CommonsGraph.findShortestPath;
 
+import java.util.Random;
+
 import org.apache.commons.graph.Graph;
 import org.apache.commons.graph.MutableGraph;
 import org.apache.commons.graph.UndirectedGraph;
@@ -181,4 +185,104 @@ public class FloydWarshallTestCase
         findShortestPathAndVerify( new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>() );
     }
 
+    /**
+     * Verifies the tiled engine on a graph spanning several tiles, against Dijkstra's algorithm.
+     */
+    @Test
+    public void testMultipleTilesAgainstDijkstra()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        final int nVertices = 150;
+        BaseLabeledVertex[] vertices = new BaseLabeledVertex[nVertices];
+        for ( int i = 0; i < nVertices; i++ )
+        {
+            vertices[i] = new BaseLabeledVertex( String.valueOf( i ) );
+            graph.addVertex( vertices[i] );
+        }
+
+        Random random = new Random( 42 );
+        for ( int i = 0; i < nVertices; i++ )
+        {
+            BaseLabeledVertex head = vertices[i];
+            BaseLabeledVertex tail = vertices[( i + 1 ) % nVertices];
+            graph.addEdge( head, new BaseLabeledWeightedEdge<Double>( head + " -> " + tail, 10D ), tail );
+        }
+        for ( int i = 0; i < 4 * nVertices; i++ )
+        {
+            BaseLabeledVertex head = vertices[random.nextInt( nVertices )];
+            BaseLabeledVertex tail = vertices[random.nextInt( nVertices )];
+            if ( head != tail && graph.getEdge( head, tail ) == null )
+            {
+                double weight = 1 + random.nextInt( 50 );
+                graph.addEdge( head, new BaseLabeledWeightedEdge<Double>( head + " -> " + tail, weight ), tail );
+            }
+        }
+
+        AllVertexPairsShortestPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> p =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .applyingFloydWarshall( new DoubleWeightBaseOperations() );
+
+        for ( int i = 0; i < 200; i++ )
+        {
+            BaseLabeledVertex source = vertices[random.nextInt( nVertices )];
+            BaseLabeledVertex target = vertices[random.nextInt( nVertices )];
+            if ( source == target )
+            {
+                continue;
+            }
+
+            WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> expected =
+                findShortestPath( graph )
+                    .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                    .from( source )
+                    .to( target )
+                    .applyingDijkstra( new DoubleWeightBaseOperations() );
+
+            WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> actual = p.findShortestPath( source, target );
+
+            assertEquals( expected.getWeight(), p.getShortestDistance( source, target ) );
+            assertEquals( expected.getWeight(), actual.getWeight() );
+            assertEquals( source, actual.getSource() );
+            assertEquals( target, actual.getTarget() );
+        }
+    }
+
+    @Test
+    public void testPathCache()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        BaseLabeledVertex a = new BaseLabeledVertex( "a" );
+        BaseLabeledVertex b = new BaseLabeledVertex( "b" );
+        BaseLabeledVertex c = new BaseLabeledVertex( "c" );
+        graph.addVertex( a );
+        graph.addVertex( b );
+        graph.addVertex( c );
+        graph.addEdge( a, new BaseLabeledWeightedEdge<Double>( "a <-> b", 1D ), b );
+        graph.addEdge( b, new BaseLabeledWeightedEdge<Double>( "b <-> c", 1D ), c );
+
+        AllVertexPairsShortestPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> p =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .applyingFloydWarshall( new DoubleWeightBaseOperations() );
+
+        // paths are rebuilt on demand by default
+        WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> first = p.findShortestPath( a, c );
+        assertNotSame( first, p.findShortestPath( a, c ) );
+        assertEquals( first, p.findShortestPath( a, c ) );
+        assertEquals( 2D, first.getWeight() );
+
+        p.withPathCache( 1 );
+        first = p.findShortestPath( a, c );
+        assertSame( first, p.findShortestPath( a, c ) );
+
+        // evicts the least recently used one
+        p.findShortestPath( c, a );
+        assertNotSame( first, p.findShortestPath( a, c ) );
+    }
+
 }
@@ -0,0 +1,216 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.apache.commons.graph.CommonsGraph.findShortestPath;
+
+import java.util.Random;
+
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.BaseWeightedEdge;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.apache.commons.graph.model.InMemoryWeightedPath;
+import org.apache.commons.graph.model.UndirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.DoubleWeightBaseOperations;
+import org.apache.commons.graph.weight.primitive.IntegerWeightBaseOperations;
+import org.junit.Test;
+
+public final class JohnsonTestCase
+{
+
+    /**
+     * Same graph of {@link BellmannFordTestCase}, with negative weighted edges.
+     */
+    @Test
+    public void testFindShortestPathAndVerify()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        BaseLabeledVertex one = new BaseLabeledVertex( "1" );
+        BaseLabeledVertex two = new BaseLabeledVertex( "2" );
+        BaseLabeledVertex three = new BaseLabeledVertex( "3" );
+        BaseLabeledVertex four = new BaseLabeledVertex( "4" );
+        BaseLabeledVertex five = new BaseLabeledVertex( "5" );
+
+        graph.addVertex( one );
+        graph.addVertex( two );
+        graph.addVertex( three );
+        graph.addVertex( four );
+        graph.addVertex( five );
+
+        graph.addEdge( one, new BaseLabeledWeightedEdge<Double>( "1 -> 2", 6D ), two );
+        graph.addEdge( one, new BaseLabeledWeightedEdge<Double>( "1 -> 4", 7D ), four );
+
+        graph.addEdge( two, new BaseLabeledWeightedEdge<Double>( "2 -> 3", 5D ), three );
+        graph.addEdge( two, new BaseLabeledWeightedEdge<Double>( "2 -> 5", -4D ), five );
+        graph.addEdge( two, new BaseLabeledWeightedEdge<Double>( "2 -> 4", 8D ), four );
+
+        graph.addEdge( three, new BaseLabeledWeightedEdge<Double>( "3 -> 2", -2D ), two );
+
+        graph.addEdge( four, new BaseLabeledWeightedEdge<Double>( "4 -> 3", -3D ), three );
+        graph.addEdge( four, new BaseLabeledWeightedEdge<Double>( "4 -> 5", 9D ), five );
+
+        graph.addEdge( five, new BaseLabeledWeightedEdge<Double>( "5 -> 3", 7D ), three );
+        graph.addEdge( five, new BaseLabeledWeightedEdge<Double>( "5 -> 1", 2D ), one );
+
+        InMemoryWeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> expected =
+            new InMemoryWeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double>( one, three, new DoubleWeightBaseOperations(), new BaseWeightedEdge<Double>() );
+        expected.addConnectionInTail( one, new BaseLabeledWeightedEdge<Double>( "1 -> 4", 7D ), four );
+        expected.addConnectionInTail( four, new BaseLabeledWeightedEdge<Double>( "4 -> 3", -3D ), three );
+
+        AllVertexPairsShortestPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> johnson =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .applyingJohnson( new DoubleWeightBaseOperations() );
+
+        assertEquals( expected, johnson.findShortestPath( one, three ) );
+
+        // every other pair agrees with Floyd-Warshall
+        AllVertexPairsShortestPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> floydWarshall =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .applyingFloydWarshall( new DoubleWeightBaseOperations() );
+
+        for ( BaseLabeledVertex source : graph.getVertices() )
+        {
+            for ( BaseLabeledVertex target : graph.getVertices() )
+            {
+                assertEquals( floydWarshall.getShortestDistance( source, target ), johnson.getShortestDistance( source, target ) );
+                if ( !source.equals( target ) )
+                {
+                    assertEquals( floydWarshall.getShortestDistance( source, target ),
+                                  johnson.findShortestPath( source, target ).getWeight() );
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSparseGraphAgainstFloydWarshall()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+
+        final int nVertices = 120;
+        BaseLabeledVertex[] vertices = new BaseLabeledVertex[nVertices];
+        for ( int i = 0; i < nVertices; i++ )
+        {
+            vertices[i] = new BaseLabeledVertex( String.valueOf( i ) );
+            graph.addVertex( vertices[i] );
+        }
+
+        // edges only go "forward", so negative weights can not close a cycle
+        Random random = new Random( 7 );
+        for ( int i = 0; i < 4 * nVertices; i++ )
+        {
+            int head = random.nextInt( nVertices - 1 );
+            int tail = head + 1 + random.nextInt( nVertices - head - 1 );
+            if ( graph.getEdge( vertices[head], vertices[tail] ) == null )
+            {
+                int weight = random.nextInt( 40 ) - 10;
+                graph.addEdge( vertices[head], new BaseLabeledWeightedEdge<Integer>( head + " -> " + tail, weight ), vertices[tail] );
+            }
+        }
+
+        AllVertexPairsShortestPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> johnson =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                .applyingJohnson( new IntegerWeightBaseOperations() );
+
+        AllVertexPairsShortestPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> floydWarshall =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                .applyingFloydWarshall( new IntegerWeightBaseOperations() );
+
+        for ( BaseLabeledVertex source : vertices )
+        {
+            for ( BaseLabeledVertex target : vertices )
+            {
+                assertEquals( floydWarshall.hasShortestDistance( source, target ), johnson.hasShortestDistance( source, target ) );
+                assertEquals( floydWarshall.getShortestDistance( source, target ), johnson.getShortestDistance( source, target ) );
+                if ( !source.equals( target ) && johnson.hasShortestDistance( source, target ) )
+                {
+                    WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> path =
+                        johnson.findShortestPath( source, target );
+                    assertEquals( johnson.getShortestDistance( source, target ), path.getWeight() );
+                }
+            }
+        }
+    }
+
+    @Test( expected = NegativeWeightedCycleException.class )
+    public void testNegativeWeightedCycle()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        BaseLabeledVertex a = new BaseLabeledVertex( "a" );
+        BaseLabeledVertex b = new BaseLabeledVertex( "b" );
+        BaseLabeledVertex c = new BaseLabeledVertex( "c" );
+        graph.addVertex( a );
+        graph.addVertex( b );
+        graph.addVertex( c );
+
+        graph.addEdge( a, new BaseLabeledWeightedEdge<Double>( "a -> b", 1D ), b );
+        graph.addEdge( b, new BaseLabeledWeightedEdge<Double>( "b -> c", -3D ), c );
+        graph.addEdge( c, new BaseLabeledWeightedEdge<Double>( "c -> a", 1D ), a );
+
+        findShortestPath( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+            .applyingJohnson( new DoubleWeightBaseOperations() );
+    }
+
+    @Test( expected = PathNotFoundException.class )
+    public void testNotConnectGraph()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        BaseLabeledVertex a = new BaseLabeledVertex( "a" );
+        BaseLabeledVertex b = new BaseLabeledVertex( "b" );
+        graph.addVertex( a );
+        graph.addVertex( b );
+
+        AllVertexPairsShortestPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> p =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .applyingJohnson( new DoubleWeightBaseOperations() );
+
+        assertFalse( p.hasShortestDistance( a, b ) );
+        p.findShortestPath( a, b );
+    }
+
+    @Test( expected = NullPointerException.class )
+    public void testNullMonoid()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        findShortestPath( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+            .applyingJohnson( null );
+    }
+
+}
@@ -0,0 +1,139 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.apache.commons.graph.CommonsGraph.findShortestPath;
+import static org.apache.commons.graph.shortestpath.RoadGraphs.assertShortestPath;
+import static org.apache.commons.graph.shortestpath.RoadGraphs.dijkstra;
+import static org.apache.commons.graph.shortestpath.RoadGraphs.populate;
+
+import java.util.Random;
+
+import org.apache.commons.graph.MutableGraph;
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.BaseWeightedEdge;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.apache.commons.graph.model.UndirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.IntegerWeightBaseOperations;
+import org.junit.Test;
+
+public final class LandmarkHeuristicTestCase
+{
+
+    private static final int VERTICES = 200;
+
+    private static void verifyAgainstDijkstra( MutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph,
+                                               BaseLabeledVertex[] vertices, LandmarkSelection selection )
+    {
+        LandmarkHeuristic<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> heuristic =
+            new LandmarkHeuristic<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer>( graph,
+                                                                                                 new BaseWeightedEdge<Integer>(),
+                                                                                                 new IntegerWeightBaseOperations(),
+                                                                                                 8,
+                                                                                                 selection );
+
+        int landmarks = 0;
+        for ( @SuppressWarnings( "unused" ) BaseLabeledVertex landmark : heuristic.getLandmarks() )
+        {
+            landmarks++;
+        }
+        assertEquals( 8, landmarks );
+
+        Random random = new Random( 5 );
+        for ( int i = 0; i < 100; i++ )
+        {
+            BaseLabeledVertex source = vertices[random.nextInt( VERTICES )];
+            BaseLabeledVertex target = vertices[random.nextInt( VERTICES )];
+
+            WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> expected =
+                dijkstra( graph, source, target );
+
+            // admissible: never overestimates
+            assertTrue( heuristic.applyHeuristic( source, target ) <= expected.getWeight() );
+
+            WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> actual =
+                findShortestPath( graph )
+                    .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                    .from( source )
+                    .to( target )
+                    .applyingAStar( new IntegerWeightBaseOperations() )
+                    .withHeuristic( heuristic );
+
+            assertShortestPath( graph, expected, actual );
+        }
+    }
+
+    @Test
+    public void testFarthestOnDirectedGraph()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+        verifyAgainstDijkstra( graph, populate( graph, VERTICES, 1, 7 ), LandmarkSelection.FARTHEST );
+    }
+
+    @Test
+    public void testAvoidOnDirectedGraph()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+        verifyAgainstDijkstra( graph, populate( graph, VERTICES, 1, 13 ), LandmarkSelection.AVOID );
+    }
+
+    @Test
+    public void testAvoidOnUndirectedGraph()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+        verifyAgainstDijkstra( graph, populate( graph, VERTICES, 1, 19 ), LandmarkSelection.AVOID );
+    }
+
+    @Test
+    public void testUnknownVertices()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+        BaseLabeledVertex a = new BaseLabeledVertex( "a" );
+        graph.addVertex( a );
+
+        LandmarkHeuristic<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> heuristic =
+            new LandmarkHeuristic<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer>( graph,
+                                                                                                 new BaseWeightedEdge<Integer>(),
+                                                                                                 new IntegerWeightBaseOperations(),
+                                                                                                 4,
+                                                                                                 LandmarkSelection.FARTHEST );
+
+        assertEquals( Integer.valueOf( 0 ), heuristic.applyHeuristic( a, new BaseLabeledVertex( "b" ) ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testNoLandmarks()
+    {
+        new LandmarkHeuristic<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer>( new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>(),
+                                                                                             new BaseWeightedEdge<Integer>(),
+                                                                                             new IntegerWeightBaseOperations(),
+                                                                                             0,
+                                                                                             LandmarkSelection.AVOID );
+    }
+
+}
@@ -0,0 +1,131 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.apache.commons.graph.CommonsGraph.findShortestPath;
+
+import java.util.Random;
+
+import org.apache.commons.graph.MutableGraph;
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.BaseWeightedEdge;
+import org.apache.commons.graph.weight.primitive.IntegerWeightBaseOperations;
+
+/**
+ * Random road-like graphs shared by the point-to-point shortest path tests, verified against Dijkstra.
+ */
+final class RoadGraphs
+{
+
+    private RoadGraphs()
+    {
+        // do nothing
+    }
+
+    /**
+     * Adds {@code order} vertices linked in a ring of short edges, plus {@code shortcuts} longer random edges
+     * leaving each vertex.
+     *
+     * @param graph the graph to populate
+     * @param order the number of vertices
+     * @param shortcuts the number of random edges per vertex
+     * @param seed the random seed
+     * @return the added vertices
+     */
+    static BaseLabeledVertex[] populate( MutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph,
+                                         int order, int shortcuts, long seed )
+    {
+        BaseLabeledVertex[] vertices = new BaseLabeledVertex[order];
+        for ( int i = 0; i < order; i++ )
+        {
+            vertices[i] = new BaseLabeledVertex( String.valueOf( i ) );
+            graph.addVertex( vertices[i] );
+        }
+
+        Random random = new Random( seed );
+        for ( int i = 0; i < order; i++ )
+        {
+            connect( graph, vertices[i], vertices[( i + 1 ) % order], 1 + random.nextInt( 20 ) );
+            for ( int j = 0; j < shortcuts; j++ )
+            {
+                connect( graph, vertices[i], vertices[random.nextInt( order )], 10 + random.nextInt( 100 ) );
+            }
+        }
+        return vertices;
+    }
+
+    private static void connect( MutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph,
+                                 BaseLabeledVertex head, BaseLabeledVertex tail, int weight )
+    {
+        if ( head != tail && graph.getEdge( head, tail ) == null )
+        {
+            graph.addEdge( head, new BaseLabeledWeightedEdge<Integer>( head + " -> " + tail, weight ), tail );
+        }
+    }
+
+    /**
+     * Computes the reference shortest path with Dijkstra.
+     *
+     * @param graph the input graph
+     * @param source the path source
+     * @param target the path target
+     * @return the shortest path from source to target
+     */
+    static WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> dijkstra( MutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph,
+                                                                                                BaseLabeledVertex source,
+                                                                                                BaseLabeledVertex target )
+    {
+        return findShortestPath( graph )
+                   .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                   .from( source )
+                   .to( target )
+                   .applyingDijkstra( new IntegerWeightBaseOperations() );
+    }
+
+    /**
+     * Asserts that {@code actual} has the weight and the endpoints of {@code expected}, and that its edges belong to
+     * the graph and add up to that weight.
+     *
+     * @param graph the input graph
+     * @param expected the reference shortest path
+     * @param actual the verified shortest path
+     */
+    static void assertShortestPath( MutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph,
+                                    WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> expected,
+                                    WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> actual )
+    {
+        assertEquals( expected.getWeight(), actual.getWeight() );
+        assertEquals( expected.getSource(), actual.getSource() );
+        assertEquals( expected.getTarget(), actual.getTarget() );
+
+        int weight = 0;
+        for ( BaseLabeledWeightedEdge<Integer> edge : actual.getEdges() )
+        {
+            assertTrue( graph.containsEdge( edge ) );
+            weight += edge.getWeight();
+        }
+        assertEquals( expected.getWeight().intValue(), weight );
+    }
+
+}
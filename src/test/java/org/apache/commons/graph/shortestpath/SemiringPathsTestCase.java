@@ -0,0 +1,264 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.apache.commons.graph.CommonsGraph.findShortestPath;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.GraphException;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.BaseWeightedEdge;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.apache.commons.graph.weight.Semiring;
+import org.apache.commons.graph.weight.primitive.BooleanSemiring;
+import org.apache.commons.graph.weight.primitive.DoubleMaxMinSemiring;
+import org.apache.commons.graph.weight.primitive.DoubleMaxTimesSemiring;
+import org.junit.Test;
+
+public final class SemiringPathsTestCase
+{
+
+    private static final int VERTICES = 8;
+
+    private DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph;
+
+    private final BaseLabeledVertex[] vertices = new BaseLabeledVertex[VERTICES];
+
+    private void buildGraph( long seed )
+    {
+        Random random = new Random( seed );
+        graph = new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+        for ( int i = 0; i < VERTICES; i++ )
+        {
+            vertices[i] = new BaseLabeledVertex( String.valueOf( i ) );
+            graph.addVertex( vertices[i] );
+        }
+        for ( int i = 0; i < 3 * VERTICES; i++ )
+        {
+            BaseLabeledVertex head = vertices[random.nextInt( VERTICES )];
+            BaseLabeledVertex tail = vertices[random.nextInt( VERTICES )];
+            if ( head != tail && graph.getEdge( head, tail ) == null )
+            {
+                // weights in (0, 1], good both as capacities and as probabilities
+                graph.addEdge( head, new BaseLabeledWeightedEdge<Double>( head + " -> " + tail, ( 1 + random.nextInt( 20 ) ) / 20D ), tail );
+            }
+        }
+    }
+
+    /**
+     * Computes the best path weight by exhaustive search of the loopless paths.
+     */
+    private static <W> W enumerate( Graph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph,
+                                    Mapper<BaseLabeledWeightedEdge<Double>, W> weightedEdges, Semiring<W> semiring,
+                                    BaseLabeledVertex vertex, BaseLabeledVertex target, Set<BaseLabeledVertex> visited,
+                                    W weight )
+    {
+        if ( vertex.equals( target ) )
+        {
+            return weight;
+        }
+        W best = semiring.zero();
+        visited.add( vertex );
+        for ( BaseLabeledVertex next : graph.getConnectedVertices( vertex ) )
+        {
+            if ( !visited.contains( next ) )
+            {
+                W extended = semiring.times( weight, weightedEdges.map( graph.getEdge( vertex, next ) ) );
+                best = semiring.plus( best, enumerate( graph, weightedEdges, semiring, next, target, visited, extended ) );
+            }
+        }
+        visited.remove( vertex );
+        return best;
+    }
+
+    private void verifyAgainstEnumeration( Semiring<Double> semiring )
+    {
+        for ( long seed = 0; seed < 10; seed++ )
+        {
+            buildGraph( seed );
+
+            AllVertexPairsShortestPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> floydWarshall =
+                findShortestPath( graph )
+                    .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                    .applyingFloydWarshallOver( semiring );
+
+            for ( BaseLabeledVertex source : vertices )
+            {
+                AllVertexPairsShortestPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> bellmannFord =
+                    findShortestPath( graph )
+                        .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                        .from( source )
+                        .applyingBelmannFordOver( semiring );
+
+                for ( BaseLabeledVertex target : vertices )
+                {
+                    if ( source.equals( target ) )
+                    {
+                        continue;
+                    }
+
+                    Double expected = enumerate( graph, new BaseWeightedEdge<Double>(), semiring, source, target,
+                                                 new HashSet<BaseLabeledVertex>(), semiring.one() );
+                    if ( expected.equals( semiring.zero() ) )
+                    {
+                        assertFalse( floydWarshall.hasShortestDistance( source, target ) );
+                        try
+                        {
+                            bellmannFord.findShortestPath( source, target );
+                            fail( "Bellman-Ford found a path from " + source + " to unreachable " + target );
+                        }
+                        catch ( PathNotFoundException e )
+                        {
+                            // expected
+                        }
+                        continue;
+                    }
+
+                    WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> path =
+                        floydWarshall.findShortestPath( source, target );
+                    // products may be rounded differently, depending on the order they are computed in
+                    assertEquals( expected, floydWarshall.getShortestDistance( source, target ), 1E-9 );
+                    assertEquals( expected, path.getWeight(), 1E-9 );
+                    assertEquals( expected, bellmannFord.findShortestPath( source, target ).getWeight(), 1E-9 );
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testWidestPaths()
+    {
+        verifyAgainstEnumeration( new DoubleMaxMinSemiring() );
+    }
+
+    @Test
+    public void testWidestPathThroughImprovedAncestor()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> input =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        BaseLabeledVertex s = new BaseLabeledVertex( "s" );
+        BaseLabeledVertex a = new BaseLabeledVertex( "a" );
+        BaseLabeledVertex b = new BaseLabeledVertex( "b" );
+        BaseLabeledVertex c = new BaseLabeledVertex( "c" );
+        BaseLabeledVertex d = new BaseLabeledVertex( "d" );
+        input.addVertex( s );
+        input.addVertex( a );
+        input.addVertex( b );
+        input.addVertex( c );
+        input.addVertex( d );
+
+        // widening a does not widen c, which must be scanned anyway to reach d
+        input.addEdge( s, new BaseLabeledWeightedEdge<Double>( "s -> a", 5D ), a );
+        input.addEdge( a, new BaseLabeledWeightedEdge<Double>( "a -> c", 3D ), c );
+        input.addEdge( c, new BaseLabeledWeightedEdge<Double>( "c -> d", 10D ), d );
+        input.addEdge( s, new BaseLabeledWeightedEdge<Double>( "s -> b", 10D ), b );
+        input.addEdge( b, new BaseLabeledWeightedEdge<Double>( "b -> a", 10D ), a );
+
+        AllVertexPairsShortestPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> bellmannFord =
+            findShortestPath( input )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .from( s )
+                .applyingBelmannFordOver( new DoubleMaxMinSemiring() );
+
+        assertEquals( 3D, bellmannFord.findShortestPath( s, d ).getWeight(), 0D );
+        assertEquals( 10D, bellmannFord.findShortestPath( s, a ).getWeight(), 0D );
+    }
+
+    @Test( expected = NegativeWeightedCycleException.class )
+    public void testNotConvergingCycle()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> input =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        BaseLabeledVertex s = new BaseLabeledVertex( "s" );
+        BaseLabeledVertex a = new BaseLabeledVertex( "a" );
+        input.addVertex( s );
+        input.addVertex( a );
+
+        // products keep growing around the cycle
+        input.addEdge( s, new BaseLabeledWeightedEdge<Double>( "s -> a", 2D ), a );
+        input.addEdge( a, new BaseLabeledWeightedEdge<Double>( "a -> s", 2D ), s );
+
+        findShortestPath( input )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+            .from( s )
+            .applyingBelmannFordOver( new DoubleMaxTimesSemiring() );
+    }
+
+    @Test
+    public void testMostReliablePaths()
+    {
+        verifyAgainstEnumeration( new DoubleMaxTimesSemiring() );
+    }
+
+    @Test
+    public void testTransitiveClosure()
+    {
+        buildGraph( 39 );
+
+        Mapper<BaseLabeledWeightedEdge<Double>, Boolean> crossable = new Mapper<BaseLabeledWeightedEdge<Double>, Boolean>()
+        {
+
+            public Boolean map( BaseLabeledWeightedEdge<Double> input )
+            {
+                return input.getWeight() > 0.5;
+            }
+
+        };
+
+        AllVertexPairsShortestPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Boolean> closure =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( crossable )
+                .applyingFloydWarshallOver( new BooleanSemiring() );
+
+        for ( BaseLabeledVertex source : vertices )
+        {
+            for ( BaseLabeledVertex target : vertices )
+            {
+                boolean reachable = enumerate( graph, crossable, new BooleanSemiring(), source, target,
+                                               new HashSet<BaseLabeledVertex>(), true );
+                assertEquals( reachable, closure.hasShortestDistance( source, target ) );
+                if ( reachable && !source.equals( target ) )
+                {
+                    assertTrue( closure.findShortestPath( source, target ).getWeight() );
+                }
+            }
+        }
+    }
+
+    @Test( expected = GraphException.class )
+    public void testSemiringWeightsAreNotInvertible()
+    {
+        new SemiringPathWeights<Double>( new DoubleMaxMinSemiring() ).inverse( 1D );
+    }
+
+}
@@ -0,0 +1,218 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.apache.commons.graph.CommonsGraph.findShortestPath;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.BaseWeightedEdge;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.IntegerWeightBaseOperations;
+import org.junit.Test;
+
+public final class ShortestPathTreeTestCase
+{
+
+    private static final int VERTICES = 150;
+
+    private final DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+        new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+
+    private final BaseLabeledVertex[] vertices = new BaseLabeledVertex[VERTICES];
+
+    private final AllVertexPairsShortestPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> allPairs;
+
+    public ShortestPathTreeTestCase()
+    {
+        for ( int i = 0; i < VERTICES; i++ )
+        {
+            vertices[i] = new BaseLabeledVertex( String.valueOf( i ) );
+            graph.addVertex( vertices[i] );
+        }
+
+        Random random = new Random( 37 );
+        for ( int i = 0; i < 4 * VERTICES; i++ )
+        {
+            BaseLabeledVertex head = vertices[random.nextInt( VERTICES )];
+            BaseLabeledVertex tail = vertices[random.nextInt( VERTICES )];
+            if ( head != tail && graph.getEdge( head, tail ) == null )
+            {
+                graph.addEdge( head, new BaseLabeledWeightedEdge<Integer>( head + " -> " + tail, 1 + random.nextInt( 30 ) ), tail );
+            }
+        }
+
+        allPairs = findShortestPath( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+            .applyingFloydWarshall( new IntegerWeightBaseOperations() );
+    }
+
+    private Integer distance( BaseLabeledVertex source, BaseLabeledVertex target )
+    {
+        if ( source.equals( target ) )
+        {
+            return 0;
+        }
+        return allPairs.hasShortestDistance( source, target ) ? allPairs.getShortestDistance( source, target ) : null;
+    }
+
+    private void verifySettled( ShortestPathTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> tree )
+    {
+        int previous = 0;
+        for ( BaseLabeledVertex vertex : tree.getSettledVertices() )
+        {
+            int expected = distance( tree.getSource(), vertex );
+            assertEquals( Integer.valueOf( expected ), tree.getDistance( vertex ) );
+            assertEquals( Integer.valueOf( expected ), tree.getShortestPath( vertex ).getWeight() );
+            assertTrue( previous <= expected );
+            previous = expected;
+        }
+    }
+
+    @Test
+    public void testWithinDistance()
+    {
+        ShortestPathTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> tree =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                .from( vertices[0] )
+                .within( 40 )
+                .applyingDijkstra( new IntegerWeightBaseOperations() );
+
+        verifySettled( tree );
+        for ( BaseLabeledVertex vertex : vertices )
+        {
+            Integer distance = distance( vertices[0], vertex );
+            assertEquals( distance != null && distance <= 40, tree.contains( vertex ) );
+        }
+    }
+
+    @Test( expected = PathNotFoundException.class )
+    public void testBoundBelowIdentitySettlesNothing()
+    {
+        ShortestPathTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> tree =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                .from( vertices[0] )
+                .within( -1 )
+                .applyingDijkstra( new IntegerWeightBaseOperations() );
+
+        assertEquals( 0, tree.getSize() );
+        assertEquals( vertices[0], tree.getSource() );
+        assertTrue( tree.toString().contains( vertices[0].toString() ) );
+        tree.getShortestPath( vertices[0] );
+    }
+
+    @Test
+    public void testSettlingAtMost()
+    {
+        ShortestPathTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> tree =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                .from( vertices[1] )
+                .settlingAtMost( 10 )
+                .applyingDijkstra( new IntegerWeightBaseOperations() );
+
+        assertEquals( 10, tree.getSize() );
+        assertEquals( vertices[1], tree.getSource() );
+        verifySettled( tree );
+
+        // no vertex left out is closer than the farthest settled one
+        int farthest = tree.getDistance( tree.getSettledVertices().get( 9 ) );
+        for ( BaseLabeledVertex vertex : vertices )
+        {
+            Integer distance = distance( vertices[1], vertex );
+            if ( !tree.contains( vertex ) && distance != null )
+            {
+                assertTrue( distance >= farthest );
+            }
+        }
+    }
+
+    @Test
+    public void testToAllTargets()
+    {
+        List<BaseLabeledVertex> targets = Arrays.asList( vertices[3], vertices[5], vertices[8] );
+
+        ShortestPathTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> tree =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                .from( vertices[2] )
+                .toAll( targets )
+                .applyingDijkstra( new IntegerWeightBaseOperations() );
+
+        verifySettled( tree );
+
+        // the last settled vertex is the farthest target
+        int farthest = 0;
+        for ( BaseLabeledVertex target : targets )
+        {
+            assertTrue( tree.contains( target ) );
+            farthest = Math.max( farthest, distance( vertices[2], target ) );
+        }
+        assertEquals( Integer.valueOf( farthest ), tree.getDistance( tree.getSettledVertices().get( tree.getSize() - 1 ) ) );
+    }
+
+    @Test
+    public void testCombinedBounds()
+    {
+        ShortestPathTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> tree =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                .from( vertices[4] )
+                .within( 1000 )
+                .settlingAtMost( 5 )
+                .applyingDijkstra( new IntegerWeightBaseOperations() );
+
+        assertEquals( 5, tree.getSize() );
+        verifySettled( tree );
+    }
+
+    @Test( expected = PathNotFoundException.class )
+    public void testPathToNotSettledVertex()
+    {
+        ShortestPathTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> tree =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                .from( vertices[0] )
+                .settlingAtMost( 1 )
+                .applyingDijkstra( new IntegerWeightBaseOperations() );
+
+        assertFalse( tree.contains( vertices[1] ) );
+        tree.getShortestPath( vertices[1] );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testSettlingNothing()
+    {
+        findShortestPath( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+            .from( vertices[0] )
+            .settlingAtMost( 0 );
+    }
+
+}
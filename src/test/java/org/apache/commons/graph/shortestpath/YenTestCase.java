@@ -0,0 +1,219 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.apache.commons.graph.CommonsGraph.findShortestPath;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.BaseWeightedEdge;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.apache.commons.graph.model.UndirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.DoubleWeightBaseOperations;
+import org.junit.Test;
+
+public final class YenTestCase
+{
+
+    /**
+     * Test Graph and Yen's solution can be seen on
+     * <a href="http://en.wikipedia.org/wiki/Yen's_algorithm">Wikipedia</a>
+     */
+    @Test
+    public void testFindShortestPathsAndVerify()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        BaseLabeledVertex c = new BaseLabeledVertex( "C" );
+        BaseLabeledVertex d = new BaseLabeledVertex( "D" );
+        BaseLabeledVertex e = new BaseLabeledVertex( "E" );
+        BaseLabeledVertex f = new BaseLabeledVertex( "F" );
+        BaseLabeledVertex g = new BaseLabeledVertex( "G" );
+        BaseLabeledVertex h = new BaseLabeledVertex( "H" );
+
+        graph.addVertex( c );
+        graph.addVertex( d );
+        graph.addVertex( e );
+        graph.addVertex( f );
+        graph.addVertex( g );
+        graph.addVertex( h );
+
+        graph.addEdge( c, new BaseLabeledWeightedEdge<Double>( "C -> D", 3D ), d );
+        graph.addEdge( c, new BaseLabeledWeightedEdge<Double>( "C -> E", 2D ), e );
+        graph.addEdge( d, new BaseLabeledWeightedEdge<Double>( "D -> F", 4D ), f );
+        graph.addEdge( e, new BaseLabeledWeightedEdge<Double>( "E -> D", 1D ), d );
+        graph.addEdge( e, new BaseLabeledWeightedEdge<Double>( "E -> F", 2D ), f );
+        graph.addEdge( e, new BaseLabeledWeightedEdge<Double>( "E -> G", 3D ), g );
+        graph.addEdge( f, new BaseLabeledWeightedEdge<Double>( "F -> G", 2D ), g );
+        graph.addEdge( f, new BaseLabeledWeightedEdge<Double>( "F -> H", 1D ), h );
+        graph.addEdge( g, new BaseLabeledWeightedEdge<Double>( "G -> H", 2D ), h );
+
+        List<WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double>> paths =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .from( c )
+                .to( h )
+                .applyingYen( 3, new DoubleWeightBaseOperations() );
+
+        assertEquals( 3, paths.size() );
+        assertEquals( Double.valueOf( 5D ), paths.get( 0 ).getWeight() );
+        assertEquals( Double.valueOf( 7D ), paths.get( 1 ).getWeight() );
+        assertEquals( Double.valueOf( 8D ), paths.get( 2 ).getWeight() );
+
+        // C -> E -> F -> H, then C -> E -> G -> H and C -> D -> F -> H
+        assertTrue( paths.get( 0 ).containsVertex( f ) );
+        assertTrue( paths.get( 1 ).containsVertex( g ) );
+        assertTrue( paths.get( 2 ).containsVertex( d ) );
+    }
+
+    @Test
+    public void testFewerPathsThanRequested()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        BaseLabeledVertex a = new BaseLabeledVertex( "a" );
+        BaseLabeledVertex b = new BaseLabeledVertex( "b" );
+        BaseLabeledVertex c = new BaseLabeledVertex( "c" );
+        graph.addVertex( a );
+        graph.addVertex( b );
+        graph.addVertex( c );
+        graph.addEdge( a, new BaseLabeledWeightedEdge<Double>( "a <-> b", 1D ), b );
+        graph.addEdge( b, new BaseLabeledWeightedEdge<Double>( "b <-> c", 1D ), c );
+        graph.addEdge( a, new BaseLabeledWeightedEdge<Double>( "a <-> c", 5D ), c );
+
+        List<WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double>> paths =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .from( a )
+                .to( c )
+                .applyingYen( 10, new DoubleWeightBaseOperations() );
+
+        assertEquals( 2, paths.size() );
+        assertEquals( Double.valueOf( 2D ), paths.get( 0 ).getWeight() );
+        assertEquals( Double.valueOf( 5D ), paths.get( 1 ).getWeight() );
+    }
+
+    @Test( expected = PathNotFoundException.class )
+    public void testNotConnectGraph()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        BaseLabeledVertex a = new BaseLabeledVertex( "a" );
+        BaseLabeledVertex b = new BaseLabeledVertex( "b" );
+        graph.addVertex( a );
+        graph.addVertex( b );
+
+        findShortestPath( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+            .from( a )
+            .to( b )
+            .applyingYen( 3, new DoubleWeightBaseOperations() );
+    }
+
+    @Test
+    public void testRandomGraphAgainstEnumeration()
+    {
+        Random random = new Random( 38 );
+        for ( int round = 0; round < 20; round++ )
+        {
+            DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph =
+                new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+            BaseLabeledVertex[] vertices = new BaseLabeledVertex[9];
+            for ( int i = 0; i < vertices.length; i++ )
+            {
+                vertices[i] = new BaseLabeledVertex( String.valueOf( i ) );
+                graph.addVertex( vertices[i] );
+            }
+            for ( int i = 0; i < 30; i++ )
+            {
+                BaseLabeledVertex head = vertices[random.nextInt( vertices.length )];
+                BaseLabeledVertex tail = vertices[random.nextInt( vertices.length )];
+                if ( head != tail && graph.getEdge( head, tail ) == null )
+                {
+                    graph.addEdge( head, new BaseLabeledWeightedEdge<Double>( head + " -> " + tail, (double) random.nextInt( 10 ) ), tail );
+                }
+            }
+
+            List<Double> expected = new ArrayList<Double>();
+            enumerate( graph, vertices[0], vertices[vertices.length - 1], new HashSet<BaseLabeledVertex>(), 0D, expected );
+            Collections.sort( expected );
+            if ( expected.isEmpty() )
+            {
+                continue;
+            }
+
+            List<WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double>> paths =
+                findShortestPath( graph )
+                    .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                    .from( vertices[0] )
+                    .to( vertices[vertices.length - 1] )
+                    .applyingYen( 15, new DoubleWeightBaseOperations() );
+
+            assertEquals( Math.min( 15, expected.size() ), paths.size() );
+            Set<WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double>> distinct =
+                new HashSet<WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double>>( paths );
+            assertEquals( paths.size(), distinct.size() );
+            for ( int i = 0; i < paths.size(); i++ )
+            {
+                assertEquals( expected.get( i ), paths.get( i ).getWeight() );
+                assertEquals( paths.get( i ).getOrder(), paths.get( i ).getSize() + 1 );
+            }
+        }
+    }
+
+    /**
+     * Collects the weights of all the loopless paths, by exhaustive search.
+     */
+    private static void enumerate( Graph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph,
+                                   BaseLabeledVertex vertex, BaseLabeledVertex target, Set<BaseLabeledVertex> visited,
+                                   double weight, List<Double> weights )
+    {
+        if ( vertex.equals( target ) )
+        {
+            weights.add( weight );
+            return;
+        }
+        visited.add( vertex );
+        for ( BaseLabeledVertex next : graph.getConnectedVertices( vertex ) )
+        {
+            if ( !visited.contains( next ) )
+            {
+                enumerate( graph, next, target, visited, weight + graph.getEdge( vertex, next ).getWeight(), weights );
+            }
+        }
+        visited.remove( vertex );
+    }
+
+}
@@ -22,6 +22,10 @@ package org.apache.commons.graph.spanning;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 import static org.apache.commons.graph.CommonsGraph.minimumSpanningTree;
+import static org.apache.commons.graph.spanning.RandomGraphs.addRandomEdge;
+import static org.apache.commons.graph.spanning.RandomGraphs.addVertices;
+
+import java.util.Random;
 
 import org.apache.commons.graph.Graph;
 import org.apache.commons.graph.SpanningTree;
@@ -172,9 +176,9 @@ public final class BoruvkaTestCase
     }
 
     /**
-     * Test Boruvka's solution on a not-connected graph.
+     * Test Boruvka's solution on a not-connected graph: the result is a spanning forest.
      */
-    @Test( expected = IllegalStateException.class )
+    @Test
     public void verifySparseGraphMinimumSpanningTree()
     {
         UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> input =
@@ -188,10 +192,47 @@ public final class BoruvkaTestCase
         input.addVertex( new BaseLabeledVertex( "F" ) );
         input.addVertex( new BaseLabeledVertex( "G" ) );
 
-        minimumSpanningTree( input )
-            .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
-            .fromArbitrarySource()
-            .applyingBoruvkaAlgorithm( new DoubleWeightBaseOperations() );
+        SpanningTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> actual =
+            minimumSpanningTree( input )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .fromArbitrarySource()
+                .applyingBoruvkaAlgorithm( new DoubleWeightBaseOperations() );
+
+        assertEquals( 7, actual.getOrder() );
+        assertEquals( 0, actual.getSize() );
+    }
+
+    @Test
+    public void testRandomForestAgainstKruskal()
+    {
+        Random random = new Random( 43 );
+        for ( int round = 0; round < 5; round++ )
+        {
+            UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> input =
+                new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+            // large enough to be scanned in parallel slices, with few distinct weights and isolated vertices
+            BaseLabeledVertex[] vertices = addVertices( input, 3000 );
+            for ( int i = 0; i < 20000; i++ )
+            {
+                addRandomEdge( input, random, vertices, 0, vertices.length - 100, 10 );
+            }
+
+            SpanningTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> expected =
+                minimumSpanningTree( input )
+                    .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                    .fromArbitrarySource()
+                    .applyingKruskalAlgorithm( new DoubleWeightBaseOperations() );
+
+            SpanningTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> actual =
+                minimumSpanningTree( input )
+                    .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                    .fromArbitrarySource()
+                    .applyingBoruvkaAlgorithm( new DoubleWeightBaseOperations() );
+
+            assertEquals( expected.getSize(), actual.getSize() );
+            assertEquals( expected.getWeight(), actual.getWeight(), 0D );
+        }
     }
 
 }
@@ -0,0 +1,216 @@
+package org.apache.commons.graph.spanning;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.CommonsGraph.minimumSpanningTree;
+import static org.junit.Assert.assertEquals;
+import static org.apache.commons.graph.spanning.RandomGraphs.addVertices;
+import static org.apache.commons.graph.spanning.RandomGraphs.randomPair;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.commons.graph.ExpensiveMapper;
+import org.apache.commons.graph.GraphException;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.SpanningTree;
+import org.apache.commons.graph.VertexPair;
+import org.apache.commons.graph.model.BaseLabeledEdge;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.UndirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.IntegerWeightBaseOperations;
+import org.junit.Test;
+
+public final class IncrementalSpanningTreeTestCase
+{
+
+    private static final int VERTICES = 60;
+
+    /**
+     * Edges weights the test changes over time.
+     */
+    private final Map<BaseLabeledEdge, Integer> weights = new HashMap<BaseLabeledEdge, Integer>();
+
+    private final Mapper<BaseLabeledEdge, Integer> weightedEdges = new Mapper<BaseLabeledEdge, Integer>()
+    {
+
+        private static final long serialVersionUID = -2205370367524564532L;
+
+        public Integer map( BaseLabeledEdge input )
+        {
+            return weights.get( input );
+        }
+
+    };
+
+    private final UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> graph =
+        new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>();
+
+    @Test( expected = NullPointerException.class )
+    public void testNullWeightOperations()
+    {
+        minimumSpanningTree( graph ).whereEdgesHaveWeights( weightedEdges ).applyingIncrementalMaintenance( null );
+    }
+
+    @Test( expected = GraphException.class )
+    public void testEdgeNotInGraph()
+    {
+        IncrementalSpanningTree<BaseLabeledVertex, BaseLabeledEdge, Integer> maintained =
+            minimumSpanningTree( graph ).whereEdgesHaveWeights( weightedEdges )
+                .applyingIncrementalMaintenance( new IntegerWeightBaseOperations() );
+
+        maintained.insertEdge( new BaseLabeledEdge( "a <-> b" ) );
+    }
+
+    @Test
+    public void testLighterEdgeReplacesHeaviestOnCycle()
+    {
+        BaseLabeledVertex a = addVertex( "a" );
+        BaseLabeledVertex b = addVertex( "b" );
+        BaseLabeledVertex c = addVertex( "c" );
+        addEdge( a, b, 1 );
+        addEdge( b, c, 5 );
+
+        IncrementalSpanningTree<BaseLabeledVertex, BaseLabeledEdge, Integer> maintained =
+            minimumSpanningTree( graph ).whereEdgesHaveWeights( weightedEdges )
+                .applyingIncrementalMaintenance( new IntegerWeightBaseOperations() );
+        assertEquals( Integer.valueOf( 6 ), maintained.getSpanningTree().getWeight() );
+
+        maintained.insertEdge( addEdge( a, c, 2 ) );
+
+        SpanningTree<BaseLabeledVertex, BaseLabeledEdge, Integer> tree = maintained.getSpanningTree();
+        assertEquals( Integer.valueOf( 3 ), tree.getWeight() );
+        assertEquals( 2, tree.getSize() );
+        assertEquals( 3, tree.getOrder() );
+    }
+
+    @Test
+    public void testExpensiveWeightsAreReadOnUpdate()
+    {
+        BaseLabeledVertex a = addVertex( "a" );
+        BaseLabeledVertex b = addVertex( "b" );
+        BaseLabeledVertex c = addVertex( "c" );
+        addEdge( a, b, 1 );
+        addEdge( b, c, 2 );
+        BaseLabeledEdge ac = addEdge( a, c, 5 );
+
+        IncrementalSpanningTree<BaseLabeledVertex, BaseLabeledEdge, Integer> maintained =
+            minimumSpanningTree( graph ).whereEdgesHaveWeights( new ExpensiveMapper<BaseLabeledEdge, Integer>()
+            {
+
+                private static final long serialVersionUID = 5093384950402826387L;
+
+                public Integer map( BaseLabeledEdge input )
+                {
+                    return weights.get( input );
+                }
+
+            } ).applyingIncrementalMaintenance( new IntegerWeightBaseOperations() );
+
+        weights.put( ac, 1 );
+        maintained.updateWeight( ac );
+
+        assertEquals( Integer.valueOf( 2 ), maintained.getSpanningTree().getWeight() );
+    }
+
+    @Test
+    public void testRandomUpdatesAgainstKruskal()
+    {
+        Random random = new Random( 45 );
+        BaseLabeledVertex[] vertices = addVertices( graph, VERTICES );
+
+        List<BaseLabeledEdge> edges = new ArrayList<BaseLabeledEdge>();
+        for ( int i = 0; i < VERTICES / 2; i++ )
+        {
+            BaseLabeledEdge edge = addRandomEdge( random, vertices );
+            if ( edge != null )
+            {
+                edges.add( edge );
+            }
+        }
+
+        IncrementalSpanningTree<BaseLabeledVertex, BaseLabeledEdge, Integer> maintained =
+            minimumSpanningTree( graph ).whereEdgesHaveWeights( weightedEdges )
+                .applyingIncrementalMaintenance( new IntegerWeightBaseOperations() );
+        verify( maintained );
+
+        for ( int step = 0; step < 2000; step++ )
+        {
+            if ( edges.isEmpty() || random.nextInt( 3 ) == 0 )
+            {
+                BaseLabeledEdge edge = addRandomEdge( random, vertices );
+                if ( edge != null )
+                {
+                    edges.add( edge );
+                    maintained.insertEdge( edge );
+                }
+            }
+            else
+            {
+                BaseLabeledEdge edge = edges.get( random.nextInt( edges.size() ) );
+                weights.put( edge, random.nextInt( 100 ) );
+                maintained.updateWeight( edge );
+            }
+            verify( maintained );
+        }
+    }
+
+    private BaseLabeledVertex addVertex( String label )
+    {
+        BaseLabeledVertex vertex = new BaseLabeledVertex( label );
+        graph.addVertex( vertex );
+        return vertex;
+    }
+
+    private BaseLabeledEdge addEdge( BaseLabeledVertex head, BaseLabeledVertex tail, int weight )
+    {
+        BaseLabeledEdge edge = new BaseLabeledEdge( head + " <-> " + tail );
+        weights.put( edge, weight );
+        graph.addEdge( head, edge, tail );
+        return edge;
+    }
+
+    private BaseLabeledEdge addRandomEdge( Random random, BaseLabeledVertex[] vertices )
+    {
+        VertexPair<BaseLabeledVertex> pair = randomPair( graph, random, vertices, 0, vertices.length );
+        if ( pair == null )
+        {
+            return null;
+        }
+        return addEdge( pair.getHead(), pair.getTail(), random.nextInt( 100 ) );
+    }
+
+    private void verify( IncrementalSpanningTree<BaseLabeledVertex, BaseLabeledEdge, Integer> maintained )
+    {
+        SpanningTree<BaseLabeledVertex, BaseLabeledEdge, Integer> expected =
+            minimumSpanningTree( graph ).whereEdgesHaveWeights( weightedEdges )
+                .fromArbitrarySource()
+                .applyingKruskalAlgorithm( new IntegerWeightBaseOperations() );
+
+        SpanningTree<BaseLabeledVertex, BaseLabeledEdge, Integer> actual = maintained.getSpanningTree();
+        assertEquals( expected.getSize(), actual.getSize() );
+        assertEquals( expected.getWeight(), actual.getWeight() );
+        assertEquals( graph.getOrder(), actual.getOrder() );
+    }
+
+}
@@ -22,9 +22,21 @@ package org.apache.commons.graph.spanning;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 import static org.apache.commons.graph.CommonsGraph.minimumSpanningTree;
+import static org.apache.commons.graph.spanning.RandomGraphs.addRandomEdge;
+import static org.apache.commons.graph.spanning.RandomGraphs.addVertices;
+import static org.apache.commons.graph.spanning.RandomGraphs.populate;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.graph.ExpensiveMapper;
 import org.apache.commons.graph.Graph;
 import org.apache.commons.graph.SpanningTree;
+import org.apache.commons.graph.VertexPair;
+import org.apache.commons.graph.collections.DisjointSet;
 import org.apache.commons.graph.model.BaseLabeledVertex;
 import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
 import org.apache.commons.graph.model.BaseWeightedEdge;
@@ -377,5 +389,126 @@ public final class KruskalTestCase
         assertEquals( expected, actual );
     }
 
+    @Test
+    public void testExpensiveWeightsMappedOncePerEdge()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> input =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        populate( input, new Random( 40 ), 50, 300, 1000 );
+
+        final int[] invocations = new int[1];
+        ExpensiveMapper<BaseLabeledWeightedEdge<Double>, Double> costModel = new ExpensiveMapper<BaseLabeledWeightedEdge<Double>, Double>()
+        {
+
+            private static final long serialVersionUID = 1L;
+
+            public Double map( BaseLabeledWeightedEdge<Double> input )
+            {
+                invocations[0]++;
+                return input.getWeight();
+            }
+
+        };
+
+        SpanningTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> actual =
+            minimumSpanningTree( input )
+                .whereEdgesHaveWeights( costModel )
+                .fromArbitrarySource()
+                .applyingKruskalAlgorithm( new DoubleWeightBaseOperations() );
+
+        SpanningTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> expected =
+            minimumSpanningTree( input )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .fromArbitrarySource()
+                .applyingKruskalAlgorithm( new DoubleWeightBaseOperations() );
+
+        assertEquals( input.getSize(), invocations[0] );
+        assertEquals( expected.getWeight(), actual.getWeight() );
+    }
+
+    @Test
+    public void testRandomForestAgainstSortedScan()
+    {
+        Random random = new Random( 42 );
+        for ( int round = 0; round < 10; round++ )
+        {
+            final UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> input =
+                new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+            // two dense clusters, so that partitions are filtered and the result is a forest
+            BaseLabeledVertex[] vertices = addVertices( input, 200 );
+            for ( int i = 0; i < 4000; i++ )
+            {
+                // few distinct weights, to exercise the pivot ties
+                addRandomEdge( input, random, vertices, random.nextInt( 2 ) * 100, 100, 30 );
+            }
+
+            List<BaseLabeledWeightedEdge<Double>> edges = new ArrayList<BaseLabeledWeightedEdge<Double>>();
+            for ( BaseLabeledWeightedEdge<Double> edge : input.getEdges() )
+            {
+                edges.add( edge );
+            }
+            Collections.sort( edges, new Comparator<BaseLabeledWeightedEdge<Double>>()
+            {
+
+                public int compare( BaseLabeledWeightedEdge<Double> o1, BaseLabeledWeightedEdge<Double> o2 )
+                {
+                    return o1.getWeight().compareTo( o2.getWeight() );
+                }
+
+            } );
+            DisjointSet<BaseLabeledVertex> disjointSet = new DisjointSet<BaseLabeledVertex>();
+            double expectedWeight = 0;
+            int expectedSize = 0;
+            for ( BaseLabeledWeightedEdge<Double> edge : edges )
+            {
+                VertexPair<BaseLabeledVertex> pair = input.getVertices( edge );
+                if ( !disjointSet.find( pair.getHead() ).equals( disjointSet.find( pair.getTail() ) ) )
+                {
+                    disjointSet.union( pair.getHead(), pair.getTail() );
+                    expectedWeight += edge.getWeight();
+                    expectedSize++;
+                }
+            }
+
+            SpanningTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> actual =
+                minimumSpanningTree( input )
+                    .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                    .fromArbitrarySource()
+                    .applyingKruskalAlgorithm( new DoubleWeightBaseOperations() );
+
+            assertEquals( expectedSize, actual.getSize() );
+            assertEquals( expectedWeight, actual.getWeight(), 0D );
+        }
+    }
+
+    @Test
+    public void testDenseGraphWithEqualWeights()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> input =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        // a complete graph, all edges weighing the same, exceeds the sort threshold with a single weight
+        BaseLabeledVertex[] vertices = new BaseLabeledVertex[30];
+        for ( int i = 0; i < vertices.length; i++ )
+        {
+            vertices[i] = new BaseLabeledVertex( String.valueOf( i ) );
+            input.addVertex( vertices[i] );
+            for ( int j = 0; j < i; j++ )
+            {
+                input.addEdge( vertices[j], new BaseLabeledWeightedEdge<Double>( j + " <-> " + i, 1D ), vertices[i] );
+            }
+        }
+
+        SpanningTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> actual =
+            minimumSpanningTree( input )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .fromArbitrarySource()
+                .applyingKruskalAlgorithm( new DoubleWeightBaseOperations() );
+
+        assertEquals( vertices.length - 1, actual.getSize() );
+        assertEquals( vertices.length - 1, actual.getWeight(), 0D );
+    }
 
 }
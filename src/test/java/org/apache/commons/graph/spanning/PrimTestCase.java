@@ -22,6 +22,9 @@ package org.apache.commons.graph.spanning;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 import static org.apache.commons.graph.CommonsGraph.minimumSpanningTree;
+import static org.apache.commons.graph.spanning.RandomGraphs.populate;
+
+import java.util.Random;
 
 import org.apache.commons.graph.Graph;
 import org.apache.commons.graph.SpanningTree;
@@ -245,4 +248,30 @@ public final class PrimTestCase
         internalPrimAssertion( input, d, expected );
     }
 
+    @Test
+    public void testDenseGraphAgainstKruskal()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> input =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        Random random = new Random( 46 );
+        BaseLabeledVertex[] vertices = populate( input, random, 300, 20000, 1000 );
+
+        SpanningTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> expected =
+            minimumSpanningTree( input )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .fromArbitrarySource()
+                .applyingKruskalAlgorithm( new DoubleWeightBaseOperations() );
+
+        SpanningTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> actual =
+            minimumSpanningTree( input )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .fromSource( vertices[random.nextInt( vertices.length )] )
+                .applyingPrimAlgorithm( new DoubleWeightBaseOperations() );
+
+        assertEquals( vertices.length - 1, actual.getSize() );
+        assertEquals( vertices.length, actual.getOrder() );
+        assertEquals( expected.getWeight(), actual.getWeight(), 0D );
+    }
+
 }
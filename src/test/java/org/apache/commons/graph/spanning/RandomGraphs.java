@@ -0,0 +1,126 @@
+package org.apache.commons.graph.spanning;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Random;
+
+import org.apache.commons.graph.MutableGraph;
+import org.apache.commons.graph.VertexPair;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+
+/**
+ * Random undirected graphs shared by the spanning tree tests, weighted by a few distinct integral values so that
+ * ties between edges are exercised.
+ */
+final class RandomGraphs
+{
+
+    private RandomGraphs()
+    {
+        // do nothing
+    }
+
+    /**
+     * Adds {@code order} vertices, labeled with their position in the returned array.
+     *
+     * @param graph the graph to populate
+     * @param order the number of vertices
+     * @return the added vertices
+     */
+    static BaseLabeledVertex[] addVertices( MutableGraph<BaseLabeledVertex, ?> graph, int order )
+    {
+        BaseLabeledVertex[] vertices = new BaseLabeledVertex[order];
+        for ( int i = 0; i < order; i++ )
+        {
+            vertices[i] = new BaseLabeledVertex( String.valueOf( i ) );
+            graph.addVertex( vertices[i] );
+        }
+        return vertices;
+    }
+
+    /**
+     * Picks two random vertices among {@code vertices[offset]} to {@code vertices[offset + range - 1]}.
+     *
+     * @param graph the graph the vertices belong to
+     * @param random the source of randomness
+     * @param vertices the vertices to pick from
+     * @param offset the first vertex which can be picked
+     * @param range the number of vertices which can be picked
+     * @return the picked vertices, null if they are the same vertex or they are already connected
+     */
+    static VertexPair<BaseLabeledVertex> randomPair( MutableGraph<BaseLabeledVertex, ?> graph, Random random,
+                                                     BaseLabeledVertex[] vertices, int offset, int range )
+    {
+        BaseLabeledVertex head = vertices[offset + random.nextInt( range )];
+        BaseLabeledVertex tail = vertices[offset + random.nextInt( range )];
+        if ( head == tail || graph.getEdge( head, tail ) != null )
+        {
+            return null;
+        }
+        return new VertexPair<BaseLabeledVertex>( head, tail );
+    }
+
+    /**
+     * Connects two random vertices, see {@link #randomPair(MutableGraph, Random, BaseLabeledVertex[], int, int)},
+     * with an edge weighted from 0 to {@code weights - 1}.
+     *
+     * @param graph the graph to populate
+     * @param random the source of randomness
+     * @param vertices the vertices to pick from
+     * @param offset the first vertex which can be picked
+     * @param range the number of vertices which can be picked
+     * @param weights the number of distinct weights
+     */
+    static void addRandomEdge( MutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph, Random random,
+                               BaseLabeledVertex[] vertices, int offset, int range, int weights )
+    {
+        VertexPair<BaseLabeledVertex> pair = randomPair( graph, random, vertices, offset, range );
+        if ( pair != null )
+        {
+            graph.addEdge( pair.getHead(),
+                           new BaseLabeledWeightedEdge<Double>( pair.getHead() + " <-> " + pair.getTail(),
+                                                                (double) random.nextInt( weights ) ),
+                           pair.getTail() );
+        }
+    }
+
+    /**
+     * Adds {@code order} vertices and tries {@code attempts} times to connect two random ones.
+     *
+     * @param graph the graph to populate
+     * @param random the source of randomness
+     * @param order the number of vertices
+     * @param attempts the number of edges to try to add
+     * @param weights the number of distinct weights
+     * @return the added vertices
+     */
+    static BaseLabeledVertex[] populate( MutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph,
+                                         Random random, int order, int attempts, int weights )
+    {
+        BaseLabeledVertex[] vertices = addVertices( graph, order );
+        for ( int i = 0; i < attempts; i++ )
+        {
+            addRandomEdge( graph, random, vertices, 0, order, weights );
+        }
+        return vertices;
+    }
+
+}
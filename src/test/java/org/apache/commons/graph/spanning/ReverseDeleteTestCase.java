@@ -21,6 +21,9 @@ package org.apache.commons.graph.spanning;
 
 import static org.junit.Assert.assertEquals;
 import static org.apache.commons.graph.CommonsGraph.minimumSpanningTree;
+import static org.apache.commons.graph.spanning.RandomGraphs.populate;
+
+import java.util.Random;
 
 import org.apache.commons.graph.Graph;
 import org.apache.commons.graph.SpanningTree;
@@ -253,4 +256,27 @@ public class ReverseDeleteTestCase
         assertEquals( expected, actual );
     }
 
+    @Test
+    public void testLargeGraphAgainstKruskal()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> input =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        populate( input, new Random( 44 ), 2000, 20000, 100 );
+
+        SpanningTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> expected =
+            minimumSpanningTree( input )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .fromArbitrarySource()
+                .applyingKruskalAlgorithm( new DoubleWeightBaseOperations() );
+
+        SpanningTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> actual =
+            minimumSpanningTree( input )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .applyingReverseDeleteAlgorithm( new DoubleWeightBaseOperations() );
+
+        assertEquals( expected.getSize(), actual.getSize() );
+        assertEquals( expected.getWeight(), actual.getWeight(), 0D );
+    }
+
 }
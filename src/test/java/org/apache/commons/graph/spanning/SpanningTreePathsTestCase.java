@@ -0,0 +1,186 @@
+package org.apache.commons.graph.spanning;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.CommonsGraph.minimumSpanningTree;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.apache.commons.graph.spanning.RandomGraphs.populate;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+
+import org.apache.commons.graph.SpanningTree;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.BaseWeightedEdge;
+import org.apache.commons.graph.model.MutableSpanningTree;
+import org.apache.commons.graph.model.UndirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.DoubleWeightBaseOperations;
+import org.junit.Test;
+
+public final class SpanningTreePathsTestCase
+{
+
+    @Test( expected = NullPointerException.class )
+    public void testNullSpanningTree()
+    {
+        new SpanningTreePaths<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double>( null,
+                                                                                          new BaseWeightedEdge<Double>(),
+                                                                                          new DoubleWeightBaseOperations() );
+    }
+
+    @Test( expected = IllegalStateException.class )
+    public void testNotExistVertex()
+    {
+        SpanningTreePaths<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> paths = index( newTree() );
+
+        paths.getDistance( new BaseLabeledVertex( "NOT EXIST" ), new BaseLabeledVertex( "NOT EXIST" ) );
+    }
+
+    @Test
+    public void testSmallForest()
+    {
+        MutableSpanningTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> tree = newTree();
+
+        BaseLabeledVertex a = new BaseLabeledVertex( "a" );
+        BaseLabeledVertex b = new BaseLabeledVertex( "b" );
+        BaseLabeledVertex c = new BaseLabeledVertex( "c" );
+        BaseLabeledVertex d = new BaseLabeledVertex( "d" );
+        BaseLabeledVertex e = new BaseLabeledVertex( "e" );
+        tree.addVertex( a );
+        tree.addVertex( b );
+        tree.addVertex( c );
+        tree.addVertex( d );
+        tree.addVertex( e );
+
+        BaseLabeledWeightedEdge<Double> ab = new BaseLabeledWeightedEdge<Double>( "a <-> b", 3D );
+        BaseLabeledWeightedEdge<Double> bc = new BaseLabeledWeightedEdge<Double>( "b <-> c", 1D );
+        BaseLabeledWeightedEdge<Double> bd = new BaseLabeledWeightedEdge<Double>( "b <-> d", 7D );
+        tree.addEdge( a, ab, b );
+        tree.addEdge( b, bc, c );
+        tree.addEdge( b, bd, d );
+
+        SpanningTreePaths<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> paths = index( tree );
+
+        assertEquals( 8D, paths.getDistance( c, d ), 0D );
+        assertEquals( 4D, paths.getDistance( a, c ), 0D );
+        assertEquals( 0D, paths.getDistance( d, d ), 0D );
+        assertThat( paths.getHeaviestEdge( c, d ), is( bd ) );
+        assertThat( paths.getHeaviestEdge( a, c ), is( ab ) );
+        assertThat( paths.getHeaviestEdge( c, c ), is( nullValue() ) );
+        assertThat( paths.getLowestCommonAncestor( c, c ), is( c ) );
+
+        // e is alone in its own tree
+        assertThat( paths.getDistance( a, e ), is( nullValue() ) );
+        assertThat( paths.getHeaviestEdge( a, e ), is( nullValue() ) );
+        assertThat( paths.getLowestCommonAncestor( a, e ), is( nullValue() ) );
+    }
+
+    @Test
+    public void testRandomTreeAgainstPathVisit()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> input =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        Random random = new Random( 47 );
+        BaseLabeledVertex[] vertices = populate( input, random, 500, 3000, 1000 );
+
+        SpanningTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> tree =
+            minimumSpanningTree( input )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .fromArbitrarySource()
+                .applyingKruskalAlgorithm( new DoubleWeightBaseOperations() );
+
+        SpanningTreePaths<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> paths = index( tree );
+
+        for ( int i = 0; i < 200; i++ )
+        {
+            BaseLabeledVertex source = vertices[random.nextInt( vertices.length )];
+            Map<BaseLabeledVertex, BaseLabeledVertex> predecessors = visit( tree, source );
+
+            for ( int j = 0; j < 20; j++ )
+            {
+                BaseLabeledVertex target = vertices[random.nextInt( vertices.length )];
+                if ( !predecessors.containsKey( target ) )
+                {
+                    assertThat( paths.getDistance( source, target ), is( nullValue() ) );
+                    continue;
+                }
+
+                double distance = 0;
+                double heaviest = Double.NEGATIVE_INFINITY;
+                for ( BaseLabeledVertex current = target; current != source; current = predecessors.get( current ) )
+                {
+                    double weight = tree.getEdge( predecessors.get( current ), current ).getWeight();
+                    distance += weight;
+                    heaviest = Math.max( heaviest, weight );
+                }
+
+                assertEquals( distance, paths.getDistance( source, target ), 0D );
+                if ( source != target )
+                {
+                    assertEquals( heaviest, paths.getHeaviestEdge( source, target ).getWeight(), 0D );
+                }
+            }
+        }
+    }
+
+    private static MutableSpanningTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> newTree()
+    {
+        return new MutableSpanningTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double>( new DoubleWeightBaseOperations(),
+                                                                                                    new BaseWeightedEdge<Double>() );
+    }
+
+    private static SpanningTreePaths<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> index( SpanningTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> tree )
+    {
+        return new SpanningTreePaths<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double>( tree,
+                                                                                                 new BaseWeightedEdge<Double>(),
+                                                                                                 new DoubleWeightBaseOperations() );
+    }
+
+    private static Map<BaseLabeledVertex, BaseLabeledVertex> visit( SpanningTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> tree,
+                                                                    BaseLabeledVertex source )
+    {
+        Map<BaseLabeledVertex, BaseLabeledVertex> predecessors = new HashMap<BaseLabeledVertex, BaseLabeledVertex>();
+        predecessors.put( source, source );
+        Queue<BaseLabeledVertex> queue = new ArrayDeque<BaseLabeledVertex>();
+        queue.add( source );
+        while ( !queue.isEmpty() )
+        {
+            BaseLabeledVertex vertex = queue.remove();
+            for ( BaseLabeledVertex connected : tree.getConnectedVertices( vertex ) )
+            {
+                if ( !predecessors.containsKey( connected ) )
+                {
+                    predecessors.put( connected, vertex );
+                    queue.add( connected );
+                }
+            }
+        }
+        return predecessors;
+    }
+
+}
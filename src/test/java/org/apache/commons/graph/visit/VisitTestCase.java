@@ -202,4 +202,46 @@ public final class VisitTestCase
         assertEquals( expected, actual );
     }
 
+    @Test
+    public void testVisitsSharingWorkspace()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> input =
+        newUndirectedMutableGraph( new AbstractGraphConnection<BaseLabeledVertex, BaseLabeledEdge>()
+        {
+
+            @Override
+            public void connect()
+            {
+                BaseLabeledVertex previous = addVertex( new BaseLabeledVertex( "0" ) );
+                for ( int i = 1; i < 50; i++ )
+                {
+                    BaseLabeledVertex current = addVertex( new BaseLabeledVertex( String.valueOf( i ) ) );
+                    BaseLabeledVertex parent = new BaseLabeledVertex( String.valueOf( i / 3 ) );
+                    addEdge( new BaseLabeledEdge( parent + " <-> " + current ) ).from( parent ).to( current );
+                    if ( i % 7 == 0 )
+                    {
+                        addEdge( new BaseLabeledEdge( previous + " <-> " + current ) ).from( previous ).to( current );
+                    }
+                    previous = current;
+                }
+            }
+
+        } );
+
+        BaseLabeledVertex source = new BaseLabeledVertex( "0" );
+        BaseLabeledVertex otherSource = new BaseLabeledVertex( "17" );
+
+        List<BaseLabeledVertex> expectedBreadthFirst = visit( input ).from( source ).applyingBreadthFirstSearch( new NodeSequenceVisitor() );
+        List<BaseLabeledVertex> expectedDepthFirst = visit( input ).from( otherSource ).applyingDepthFirstSearch( new NodeSequenceVisitor() );
+
+        VisitWorkspace<BaseLabeledVertex> workspace = new VisitWorkspace<BaseLabeledVertex>();
+        for ( int i = 0; i < 3; i++ )
+        {
+            assertEquals( expectedBreadthFirst,
+                          visit( input ).from( source ).applyingBreadthFirstSearch( new NodeSequenceVisitor(), workspace ) );
+            assertEquals( expectedDepthFirst,
+                          visit( input ).from( otherSource ).applyingDepthFirstSearch( new NodeSequenceVisitor(), workspace ) );
+        }
+    }
+
 }